@@ -50,6 +50,7 @@ kotlin {
 }
 
 dependencies {
+    implementation(project(":engine"))
     implementation(libs.androidx.core.ktx)
     implementation(libs.androidx.lifecycle.runtime.ktx)
     implementation(libs.androidx.activity.compose)
@@ -48,7 +48,7 @@ public final class GameStatsStore {
      * Loads the persisted statistics snapshot for all difficulties.
      *
      * @param context Android context used to access {@link SharedPreferences}.
-     * @return A full snapshot containing easy, medium and hard aggregates.
+     * @return A full snapshot containing easy, medium, hard and expert aggregates.
      */
     @NonNull
     public static StatsSnapshot load(@NonNull Context context) {
@@ -56,7 +56,8 @@ public final class GameStatsStore {
         return new StatsSnapshot(
                 readDifficultyStats(preferences, SudokuBoard.Difficulty.EASY),
                 readDifficultyStats(preferences, SudokuBoard.Difficulty.MEDIUM),
-                readDifficultyStats(preferences, SudokuBoard.Difficulty.HARD));
+                readDifficultyStats(preferences, SudokuBoard.Difficulty.HARD),
+                readDifficultyStats(preferences, SudokuBoard.Difficulty.EXPERT));
     }
 
     /**
@@ -76,7 +77,7 @@ public final class GameStatsStore {
     @NonNull
     public static StatsSnapshot emptySnapshot() {
         DifficultyStats emptyStats = new DifficultyStats(0, -1L, -1);
-        return new StatsSnapshot(emptyStats, emptyStats, emptyStats);
+        return new StatsSnapshot(emptyStats, emptyStats, emptyStats, emptyStats);
     }
 
     @NonNull
@@ -120,12 +121,14 @@ public final class GameStatsStore {
         private final DifficultyStats easyStats;
         private final DifficultyStats mediumStats;
         private final DifficultyStats hardStats;
+        private final DifficultyStats expertStats;
 
         StatsSnapshot(@NonNull DifficultyStats easyStats, @NonNull DifficultyStats mediumStats,
-                @NonNull DifficultyStats hardStats) {
+                @NonNull DifficultyStats hardStats, @NonNull DifficultyStats expertStats) {
             this.easyStats = easyStats;
             this.mediumStats = mediumStats;
             this.hardStats = hardStats;
+            this.expertStats = expertStats;
         }
 
         /**
@@ -139,6 +142,7 @@ public final class GameStatsStore {
             return switch (difficulty) {
             case EASY -> easyStats;
             case HARD -> hardStats;
+            case EXPERT -> expertStats;
             default -> mediumStats;
             };
         }
@@ -149,7 +153,8 @@ public final class GameStatsStore {
          * @return {@code true} when any difficulty has one or more wins.
          */
         public boolean hasAnyStats() {
-            return easyStats.hasResults() || mediumStats.hasResults() || hardStats.hasResults();
+            return easyStats.hasResults() || mediumStats.hasResults() || hardStats.hasResults()
+                    || expertStats.hasResults();
         }
     }
 
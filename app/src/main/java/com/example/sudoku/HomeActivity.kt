@@ -40,6 +40,7 @@ import com.example.sudoku.ui.theme.AppPanel
 import com.example.sudoku.ui.theme.SectionEyebrow
 import com.example.sudoku.ui.theme.SudokuBackdrop
 import com.example.sudoku.ui.theme.SudokuTheme
+import java.io.File
 
 /**
  * Compose-based launcher that lets the user pick a difficulty before handing off to the
@@ -52,6 +53,9 @@ class HomeActivity : ComponentActivity() {
     override fun onCreate(savedInstanceState: Bundle?) {
         super.onCreate(savedInstanceState)
         refreshHomeState()
+        // Start filling the puzzle pool while the user is still choosing a difficulty.
+        PuzzlePool.getShared().attachDiskCache(File(filesDir, PuzzleDiskCache.DIRECTORY_NAME))
+        PuzzlePool.getShared().prefillAll()
         setContent {
             SudokuTheme(dynamicColor = false) {
                 SudokuBackdrop {
@@ -181,6 +185,12 @@ fun DifficultyScreen(
                         subtitle = stringResource(R.string.difficulty_hard_hint),
                         onClick = { onDifficultySelected(SudokuBoard.Difficulty.HARD) }
                     )
+                    Spacer(modifier = Modifier.height(12.dp))
+                    MenuActionButton(
+                        title = stringResource(R.string.difficulty_expert),
+                        subtitle = stringResource(R.string.difficulty_expert_hint),
+                        onClick = { onDifficultySelected(SudokuBoard.Difficulty.EXPERT) }
+                    )
                     Spacer(modifier = Modifier.height(18.dp))
                     PillActionButton(
                         text = stringResource(R.string.home_view_stats),
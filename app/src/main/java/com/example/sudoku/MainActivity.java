@@ -21,9 +21,12 @@ import androidx.core.util.Pair;
 import androidx.lifecycle.ViewModelProvider;
 
 import com.example.sudoku.databinding.ActivityMainBinding;
+import com.example.sudoku.engine.BoardAnalysis;
+import com.example.sudoku.engine.SolverEngine;
 import com.example.sudoku.viewmodel.SudokuViewModel;
 import com.google.android.material.dialog.MaterialAlertDialogBuilder;
 
+import java.io.File;
 import java.util.Locale;
 import java.util.Objects;
 
@@ -48,6 +51,14 @@ public class MainActivity extends AppCompatActivity {
     // Array to hold the grid TextViews for quick access.
     private final TextView[][] cellTextViews = new TextView[9][9];
     private final Button[] numberPadButtons = new Button[9];
+    // Snapshot the grid labels currently show; a newer snapshot based on it only rebinds its changed cells.
+    private BoardSnapshot renderedSnapshot;
+    // Resolved once instead of per cell and per update.
+    private Typeface givenTypeface;
+    private Typeface entryTypeface;
+    private int defaultTextColor;
+    private int correctTextColor;
+    private int errorTextColor;
     private boolean shouldPersistOnStop = true;
 
     @Override
@@ -59,9 +70,19 @@ public class MainActivity extends AppCompatActivity {
 
         // Get the ViewModel instance using ViewModelProvider.
         viewModel = new ViewModelProvider(this).get(SudokuViewModel.class);
+        viewModel.setSolverEngine(SolverEngine.fromName(getString(R.string.config_solver_engine)));
+        viewModel.setAutoRemoveNotes(getResources().getBoolean(R.bool.config_auto_remove_notes));
+        // The process may be recreated straight into this screen, so the disk cache is attached and loaded here too.
+        PuzzlePool.getShared().attachDiskCache(new File(getFilesDir(), PuzzleDiskCache.DIRECTORY_NAME));
+        PuzzlePool.getShared().prefillAll();
 
         // Initialize the HighlightOverlayView.
         highlightOverlayView = binding.highlightOverlayView;
+        givenTypeface = Typeface.create(Typeface.SERIF, Typeface.BOLD);
+        entryTypeface = Typeface.create(Typeface.SERIF, Typeface.NORMAL);
+        defaultTextColor = ContextCompat.getColor(this, R.color.onBackground);
+        correctTextColor = ContextCompat.getColor(this, R.color.primary);
+        errorTextColor = ContextCompat.getColor(this, R.color.error);
 
         // State restoration logic.
         if (savedInstanceState == null) {
@@ -72,7 +93,9 @@ public class MainActivity extends AppCompatActivity {
 
         } else {
             // Restore state after process death.
-            SudokuBoard boardState = savedInstanceState.getParcelable(KEY_SUDOKU_BOARD_STATE, SudokuBoard.class);
+            ParcelableSudokuBoard parcelledBoard =
+                    savedInstanceState.getParcelable(KEY_SUDOKU_BOARD_STATE, ParcelableSudokuBoard.class);
+            SudokuBoard boardState = parcelledBoard != null ? parcelledBoard.getBoard() : null;
             Bundle viewModelBundle = savedInstanceState.getBundle(KEY_VIEW_MODEL_BUNDLE_STATE);
 
             if (boardState != null && viewModelBundle != null) {
@@ -104,7 +127,7 @@ public class MainActivity extends AppCompatActivity {
         super.onSaveInstanceState(outState);
         Pair<SudokuBoard, Bundle> state = viewModel.saveState();
         if (state != null && state.first != null) {
-            outState.putParcelable(KEY_SUDOKU_BOARD_STATE, state.first);
+            outState.putParcelable(KEY_SUDOKU_BOARD_STATE, new ParcelableSudokuBoard(state.first));
             outState.putBundle(KEY_VIEW_MODEL_BUNDLE_STATE, state.second);
         }
     }
@@ -125,6 +148,7 @@ public class MainActivity extends AppCompatActivity {
         return switch (difficulty) {
             case EASY -> R.string.difficulty_easy;
             case HARD -> R.string.difficulty_hard;
+            case EXPERT -> R.string.difficulty_expert;
             default -> R.string.difficulty_medium;
         };
     }
@@ -233,8 +257,8 @@ public class MainActivity extends AppCompatActivity {
                 cellView.setGravity(Gravity.CENTER);
                 cellView.setIncludeFontPadding(false);
                 cellView.setTextSize(TypedValue.COMPLEX_UNIT_SP, pixelsToScaledSp(cellSize * 0.65f));
-                cellView.setTextColor(ContextCompat.getColor(this, R.color.onBackground));
-                cellView.setTypeface(Typeface.create(Typeface.SERIF, Typeface.NORMAL));
+                cellView.setTextColor(defaultTextColor);
+                cellView.setTypeface(entryTypeface);
 
                 cellView.setOnClickListener(v -> viewModel.selectCell(finalRow, finalCol));
 
@@ -242,8 +266,10 @@ public class MainActivity extends AppCompatActivity {
                 cellTextViews[row][col] = cellView;
             }
         }
-        if (viewModel.getSudokuBoard().getValue() != null) {
-            updateGridUI(viewModel.getSudokuBoard().getValue());
+        // The labels are new, so the next update has to bind all of them.
+        renderedSnapshot = null;
+        if (viewModel.getBoardSnapshot().getValue() != null) {
+            updateGridUI(viewModel.getBoardSnapshot().getValue());
         }
         if (viewModel.getSelectedCell().getValue() != null) {
             updateHighlightOverlay(viewModel.getSelectedCell().getValue());
@@ -258,11 +284,16 @@ public class MainActivity extends AppCompatActivity {
         viewModel.getSudokuBoard().observe(this, board -> {
             if (board != null) {
                 binding.difficultyText.setText(getDifficultyStringRes(board.getCurrentDifficulty()));
-                updateGridUI(board);
             }
             refreshInteractiveControls();
         });
 
+        viewModel.getBoardSnapshot().observe(this, snapshot -> {
+            if (snapshot != null) {
+                updateGridUI(snapshot);
+            }
+        });
+
         viewModel.getSelectedCell().observe(this, selection -> {
             updateHighlightOverlay(selection);
             refreshInteractiveControls();
@@ -299,6 +330,9 @@ public class MainActivity extends AppCompatActivity {
             refreshInteractiveControls();
         });
 
+        // Finished digits are taken off the number pad once the background analysis lands.
+        viewModel.getBoardAnalysis().observe(this, analysis -> refreshInteractiveControls());
+
         viewModel.isGameWon().observe(this, isWon -> {
             if (isWon != null && isWon) {
                 recordWinStatsIfNeeded();
@@ -342,49 +376,69 @@ public class MainActivity extends AppCompatActivity {
     }
 
     /**
-     * Rebinds value/color/style for every cell label in the overlay grid.
+     * Brings the cell labels up to {@code snapshot}. When the labels show the snapshot's base, only its changed cells
+     * are rebound; otherwise (first bind, new game, recreated labels) every cell is.
      */
-    @SuppressLint("SetTextI18n")
-    private void updateGridUI(SudokuBoard board) {
-        for (int row = 0; row < 9; row++) {
-            for (int col = 0; col < 9; col++) {
-                SudokuCell cell = board.getCell(row, col);
-                TextView cellView = cellTextViews[row][col];
-                if (cell != null && cellView != null) {
-                    if (cell.getValue() == 0) {
-                        cellView.setText("");
-                    } else {
-                        cellView.setText(Integer.toString(cell.getValue()));
-                    }
+    private void updateGridUI(BoardSnapshot snapshot) {
+        if (cellTextViews[0][0] == null) {
+            // The overlay is built after the first layout pass and binds the latest snapshot itself.
+            return;
+        }
+        if (renderedSnapshot != null && snapshot.getBaseVersion() == renderedSnapshot.getVersion()) {
+            for (int index = snapshot.nextChangedCell(0); index >= 0; index = snapshot.nextChangedCell(index + 1)) {
+                bindCell(snapshot, index / 9, index % 9);
+            }
+        } else {
+            for (int row = 0; row < 9; row++) {
+                for (int col = 0; col < 9; col++) {
+                    bindCell(snapshot, row, col);
+                }
+            }
+        }
+        renderedSnapshot = snapshot;
+        updateHighlightOverlay(viewModel.getSelectedCell().getValue());
+    }
 
-                    int textColorRes;
-                    if (cell.isFixed()) {
-                        textColorRes = R.color.onBackground;
-                    } else if (cell.getValue() == 0) {
-                        textColorRes = R.color.onBackground;
-                    } else if (cell.isCorrect()) {
-                        textColorRes = R.color.primary;
-                    } else {
-                        textColorRes = R.color.error;
-                    }
+    /**
+     * Binds value, color and style of one cell label.
+     */
+    @SuppressLint("SetTextI18n")
+    private void bindCell(BoardSnapshot snapshot, int row, int col) {
+        TextView cellView = cellTextViews[row][col];
+        if (cellView == null) {
+            return;
+        }
+        int value = snapshot.getValue(row, col);
+        boolean isFixed = snapshot.isFixed(row, col);
+        if (value == 0) {
+            cellView.setText("");
+        } else {
+            cellView.setText(Integer.toString(value));
+        }
 
-                    int newColor = ContextCompat.getColor(this, textColorRes);
-                    int oldColor = cellView.getCurrentTextColor();
+        int newColor;
+        if (isFixed || value == 0) {
+            newColor = defaultTextColor;
+        } else if (snapshot.isCorrect(row, col)) {
+            newColor = correctTextColor;
+        } else {
+            newColor = errorTextColor;
+        }
+        int oldColor = cellView.getCurrentTextColor();
 
-                    // Animate only real color changes to avoid restarting animations every update.
-                    if (oldColor != newColor) {
-                        android.animation.ObjectAnimator.ofArgb(cellView, "textColor", oldColor, newColor)
-                                .setDuration(200)
-                                .start();
-                    } else {
-                        cellView.setTextColor(newColor);
-                    }
+        // Animate only real color changes to avoid restarting animations every update.
+        if (oldColor != newColor) {
+            android.animation.ObjectAnimator.ofArgb(cellView, "textColor", oldColor, newColor)
+                    .setDuration(200)
+                    .start();
+        } else {
+            cellView.setTextColor(newColor);
+        }
 
-                    cellView.setTypeface(Typeface.create(Typeface.SERIF, cell.isFixed() ? Typeface.BOLD : Typeface.NORMAL));
-                }
-            }
+        Typeface typeface = isFixed ? givenTypeface : entryTypeface;
+        if (cellView.getTypeface() != typeface) {
+            cellView.setTypeface(typeface);
         }
-        updateHighlightOverlay(viewModel.getSelectedCell().getValue());
     }
 
     /**
@@ -412,11 +466,15 @@ public class MainActivity extends AppCompatActivity {
         SudokuCell selectedEditableCell = getSelectedEditableCell();
         boolean hasEditableSelection = selectedEditableCell != null;
         boolean canClear = hasEditableSelection
-                && (selectedEditableCell.getValue() != 0 || !selectedEditableCell.getNotes().isEmpty());
+                && (selectedEditableCell.getValue() != 0 || selectedEditableCell.hasNotes());
 
-        for (Button button : numberPadButtons) {
+        boolean canInput = !isGenerating && !isPaused && !isGameEnded && hasEditableSelection;
+        BoardAnalysis analysis = viewModel.getBoardAnalysis().getValue();
+        for (int digit = 1; digit <= numberPadButtons.length; digit++) {
+            Button button = numberPadButtons[digit - 1];
             if (button != null) {
-                updateControlState(button, !isGenerating && !isPaused && !isGameEnded && hasEditableSelection);
+                boolean digitFinished = analysis != null && analysis.getRemainingCount(digit) == 0;
+                updateControlState(button, canInput && !digitFinished);
             }
         }
 
@@ -0,0 +1,68 @@
+package com.example.sudoku;
+
+import android.os.Parcel;
+import android.os.Parcelable;
+
+import androidx.annotation.NonNull;
+
+/**
+ * {@link Parcelable} wrapper that carries a {@link SudokuBoard} through bundles. The board itself lives in the
+ * Android-free engine module, so this adapter only moves the payload of {@link SudokuBoard#toByteArray()}.
+ */
+public final class ParcelableSudokuBoard implements Parcelable {
+
+    private final SudokuBoard board;
+
+    /**
+     * @param board Board to marshal.
+     */
+    public ParcelableSudokuBoard(@NonNull SudokuBoard board) {
+        this.board = board;
+    }
+
+    /**
+     * Rebuilds the wrapped board from a parcel generated by {@link #writeToParcel(Parcel, int)}.
+     *
+     * @throws IllegalArgumentException If the payload is missing or was written with another layout.
+     */
+    private ParcelableSudokuBoard(@NonNull Parcel in) {
+        byte[] payload = in.createByteArray();
+        if (payload == null) {
+            throw new IllegalArgumentException("Missing board payload.");
+        }
+        board = SudokuBoard.fromByteArray(payload);
+    }
+
+    /**
+     * @return The wrapped board.
+     */
+    @NonNull
+    public SudokuBoard getBoard() {
+        return board;
+    }
+
+    public static final Creator<ParcelableSudokuBoard> CREATOR = new Creator<>() {
+        @Override
+        public ParcelableSudokuBoard createFromParcel(Parcel in) {
+            return new ParcelableSudokuBoard(in);
+        }
+
+        @Override
+        public ParcelableSudokuBoard[] newArray(int size) {
+            return new ParcelableSudokuBoard[size];
+        }
+    };
+
+    /**
+     * Parcelable contract method. No special objects are marshalled.
+     */
+    @Override
+    public int describeContents() {
+        return 0;
+    }
+
+    @Override
+    public void writeToParcel(@NonNull Parcel dest, int flags) {
+        dest.writeByteArray(board.toByteArray());
+    }
+}
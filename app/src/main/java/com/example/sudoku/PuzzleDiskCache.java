@@ -0,0 +1,136 @@
+package com.example.sudoku;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.sudoku.engine.PackedBoardCodec;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Locale;
+
+/**
+ * File-backed stack of pre-generated puzzles, one file per difficulty, so a fresh process can open a game without
+ * waiting for generation.
+ * <p>
+ * Each file is a sequence of fixed-size {@link PackedBoardCodec} seeded puzzle records: the givens and the solution,
+ * 4 bits per cell, followed by the generation seed, for {@value #RECORD_SIZE} bytes per puzzle. New records are
+ * appended and puzzles are taken from the end by truncating the file, so both operations touch a single record
+ * regardless of how many are stored. A torn trailing record left by a process death is dropped on the next access, and
+ * a file of older, shorter records fails validation and is deleted like any corrupted file.
+ * <p>
+ * All methods are synchronized and do file I/O; {@link PuzzlePool} only calls them from its refill thread.
+ */
+public final class PuzzleDiskCache {
+
+    public static final String DIRECTORY_NAME = "puzzle_cache";
+    public static final int DEFAULT_CAPACITY = 8;
+
+    static final int RECORD_SIZE = PackedBoardCodec.SEEDED_PUZZLE_BYTES;
+
+    private static final String FILE_SUFFIX = ".puzzles";
+
+    private final File directory;
+    private final int capacity;
+
+    /**
+     * @param directory Directory holding the cache files; created on first write.
+     * @param capacity  Maximum number of puzzles stored per difficulty.
+     */
+    public PuzzleDiskCache(@NonNull File directory, int capacity) {
+        this.directory = directory;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Removes the most recently stored puzzle of {@code difficulty} and rebuilds it as a fresh board.
+     * Unreadable or inconsistent files are deleted so they cannot fail again.
+     *
+     * @param difficulty Requested difficulty.
+     * @return A board never handed out before, or {@code null} when nothing usable is stored.
+     */
+    @Nullable
+    public synchronized SudokuBoard take(@NonNull SudokuBoard.Difficulty difficulty) {
+        File file = fileFor(difficulty);
+        if (!file.isFile()) {
+            return null;
+        }
+
+        byte[] record = new byte[RECORD_SIZE];
+        try (RandomAccessFile access = new RandomAccessFile(file, "rw")) {
+            long recordCount = access.length() / RECORD_SIZE;
+            if (recordCount == 0) {
+                access.setLength(0);
+                return null;
+            }
+            long offset = (recordCount - 1) * RECORD_SIZE;
+            access.seek(offset);
+            access.readFully(record);
+            access.setLength(offset);
+        } catch (IOException exception) {
+            deleteQuietly(file);
+            return null;
+        }
+
+        try {
+            return SudokuBoard.fromPackedPuzzle(difficulty, record);
+        } catch (IllegalArgumentException exception) {
+            // A corrupted record means the rest of the file cannot be trusted either.
+            deleteQuietly(file);
+            return null;
+        }
+    }
+
+    /**
+     * Appends the puzzle of {@code board} unless the difficulty already holds {@link #getCapacity()} puzzles.
+     *
+     * @param board Freshly generated, unplayed board.
+     * @return {@code true} when the puzzle was stored.
+     */
+    public synchronized boolean offer(@NonNull SudokuBoard board) {
+        File file = fileFor(board.getCurrentDifficulty());
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            return false;
+        }
+        byte[] record = board.toPackedPuzzle();
+
+        try (RandomAccessFile access = new RandomAccessFile(file, "rw")) {
+            long recordCount = access.length() / RECORD_SIZE;
+            if (recordCount >= capacity) {
+                return false;
+            }
+            long offset = recordCount * RECORD_SIZE;
+            access.setLength(offset);
+            access.seek(offset);
+            access.write(record);
+            return true;
+        } catch (IOException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * @return Number of complete puzzles stored for {@code difficulty}.
+     */
+    public synchronized int size(@NonNull SudokuBoard.Difficulty difficulty) {
+        return (int) (fileFor(difficulty).length() / RECORD_SIZE);
+    }
+
+    /**
+     * @return Maximum number of puzzles stored per difficulty.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @NonNull
+    private File fileFor(@NonNull SudokuBoard.Difficulty difficulty) {
+        return new File(directory, difficulty.name().toLowerCase(Locale.ROOT) + FILE_SUFFIX);
+    }
+
+    private static void deleteQuietly(@NonNull File file) {
+        //noinspection ResultOfMethodCallIgnored
+        file.delete();
+    }
+}
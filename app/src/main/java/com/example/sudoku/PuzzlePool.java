@@ -0,0 +1,333 @@
+package com.example.sudoku;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.sudoku.engine.CandidateMasks;
+import com.example.sudoku.engine.PackedBoardCodec;
+import com.example.sudoku.engine.PuzzleTransformer;
+import com.example.sudoku.engine.SolverEngine;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process-wide pool of pre-generated puzzles, bounded per difficulty. Taking a puzzle is an O(1) queue poll; every take
+ * schedules a refill on a single low-priority background thread, so the next new game usually finds a ready board.
+ * Pooled puzzles are held in their {@link com.example.sudoku.engine.PackedBoardCodec} form and only expanded into a
+ * {@link SudokuBoard} when taken.
+ * <p>
+ * The pool lives as long as the process, which means it survives across games and screens. Once a
+ * {@link PuzzleDiskCache} is attached, the refill thread moves stored puzzles into the in-memory queue before it
+ * generates, and tops the disk cache up after the queue, so even the first game of a new process rarely waits. Only the
+ * refill thread touches the files; {@link #poll(SudokuBoard.Difficulty)} works on the queue and a cached record count.
+ * <p>
+ * The last {@value #BASE_CAPACITY} puzzles generated or loaded per difficulty are also kept as bases. When memory and
+ * disk are both empty, a base is turned into a new-looking puzzle with {@link PuzzleTransformer}, which takes
+ * microseconds instead of a generation, so a miss only happens before the first puzzle of a difficulty exists. Hit and
+ * miss counters are kept so the capacities can be sized from real usage.
+ * <p>
+ * Pooled and stored puzzles keep the seed they were generated from, so {@link SudokuBoard#getGenerationSeed()} works on
+ * them as on a board generated on the spot. Transformed variants have no seed and cannot be reproduced.
+ */
+public final class PuzzlePool {
+
+    public static final int DEFAULT_CAPACITY = 2;
+    public static final int BASE_CAPACITY = 4;
+
+    private static final PuzzlePool SHARED = new PuzzlePool(DEFAULT_CAPACITY,
+            Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "PuzzlePoolRefill");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            }));
+
+    // Disk record count of a difficulty before the refill thread has looked at the attached cache.
+    private static final int UNKNOWN_DISK_COUNT = -1;
+
+    private final int capacity;
+    private final Executor refillExecutor;
+    private final Map<SudokuBoard.Difficulty, BlockingQueue<PooledPuzzle>> puzzles =
+            new EnumMap<>(SudokuBoard.Difficulty.class);
+    private final Map<SudokuBoard.Difficulty, AtomicBoolean> refillsScheduled =
+            new EnumMap<>(SudokuBoard.Difficulty.class);
+    // Records stored on disk per difficulty as last seen by the refill thread, so callers never stat the files.
+    private final Map<SudokuBoard.Difficulty, AtomicInteger> diskCounts = new EnumMap<>(SudokuBoard.Difficulty.class);
+    // Most recent packed puzzles per difficulty, oldest first; guarded by itself together with the fields below.
+    private final Map<SudokuBoard.Difficulty, ArrayDeque<byte[]>> bases = new EnumMap<>(SudokuBoard.Difficulty.class);
+    private final PuzzleTransformer transformer = new PuzzleTransformer(new Random());
+    private final Random baseChooser = new Random();
+    private final int[] transformedGivens = new int[CandidateMasks.CELL_COUNT];
+    private final int[] transformedSolution = new int[CandidateMasks.CELL_COUNT];
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong diskHitCount = new AtomicLong();
+    private final AtomicLong transformHitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private volatile SolverEngine solverEngine = SolverEngine.DEFAULT;
+    private volatile PuzzleDiskCache diskCache;
+
+    PuzzlePool(int capacity, @NonNull Executor refillExecutor) {
+        this.capacity = capacity;
+        this.refillExecutor = refillExecutor;
+        for (SudokuBoard.Difficulty difficulty : SudokuBoard.Difficulty.values()) {
+            puzzles.put(difficulty, new ArrayBlockingQueue<>(capacity));
+            refillsScheduled.put(difficulty, new AtomicBoolean(false));
+            diskCounts.put(difficulty, new AtomicInteger(UNKNOWN_DISK_COUNT));
+            bases.put(difficulty, new ArrayDeque<>(BASE_CAPACITY));
+        }
+    }
+
+    /**
+     * @return The pool shared by the whole process.
+     */
+    @NonNull
+    public static PuzzlePool getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Attaches the on-disk cache stored under {@code directory}. Only the first call has an effect, so every entry
+     * point of the app can call it without coordinating.
+     *
+     * @param directory Private directory for the cache files, usually {@link PuzzleDiskCache#DIRECTORY_NAME} under the
+     *                  app's files dir.
+     */
+    public synchronized void attachDiskCache(@NonNull File directory) {
+        if (diskCache == null) {
+            attachDiskCache(new PuzzleDiskCache(directory, PuzzleDiskCache.DEFAULT_CAPACITY));
+        }
+    }
+
+    /**
+     * Attaches an existing disk cache, replacing any previous one. Its record counts are unknown until the next refill
+     * of each difficulty reads them.
+     */
+    synchronized void attachDiskCache(@NonNull PuzzleDiskCache cache) {
+        diskCache = cache;
+        for (AtomicInteger diskCount : diskCounts.values()) {
+            diskCount.set(UNKNOWN_DISK_COUNT);
+        }
+    }
+
+    /**
+     * Takes a ready puzzle from memory, where the refill thread also places puzzles loaded from the disk cache, or else
+     * a transformed variant of a recent base, and schedules a background refill for the same difficulty. Never touches
+     * the filesystem, so it is safe to call from the main thread.
+     *
+     * @param difficulty Requested difficulty.
+     * @return A board never handed out before, or {@code null} on a pool miss.
+     */
+    @Nullable
+    public SudokuBoard poll(@NonNull SudokuBoard.Difficulty difficulty) {
+        PooledPuzzle pooled = puzzles.get(difficulty).poll();
+        SudokuBoard board = pooled != null ? SudokuBoard.fromPackedPuzzle(difficulty, pooled.packed) : null;
+        if (board != null) {
+            (pooled.fromDisk ? diskHitCount : hitCount).incrementAndGet();
+        } else if ((board = transformBase(difficulty)) != null) {
+            transformHitCount.incrementAndGet();
+        } else {
+            missCount.incrementAndGet();
+        }
+        scheduleRefill(difficulty);
+        return board;
+    }
+
+    /**
+     * Schedules background generation until every difficulty holds {@link #getCapacity()} puzzles.
+     */
+    public void prefillAll() {
+        for (SudokuBoard.Difficulty difficulty : SudokuBoard.Difficulty.values()) {
+            scheduleRefill(difficulty);
+        }
+    }
+
+    /**
+     * Selects the solver engine used by future background generations.
+     *
+     * @param engine Engine to use; {@code null} restores {@link SolverEngine#DEFAULT}.
+     */
+    public void setSolverEngine(@Nullable SolverEngine engine) {
+        solverEngine = engine != null ? engine : SolverEngine.DEFAULT;
+    }
+
+    /**
+     * @return Maximum number of ready puzzles kept per difficulty.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return Number of ready puzzles currently pooled for {@code difficulty}.
+     */
+    public int size(@NonNull SudokuBoard.Difficulty difficulty) {
+        return puzzles.get(difficulty).size();
+    }
+
+    /**
+     * @return Number of {@link #poll(SudokuBoard.Difficulty)} calls served by puzzles generated into the pool.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return Number of {@link #poll(SudokuBoard.Difficulty)} calls served by puzzles loaded from the disk cache.
+     */
+    public long getDiskHitCount() {
+        return diskHitCount.get();
+    }
+
+    /**
+     * @return Number of {@link #poll(SudokuBoard.Difficulty)} calls served by transforming a base puzzle.
+     */
+    public long getTransformHitCount() {
+        return transformHitCount.get();
+    }
+
+    /**
+     * @return Number of {@link #poll(SudokuBoard.Difficulty)} calls that found memory, disk and bases empty.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Queues at most one refill task per difficulty; the task moves stored puzzles from disk into the memory queue,
+     * then generates until the queue and the disk cache are both at capacity.
+     */
+    private void scheduleRefill(@NonNull SudokuBoard.Difficulty difficulty) {
+        AtomicBoolean scheduled = refillsScheduled.get(difficulty);
+        if (!needsRefill(difficulty) || !scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        refillExecutor.execute(() -> {
+            try {
+                refill(difficulty);
+            } finally {
+                scheduled.set(false);
+            }
+        });
+    }
+
+    private boolean needsRefill(@NonNull SudokuBoard.Difficulty difficulty) {
+        PuzzleDiskCache cache = diskCache;
+        return puzzles.get(difficulty).remainingCapacity() > 0
+                || (cache != null && diskCounts.get(difficulty).get() < cache.getCapacity());
+    }
+
+    private void refill(@NonNull SudokuBoard.Difficulty difficulty) {
+        BlockingQueue<PooledPuzzle> queue = puzzles.get(difficulty);
+        AtomicInteger diskCount = diskCounts.get(difficulty);
+        PuzzleDiskCache cache = diskCache;
+        if (cache != null) {
+            loadFromDisk(difficulty, cache, queue, diskCount);
+        }
+        while (needsRefill(difficulty)) {
+            SudokuBoard board = new SudokuBoard(solverEngine);
+            try {
+                board.generateNewPuzzle(difficulty);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // A failed attempt is not fatal for a best-effort cache; the next poll retries.
+                return;
+            }
+            byte[] packed = board.toPackedPuzzle();
+            addBase(difficulty, packed);
+            if (queue.offer(new PooledPuzzle(packed, false))) {
+                continue;
+            }
+            boolean stored = cache != null && cache.offer(board);
+            if (cache != null) {
+                diskCount.set(cache.size(difficulty));
+            }
+            if (!stored) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Moves stored puzzles into the free slots of {@code queue}, refreshing the cached record count as it goes.
+     */
+    private void loadFromDisk(@NonNull SudokuBoard.Difficulty difficulty, @NonNull PuzzleDiskCache cache,
+            @NonNull BlockingQueue<PooledPuzzle> queue, @NonNull AtomicInteger diskCount) {
+        diskCount.set(cache.size(difficulty));
+        while (queue.remainingCapacity() > 0 && diskCount.get() > 0) {
+            SudokuBoard board = cache.take(difficulty);
+            diskCount.set(cache.size(difficulty));
+            if (board == null) {
+                return;
+            }
+            byte[] packed = board.toPackedPuzzle();
+            addBase(difficulty, packed);
+            queue.offer(new PooledPuzzle(packed, true));
+        }
+    }
+
+    /**
+     * Remembers {@code packedPuzzle} as a base for transformed variants, evicting the oldest base when full.
+     */
+    private void addBase(@NonNull SudokuBoard.Difficulty difficulty, @NonNull byte[] packedPuzzle) {
+        synchronized (bases) {
+            ArrayDeque<byte[]> recent = bases.get(difficulty);
+            if (recent.size() == BASE_CAPACITY) {
+                recent.pollFirst();
+            }
+            recent.addLast(packedPuzzle);
+        }
+    }
+
+    /**
+     * Relabels and permutes a random base of {@code difficulty} into a new board with the same clue count and a unique
+     * solution. The result has no generation seed: no seed regenerates a transformed grid, so it is not reproducible.
+     *
+     * @return The transformed board, or {@code null} when no base is known yet.
+     */
+    @Nullable
+    private SudokuBoard transformBase(@NonNull SudokuBoard.Difficulty difficulty) {
+        synchronized (bases) {
+            ArrayDeque<byte[]> recent = bases.get(difficulty);
+            if (recent.isEmpty()) {
+                return null;
+            }
+            int skip = baseChooser.nextInt(recent.size());
+            Iterator<byte[]> iterator = recent.iterator();
+            byte[] base = iterator.next();
+            for (int i = 0; i < skip; i++) {
+                base = iterator.next();
+            }
+            PackedBoardCodec.unpackSeededPuzzle(base, transformedGivens, transformedSolution);
+            transformer.transform(transformedGivens, transformedSolution);
+            return SudokuBoard.fromPuzzle(difficulty, transformedGivens, transformedSolution);
+        }
+    }
+
+    /**
+     * Packed puzzle waiting in a memory queue, tagged with where it came from for the hit counters.
+     */
+    private static final class PooledPuzzle {
+
+        final byte[] packed;
+        final boolean fromDisk;
+
+        PooledPuzzle(@NonNull byte[] packed, boolean fromDisk) {
+            this.packed = packed;
+            this.fromDisk = fromDisk;
+        }
+    }
+}
@@ -4,7 +4,6 @@ import android.content.Context;
 import android.content.SharedPreferences;
 import android.os.Bundle;
 import android.os.Parcel;
-import android.os.Parcelable;
 import android.util.Base64;
 
 import androidx.annotation.NonNull;
@@ -23,7 +22,8 @@ public final class SavedGameStore {
     }
 
     /**
-     * Persists both the logical board and the ViewModel bundle as Base64-encoded parcel payloads.
+     * Persists the logical board as a Base64-encoded {@link SudokuBoard#toByteArray()} payload and the ViewModel bundle
+     * as a Base64-encoded parcel payload.
      *
      * @param context Android context used to access {@link SharedPreferences}.
      * @param board Current board snapshot.
@@ -32,7 +32,7 @@ public final class SavedGameStore {
     public static void save(@NonNull Context context, @NonNull SudokuBoard board, @NonNull Bundle viewModelState) {
         SharedPreferences preferences = getPreferences(context);
         preferences.edit()
-                .putString(KEY_BOARD, marshallParcelable(board))
+                .putString(KEY_BOARD, Base64.encodeToString(board.toByteArray(), Base64.NO_WRAP))
                 .putString(KEY_VIEW_MODEL_STATE, marshallBundle(viewModelState))
                 .apply();
     }
@@ -65,11 +65,11 @@ public final class SavedGameStore {
         }
 
         try {
-            SudokuBoard board = unmarshallParcelable(encodedBoard, SudokuBoard.CREATOR);
+            SudokuBoard board = SudokuBoard.fromByteArray(Base64.decode(encodedBoard, Base64.DEFAULT));
             Bundle viewModelState = unmarshallBundle(encodedBundle);
             return new SavedGame(board, viewModelState);
         } catch (RuntimeException exception) {
-            // Any decoding/parcel failure means payloads are out of sync or stale.
+            // Any decoding/parcel failure means payloads are out of sync or stale, including boards saved as parcels.
             clear(context);
             return null;
         }
@@ -117,31 +117,6 @@ public final class SavedGameStore {
         }
     }
 
-    @NonNull
-    private static <T extends Parcelable> String marshallParcelable(@NonNull T value) {
-        Parcel parcel = Parcel.obtain();
-        try {
-            value.writeToParcel(parcel, 0);
-            return Base64.encodeToString(parcel.marshall(), Base64.NO_WRAP);
-        } finally {
-            parcel.recycle();
-        }
-    }
-
-    @NonNull
-    private static <T extends Parcelable> T unmarshallParcelable(@NonNull String encodedValue,
-            @NonNull Parcelable.Creator<T> creator) {
-        Parcel parcel = Parcel.obtain();
-        try {
-            byte[] bytes = Base64.decode(encodedValue, Base64.DEFAULT);
-            parcel.unmarshall(bytes, 0, bytes.length);
-            parcel.setDataPosition(0);
-            return creator.createFromParcel(parcel);
-        } finally {
-            parcel.recycle();
-        }
-    }
-
     /**
      * Immutable payload representing a persisted game.
      */
@@ -159,6 +159,11 @@ fun StatsScreen(
                         stats = statsSnapshot.getStats(SudokuBoard.Difficulty.HARD),
                         unavailableLabel = unavailableLabel
                     )
+                    DifficultyStatsCard(
+                        label = stringResource(R.string.difficulty_expert),
+                        stats = statsSnapshot.getStats(SudokuBoard.Difficulty.EXPERT),
+                        unavailableLabel = unavailableLabel
+                    )
                 }
 
                 Spacer(modifier = Modifier.height(4.dp))
@@ -239,7 +244,8 @@ private fun buildStatsOverview(statsSnapshot: GameStatsStore.StatsSnapshot): Sta
     val statsByDifficulty = listOf(
         statsSnapshot.getStats(SudokuBoard.Difficulty.EASY),
         statsSnapshot.getStats(SudokuBoard.Difficulty.MEDIUM),
-        statsSnapshot.getStats(SudokuBoard.Difficulty.HARD)
+        statsSnapshot.getStats(SudokuBoard.Difficulty.HARD),
+        statsSnapshot.getStats(SudokuBoard.Difficulty.EXPERT)
     )
 
     var bestScoreTotal: Int? = null
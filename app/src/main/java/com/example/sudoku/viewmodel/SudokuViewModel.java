@@ -10,9 +10,15 @@ import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 import androidx.lifecycle.ViewModel;
 
+import com.example.sudoku.BoardSnapshot;
+import com.example.sudoku.PuzzlePool;
 import com.example.sudoku.R;
 import com.example.sudoku.SudokuBoard;
 import com.example.sudoku.SudokuCell;
+import com.example.sudoku.engine.BoardAnalysis;
+import com.example.sudoku.engine.BoardAnalyzer;
+import com.example.sudoku.engine.CandidateMasks;
+import com.example.sudoku.engine.SolverEngine;
 
 import java.util.Objects;
 import java.util.concurrent.ExecutorService;
@@ -41,6 +47,10 @@ public class SudokuViewModel extends ViewModel {
     private static final String STATE_AWARDED_COMPLETION_BONUS = "awardedCompletionBonus";
     private static final String STATE_WIN_STATS_RECORDED = "winStatsRecorded";
     private static final String STATE_CURRENT_STREAK = "currentStreak";
+    // Generation attempts raced at once on a pool miss, one per core.
+    private static final int GENERATION_PARALLELISM = Runtime.getRuntime().availableProcessors();
+    // Quiet period after a move before the board is analyzed, so a burst of quick inputs is analyzed once.
+    private static final long ANALYSIS_DEBOUNCE_MILLIS = 50L;
 
     /* ----- LiveData Fields ----- */
     // The private MutableLiveData can be changed only within this ViewModel.
@@ -55,6 +65,8 @@ public class SudokuViewModel extends ViewModel {
     private final MutableLiveData<Boolean> _isGenerating = new MutableLiveData<>(false);
     private final MutableLiveData<Integer> _generationErrorMessage = new MutableLiveData<>();
     private final MutableLiveData<Integer> _currentStreak = new MutableLiveData<>(0);
+    private final MutableLiveData<BoardAnalysis> _boardAnalysis = new MutableLiveData<>();
+    private final MutableLiveData<BoardSnapshot> _boardSnapshot = new MutableLiveData<>();
     // Tracks cumulative mistakes committed in the current game. Undo restores the board state,
     // but it does not erase mistakes that were already made.
     private int totalErrorsThisGame = 0;
@@ -73,8 +85,28 @@ public class SudokuViewModel extends ViewModel {
 
     // Executor for background tasks
     private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    // Races independent generation attempts; the executor above only waits for the first finished puzzle.
+    private final ExecutorService generationWorkers = Executors.newFixedThreadPool(GENERATION_PARALLELISM, runnable -> {
+        Thread thread = new Thread(runnable, "PuzzleGenerationWorker");
+        thread.setDaemon(true);
+        return thread;
+    });
     private Future<?> generationTask;
     private volatile int generationRequestId = 0;
+    private volatile SolverEngine solverEngine = SolverEngine.DEFAULT;
+    private boolean autoRemoveNotes;
+
+    /* ----- Background analysis ----- */
+    private final ExecutorService analysisExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "BoardAnalysisWorker");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Only touched on the analysis thread.
+    private final BoardAnalyzer boardAnalyzer = new BoardAnalyzer();
+    private final Runnable analysisRunnable = this::startAnalysis;
+    private Future<?> analysisTask;
+    private volatile int analysisRequestId = 0;
 
     /**
      * The public, immutable LiveData that the UI can observe. This follows the recommended pattern of exposing
@@ -84,6 +116,14 @@ public class SudokuViewModel extends ViewModel {
         return _sudokuBoard;
     }
 
+    /**
+     * @return Immutable picture of the grid, republished after every change together with the cells that changed, so
+     *         the grid can be redrawn one cell at a time.
+     */
+    public LiveData<BoardSnapshot> getBoardSnapshot() {
+        return _boardSnapshot;
+    }
+
     /**
      * @return Currently selected cell coordinates, or {@code null} when nothing is selected.
      */
@@ -154,6 +194,15 @@ public class SudokuViewModel extends ViewModel {
         return _currentStreak;
     }
 
+    /**
+     * @return Conflicts, remaining digits, completion and the next hint, computed in the background after each move.
+     *         It trails the board by the debounce window plus the analysis itself, and is {@code null} until the
+     *         first analysis of a game finishes.
+     */
+    public LiveData<BoardAnalysis> getBoardAnalysis() {
+        return _boardAnalysis;
+    }
+
     /**
      * Constructor for the ViewModel. Corresponds to the `init` block in Kotlin. It starts a new game upon
      * creation.
@@ -163,7 +212,42 @@ public class SudokuViewModel extends ViewModel {
     }
 
     /**
-     * Starts a new Sudoku game with the specified difficulty.
+     * Selects the solver engine used by subsequent puzzle generations.
+     *
+     * @param engine Engine to use; {@code null} restores {@link SolverEngine#DEFAULT}.
+     */
+    public void setSolverEngine(SolverEngine engine) {
+        solverEngine = engine != null ? engine : SolverEngine.DEFAULT;
+        PuzzlePool puzzlePool = getPuzzlePool();
+        if (puzzlePool != null) {
+            puzzlePool.setSolverEngine(solverEngine);
+        }
+    }
+
+    /**
+     * Turns automatic note removal on or off for the current game and every later one. While on, placing a digit
+     * removes it from the notes of the cell's row, column and box, and undoing the move puts those notes back.
+     *
+     * @param enabled {@code true} to prune peer notes on every placement.
+     */
+    public void setAutoRemoveNotes(boolean enabled) {
+        autoRemoveNotes = enabled;
+        SudokuBoard board = _sudokuBoard.getValue();
+        if (board != null) {
+            board.setAutoRemoveNotes(enabled);
+        }
+    }
+
+    /**
+     * @return {@code true} when placements prune the notes of their peers.
+     */
+    public boolean isAutoRemoveNotes() {
+        return autoRemoveNotes;
+    }
+
+    /**
+     * Starts a new Sudoku game with the specified difficulty. A pre-generated puzzle from the {@link PuzzlePool} is
+     * published immediately; generation only runs in the background on a pool miss.
      *
      * @param difficulty The desired difficulty level.
      */
@@ -174,11 +258,20 @@ public class SudokuViewModel extends ViewModel {
         }
 
         int requestId = ++generationRequestId;
+        PuzzlePool puzzlePool = getPuzzlePool();
+        SudokuBoard pooledBoard = puzzlePool != null ? puzzlePool.poll(difficulty) : null;
+        if (pooledBoard != null) {
+            _generationErrorMessage.setValue(null);
+            finishNewGameGeneration(pooledBoard);
+            return;
+        }
+
         boolean shouldResumeTimerAfterFailure = isTimerRunning
                 && _sudokuBoard.getValue() != null
                 && !Boolean.TRUE.equals(_isGameWon.getValue())
                 && !Boolean.TRUE.equals(_isGameOverWithIncorrectBoard.getValue());
         stopTimer();
+        cancelAnalysis(); // An analysis of the old position must not land while the new game is generated.
         _generationErrorMessage.setValue(null);
         _isGenerating.setValue(true);
         generationTask = executor.submit(() -> {
@@ -207,6 +300,7 @@ public class SudokuViewModel extends ViewModel {
                                 startTimerIfNotRunning();
                             }
                             _isGenerating.setValue(false);
+                            scheduleAnalysis(); // Replaces the analysis dropped when the generation started.
                         }
                     });
                 }
@@ -218,6 +312,7 @@ public class SudokuViewModel extends ViewModel {
                                 startTimerIfNotRunning();
                             }
                             _isGenerating.setValue(false);
+                            scheduleAnalysis();
                             _generationErrorMessage.setValue(R.string.puzzle_generation_failed);
                         }
                     });
@@ -318,8 +413,9 @@ public class SudokuViewModel extends ViewModel {
             // Update the score
             _score.setValue(newScore);
 
-            _sudokuBoard.setValue(board); // Notify observers that the board has changed.
+            publishBoard(board, true); // Notify observers that the board has changed.
             checkGameStatus();
+            scheduleAnalysis();
         }
     }
 
@@ -339,7 +435,8 @@ public class SudokuViewModel extends ViewModel {
         SudokuBoard.MoveRecord lastMove = board.undoMove();
 
         if (lastMove != null) {
-            _sudokuBoard.setValue(board); // Notify observers
+            publishBoard(board, true); // Notify observers
+            scheduleAnalysis();
 
             // Revert the score change
             int currentScore = removeCompletionBonusFromScoreIfApplied();
@@ -388,9 +485,9 @@ public class SudokuViewModel extends ViewModel {
             return true;
         }
 
-        if (!cell.getNotes().isEmpty()) {
+        if (cell.hasNotes()) {
             cell.clearNotes();
-            _sudokuBoard.setValue(board);
+            publishBoard(board, true);
             return true;
         }
 
@@ -452,7 +549,9 @@ public class SudokuViewModel extends ViewModel {
      */
     public void restoreState(SudokuBoard boardState, Bundle bundleState) {
         if (boardState != null) {
-            _sudokuBoard.setValue(boardState);
+            publishBoard(boardState, false);
+            _boardAnalysis.setValue(null);
+            scheduleAnalysis();
         }
         _isGenerating.setValue(false);
 
@@ -509,7 +608,16 @@ public class SudokuViewModel extends ViewModel {
     /* ----- Private Helper Methods ----- */
 
     protected SudokuBoard createBoardForGeneration() {
-        return new SudokuBoard();
+        SudokuBoard board = new SudokuBoard(solverEngine);
+        board.setParallelGeneration(generationWorkers, GENERATION_PARALLELISM);
+        return board;
+    }
+
+    /**
+     * @return Pool consulted before generating, or {@code null} to always generate a fresh puzzle.
+     */
+    protected PuzzlePool getPuzzlePool() {
+        return PuzzlePool.getShared();
     }
 
     /**
@@ -564,11 +672,12 @@ public class SudokuViewModel extends ViewModel {
 
     /**
      * Checks if the game is over (either won or the board is full but incorrect). Updates the relevant LiveData
-     * for the UI to observe.
+     * for the UI to observe. Runs synchronously after each move: the fullness and rule checks are constant-time reads
+     * of the board's house counts, and the per-cell solution check only runs once the board is full.
      */
     private void checkGameStatus() {
         SudokuBoard board = _sudokuBoard.getValue();
-        if (board == null)
+        if (board == null || Boolean.TRUE.equals(_isGenerating.getValue()))
             return;
 
         if (board.isBoardFull()) {
@@ -603,10 +712,73 @@ public class SudokuViewModel extends ViewModel {
 
     private void finishNewGameGeneration(SudokuBoard newBoard) {
         resetForNewGameRequest();
-        _sudokuBoard.setValue(newBoard);
+        publishBoard(newBoard, false);
         _selectedCell.setValue(null);
         _isGenerating.setValue(false);
         resetAndStartTimer();
+        scheduleAnalysis();
+    }
+
+    /**
+     * Republishes the board together with a fresh snapshot. A new or restored board takes over the note removal
+     * setting.
+     *
+     * @param sameGame {@code true} when the board is the one behind the current snapshot, which then becomes the base
+     *                 of the new snapshot's changed cells; {@code false} for a new or restored game.
+     */
+    private void publishBoard(SudokuBoard board, boolean sameGame) {
+        if (!sameGame) {
+            board.setAutoRemoveNotes(autoRemoveNotes);
+        }
+        BoardSnapshot previous = sameGame ? _boardSnapshot.getValue() : null;
+        _sudokuBoard.setValue(board);
+        _boardSnapshot.setValue(board.snapshot(previous));
+    }
+
+    /**
+     * Restarts the debounce window of the background analysis. Any analysis still waiting or running belongs to an
+     * older position and is dropped; the last published one stays visible until the new one lands.
+     */
+    private void scheduleAnalysis() {
+        cancelAnalysis();
+        mainHandler.postDelayed(analysisRunnable, ANALYSIS_DEBOUNCE_MILLIS);
+    }
+
+    /**
+     * Drops the analysis still waiting for its debounce window or running, so its result is never published.
+     */
+    private void cancelAnalysis() {
+        analysisRequestId++;
+        mainHandler.removeCallbacks(analysisRunnable);
+        if (analysisTask != null && !analysisTask.isDone()) {
+            analysisTask.cancel(true);
+        }
+    }
+
+    /**
+     * Copies the grid on the main thread, where the board is mutated, and analyzes the copy in the background.
+     */
+    private void startAnalysis() {
+        SudokuBoard board = _sudokuBoard.getValue();
+        if (board == null) {
+            return;
+        }
+        int requestId = analysisRequestId;
+        int[] values = new int[CandidateMasks.CELL_COUNT];
+        int[] solution = new int[CandidateMasks.CELL_COUNT];
+        board.copyValuesTo(values);
+        board.copySolutionTo(solution);
+        analysisTask = analysisExecutor.submit(() -> {
+            BoardAnalysis analysis = boardAnalyzer.analyze(values, solution);
+            if (Thread.currentThread().isInterrupted() || requestId != analysisRequestId) {
+                return;
+            }
+            mainHandler.post(() -> {
+                if (requestId == analysisRequestId && !Boolean.TRUE.equals(_isGenerating.getValue())) {
+                    _boardAnalysis.setValue(analysis);
+                }
+            });
+        });
     }
 
     /**
@@ -626,6 +798,7 @@ public class SudokuViewModel extends ViewModel {
         _isPaused.setValue(false);
         _isGameWon.setValue(false);
         _isGameOverWithIncorrectBoard.setValue(false);
+        _boardAnalysis.setValue(null);
         chronometerBase = 0L;
     }
 
@@ -648,6 +821,7 @@ public class SudokuViewModel extends ViewModel {
         case EASY -> 15;
         case MEDIUM -> 25;
         case HARD -> 40;
+        case EXPERT -> 60;
         };
     }
 
@@ -661,6 +835,7 @@ public class SudokuViewModel extends ViewModel {
         case EASY -> 10;
         case MEDIUM -> 15;
         case HARD -> 20;
+        case EXPERT -> 25;
         };
     }
 
@@ -691,6 +866,7 @@ public class SudokuViewModel extends ViewModel {
         int difficultyBonus = switch (board.getCurrentDifficulty()) {
         case EASY -> 500;
         case HARD -> 2000;
+        case EXPERT -> 3500;
         default -> 1000;
         };
 
@@ -708,6 +884,9 @@ public class SudokuViewModel extends ViewModel {
         if (generationTask != null && !generationTask.isDone()) {
             generationTask.cancel(true);
         }
+        cancelAnalysis();
         executor.shutdown();
+        generationWorkers.shutdownNow();
+        analysisExecutor.shutdownNow();
     }
 }
@@ -0,0 +1,49 @@
+package com.example.sudoku;
+
+import android.os.Looper;
+
+import com.example.sudoku.viewmodel.SudokuViewModel;
+
+import org.robolectric.Shadows;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Waits for {@link SudokuViewModel} work that finishes on a background thread and is posted back to the main looper.
+ */
+final class MainLooperTestSupport {
+
+    private MainLooperTestSupport() {
+    }
+
+    /**
+     * Runs the main looper, 100 ms of simulated time per step, until {@code condition} holds.
+     *
+     * @param timeoutMillis Real time to wait before failing the test.
+     * @param description   What is awaited, for the failure message.
+     */
+    static void runMainLooperUntil(BooleanSupplier condition, long timeoutMillis, String description)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (true) {
+            Shadows.shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(100));
+            if (condition.getAsBoolean()) {
+                return;
+            }
+            if (System.currentTimeMillis() > deadline) {
+                fail("Timed out waiting for " + description + ".");
+            }
+            Thread.sleep(25);
+        }
+    }
+
+    /**
+     * Runs the main looper until the background analysis of the latest position has been published.
+     */
+    static void awaitBoardAnalysis(SudokuViewModel viewModel) throws InterruptedException {
+        runMainLooperUntil(() -> viewModel.getBoardAnalysis().getValue() != null, 5000, "the board analysis");
+    }
+}
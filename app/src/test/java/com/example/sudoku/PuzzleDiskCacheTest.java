@@ -0,0 +1,134 @@
+package com.example.sudoku;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for the file-backed puzzle cache.
+ */
+public class PuzzleDiskCacheTest {
+
+    private static final String PUZZLE =
+            "530070000600195000098000060800060003400803001700020006060000280000419005000080079";
+    private static final String SOLUTION =
+            "534678912672195348198342567859761423426853791713924856961537284287419635345286179";
+
+    private File directory;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("puzzle-cache").toFile();
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    /**
+     * Stored puzzles come back as fresh boards with the same givens and solution, and are removed when taken.
+     */
+    @Test
+    public void take_returnsStoredPuzzleOnceAsFreshBoard() {
+        PuzzleDiskCache cache = new PuzzleDiskCache(directory, 4);
+
+        assertTrue(cache.offer(board(SudokuBoard.Difficulty.HARD)));
+        assertEquals(1, cache.size(SudokuBoard.Difficulty.HARD));
+        assertEquals(0, cache.size(SudokuBoard.Difficulty.EASY));
+
+        SudokuBoard restored = cache.take(SudokuBoard.Difficulty.HARD);
+        assertNotNull(restored);
+        assertEquals(SudokuBoard.Difficulty.HARD, restored.getCurrentDifficulty());
+        int[] givens = new int[81];
+        int[] solution = new int[81];
+        restored.copyGivensTo(givens);
+        restored.copySolutionTo(solution);
+        assertArrayEquals(parse(PUZZLE), givens);
+        assertArrayEquals(parse(SOLUTION), solution);
+        assertTrue(restored.getCell(0, 0).isFixed());
+        assertFalse(restored.getCell(0, 2).isFixed());
+
+        assertEquals(0, cache.size(SudokuBoard.Difficulty.HARD));
+        assertNull(cache.take(SudokuBoard.Difficulty.HARD));
+    }
+
+    /**
+     * Appends stop at the configured capacity.
+     */
+    @Test
+    public void offer_respectsCapacity() {
+        PuzzleDiskCache cache = new PuzzleDiskCache(directory, 2);
+
+        assertTrue(cache.offer(board(SudokuBoard.Difficulty.EASY)));
+        assertTrue(cache.offer(board(SudokuBoard.Difficulty.EASY)));
+        assertFalse(cache.offer(board(SudokuBoard.Difficulty.EASY)));
+        assertEquals(2, cache.size(SudokuBoard.Difficulty.EASY));
+    }
+
+    /**
+     * A torn trailing record, as left by a process death during a write, is ignored.
+     */
+    @Test
+    public void take_ignoresPartialTrailingRecord() throws IOException {
+        PuzzleDiskCache cache = new PuzzleDiskCache(directory, 4);
+        assertTrue(cache.offer(board(SudokuBoard.Difficulty.MEDIUM)));
+        try (RandomAccessFile access = new RandomAccessFile(new File(directory, "medium.puzzles"), "rw")) {
+            access.seek(access.length());
+            access.write(new byte[] {5, 3, 0});
+        }
+
+        assertEquals(1, cache.size(SudokuBoard.Difficulty.MEDIUM));
+        assertNotNull(cache.take(SudokuBoard.Difficulty.MEDIUM));
+        assertNull(cache.take(SudokuBoard.Difficulty.MEDIUM));
+    }
+
+    /**
+     * Records whose givens contradict their solution are rejected and the file is discarded.
+     */
+    @Test
+    public void take_discardsCorruptedFile() throws IOException {
+        PuzzleDiskCache cache = new PuzzleDiskCache(directory, 4);
+        assertTrue(cache.offer(board(SudokuBoard.Difficulty.HARD)));
+        assertTrue(cache.offer(board(SudokuBoard.Difficulty.HARD)));
+        File file = new File(directory, "hard.puzzles");
+        try (RandomAccessFile access = new RandomAccessFile(file, "rw")) {
+            access.seek(access.length() - PuzzleDiskCache.RECORD_SIZE);
+            access.write(4);
+        }
+
+        assertNull(cache.take(SudokuBoard.Difficulty.HARD));
+        assertFalse(file.exists());
+        assertEquals(0, cache.size(SudokuBoard.Difficulty.HARD));
+    }
+
+    private static SudokuBoard board(SudokuBoard.Difficulty difficulty) {
+        return SudokuBoard.fromPuzzle(difficulty, parse(PUZZLE), parse(SOLUTION));
+    }
+
+    private static int[] parse(String grid) {
+        int[] cells = new int[81];
+        for (int index = 0; index < cells.length; index++) {
+            cells[index] = grid.charAt(index) - '0';
+        }
+        return cells;
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.sudoku;
+
+import com.example.sudoku.engine.SolverEngine;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link PuzzlePool} refill and accounting behavior.
+ */
+public class PuzzlePoolTest {
+
+    /**
+     * A miss triggers a refill; the next poll is then served from the pool with a fresh board.
+     */
+    @Test(timeout = 30000)
+    public void poll_missSchedulesRefillAndLaterPollsHit() {
+        List<Runnable> queuedRefills = new ArrayList<>();
+        PuzzlePool pool = new PuzzlePool(2, queuedRefills::add);
+
+        assertNull(pool.poll(SudokuBoard.Difficulty.HARD));
+        assertEquals(1, pool.getMissCount());
+        assertEquals(1, queuedRefills.size());
+
+        queuedRefills.remove(0).run();
+        assertEquals(2, pool.size(SudokuBoard.Difficulty.HARD));
+        assertEquals(0, pool.size(SudokuBoard.Difficulty.EASY));
+
+        SudokuBoard first = pool.poll(SudokuBoard.Difficulty.HARD);
+        SudokuBoard second = pool.poll(SudokuBoard.Difficulty.HARD);
+
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNotSame(first, second);
+        assertEquals(SudokuBoard.Difficulty.HARD, first.getCurrentDifficulty());
+        assertTrue(first.isCurrentBoardStateValidAccordingToRules());
+        assertTrue(first.hasGenerationSeed());
+        assertEquals(2, pool.getHitCount());
+        assertEquals(1, pool.getMissCount());
+    }
+
+    /**
+     * Once memory and disk are empty, polls are served by transforming a recent base instead of missing.
+     */
+    @Test(timeout = 30000)
+    public void poll_transformsABaseWhenMemoryAndDiskAreEmpty() throws Exception {
+        List<Runnable> queuedRefills = new ArrayList<>();
+        PuzzlePool pool = new PuzzlePool(1, queuedRefills::add);
+        pool.prefillAll();
+        for (Runnable refill : queuedRefills) {
+            refill.run();
+        }
+        queuedRefills.clear();
+
+        SudokuBoard pooled = pool.poll(SudokuBoard.Difficulty.MEDIUM);
+        SudokuBoard transformed = pool.poll(SudokuBoard.Difficulty.MEDIUM);
+
+        assertNotNull(pooled);
+        assertNotNull(transformed);
+        assertEquals(1, pool.getHitCount());
+        assertEquals(1, pool.getTransformHitCount());
+        assertEquals(0, pool.getMissCount());
+
+        int[] pooledGivens = new int[81];
+        int[] givens = new int[81];
+        int[] solution = new int[81];
+        pooled.copyGivensTo(pooledGivens);
+        transformed.copyGivensTo(givens);
+        transformed.copySolutionTo(solution);
+        assertFalse(Arrays.equals(pooledGivens, givens));
+        int clues = 0;
+        for (int given : givens) {
+            if (given != 0) {
+                clues++;
+            }
+        }
+        assertEquals(81 - SudokuBoard.Difficulty.MEDIUM.cellsToRemove, clues);
+        assertTrue(SolverEngine.DEFAULT.create().isUnique(givens));
+        assertTrue(SolverEngine.DEFAULT.create().solve(givens));
+        assertArrayEquals(solution, givens);
+        assertTrue(pooled.hasGenerationSeed());
+        assertFalse(transformed.hasGenerationSeed());
+    }
+
+    /**
+     * Only one refill per difficulty may be queued at a time, and full pools are never refilled.
+     */
+    @Test(timeout = 30000)
+    public void prefillAll_schedulesOneRefillPerDifficulty() {
+        List<Runnable> queuedRefills = new ArrayList<>();
+        PuzzlePool pool = new PuzzlePool(1, queuedRefills::add);
+
+        pool.prefillAll();
+        pool.prefillAll();
+
+        assertEquals(SudokuBoard.Difficulty.values().length, queuedRefills.size());
+        for (Runnable refill : queuedRefills) {
+            refill.run();
+        }
+        queuedRefills.clear();
+
+        pool.prefillAll();
+        assertEquals(0, queuedRefills.size());
+        for (SudokuBoard.Difficulty difficulty : SudokuBoard.Difficulty.values()) {
+            assertEquals(1, pool.size(difficulty));
+        }
+    }
+
+    /**
+     * The refill thread moves stored puzzles from disk into memory before topping the disk cache up, so polls are
+     * served from memory and never read the files themselves.
+     */
+    @Test(timeout = 30000)
+    public void refill_loadsDiskCacheIntoMemoryAndTopsItUp() throws IOException {
+        File directory = Files.createTempDirectory("puzzle-pool").toFile();
+        try {
+            List<Runnable> queuedRefills = new ArrayList<>();
+            PuzzlePool pool = new PuzzlePool(1, queuedRefills::add);
+            PuzzleDiskCache diskCache = new PuzzleDiskCache(directory, 2);
+            pool.attachDiskCache(diskCache);
+
+            SudokuBoard stored = new SudokuBoard();
+            stored.generateNewPuzzle(SudokuBoard.Difficulty.EASY);
+            assertTrue(diskCache.offer(stored));
+
+            assertNull(pool.poll(SudokuBoard.Difficulty.EASY));
+            assertEquals(1, diskCache.size(SudokuBoard.Difficulty.EASY));
+            assertEquals(1, pool.getMissCount());
+
+            queuedRefills.remove(0).run();
+            assertEquals(1, pool.size(SudokuBoard.Difficulty.EASY));
+            assertEquals(2, diskCache.size(SudokuBoard.Difficulty.EASY));
+
+            SudokuBoard board = pool.poll(SudokuBoard.Difficulty.EASY);
+            assertNotNull(board);
+            assertEquals(1, pool.getDiskHitCount());
+            assertEquals(0, pool.getHitCount());
+            assertEquals(2, diskCache.size(SudokuBoard.Difficulty.EASY));
+            int[] givens = new int[81];
+            int[] storedGivens = new int[81];
+            board.copyGivensTo(givens);
+            stored.copyGivensTo(storedGivens);
+            assertArrayEquals(storedGivens, givens);
+            assertEquals(stored.getGenerationSeed(), board.getGenerationSeed());
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        } finally {
+            File[] files = directory.listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    file.delete();
+                }
+            }
+            directory.delete();
+        }
+    }
+}
@@ -11,7 +11,6 @@ import org.robolectric.RobolectricTestRunner;
 import org.robolectric.RuntimeEnvironment;
 import org.robolectric.annotation.Config;
 
-import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.HashSet;
 
@@ -111,35 +110,18 @@ public class SavedGameStoreTest {
                 .getString("theme", null));
     }
 
-    private SudokuBoard createBoardWithNotesAndError() throws Exception {
-        SudokuBoard board = new SudokuBoard();
-        SudokuCell[][] cells = new SudokuCell[9][9];
+    private SudokuBoard createBoardWithNotesAndError() {
+        int[] solution = new int[81];
         for (int row = 0; row < 9; row++) {
-            for (int col = 0; col < 9; col++) {
-                cells[row][col] = new SudokuCell(SOLUTION[row][col], true, true, null);
-            }
+            System.arraycopy(SOLUTION[row], 0, solution, row * 9, 9);
         }
+        int[] givens = solution.clone();
+        givens[0] = 0;
+        givens[1] = 0;
 
-        cells[0][0] = new SudokuCell(0, false, true, new HashSet<>(Arrays.asList(1, 2, 3)));
-        cells[0][1] = new SudokuCell(9, false, false, null);
-
-        setField(board, "currentDifficulty", SudokuBoard.Difficulty.HARD);
-        setField(board, "solutionBoard", copySolution());
-        setField(board, "board", cells);
+        SudokuBoard board = SudokuBoard.fromPuzzle(SudokuBoard.Difficulty.HARD, givens, solution);
+        board.getCell(0, 0).setNotes(new HashSet<>(Arrays.asList(1, 2, 3)));
+        board.setCellValue(0, 1, 9, 0, true);
         return board;
     }
-
-    private int[][] copySolution() {
-        int[][] copy = new int[9][9];
-        for (int row = 0; row < 9; row++) {
-            System.arraycopy(SOLUTION[row], 0, copy[row], 0, 9);
-        }
-        return copy;
-    }
-
-    private void setField(Object target, String fieldName, Object value) throws Exception {
-        Field field = target.getClass().getDeclaredField(fieldName);
-        field.setAccessible(true);
-        field.set(target, value);
-    }
 }
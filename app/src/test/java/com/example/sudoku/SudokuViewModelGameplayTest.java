@@ -5,6 +5,7 @@ import android.os.Looper;
 
 import androidx.arch.core.executor.testing.InstantTaskExecutorRule;
 
+import com.example.sudoku.engine.BoardAnalysis;
 import com.example.sudoku.viewmodel.SudokuViewModel;
 
 import org.junit.Rule;
@@ -14,13 +15,16 @@ import org.robolectric.RobolectricTestRunner;
 import org.robolectric.Shadows;
 import org.robolectric.annotation.Config;
 
-import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
 
+import static com.example.sudoku.MainLooperTestSupport.awaitBoardAnalysis;
+import static com.example.sudoku.MainLooperTestSupport.runMainLooperUntil;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
-import static org.junit.Assert.fail;
 
 /**
  * Gameplay-focused tests for {@link SudokuViewModel}.
@@ -73,7 +77,7 @@ public class SudokuViewModelGameplayTest {
      */
     @Test
     public void incorrectMoveAndUndo_restoresBoardButKeepsHistoricalErrorCount() throws Exception {
-        SudokuViewModel viewModel = new SudokuViewModel();
+        SudokuViewModel viewModel = new PrivatePoolSudokuViewModel();
         viewModel.restoreState(createBoardWithOpenCells(SudokuBoard.Difficulty.MEDIUM, new int[][] { { 0, 0 }, { 0, 1 } }),
                 createBundle(0, 0, 40));
 
@@ -94,7 +98,7 @@ public class SudokuViewModelGameplayTest {
      */
     @Test
     public void incorrectMove_appliesDifficultyPenaltyWithoutResettingScoreToZero() throws Exception {
-        SudokuViewModel viewModel = new SudokuViewModel();
+        SudokuViewModel viewModel = new PrivatePoolSudokuViewModel();
         viewModel.restoreState(createBoardWithOpenCells(SudokuBoard.Difficulty.MEDIUM, new int[][] { { 0, 0 }, { 0, 1 } }),
                 createBundle(0, 0, 25));
 
@@ -110,7 +114,7 @@ public class SudokuViewModelGameplayTest {
      */
     @Test
     public void clearSelectedCell_clearsEditableValueWithoutChangingScore() throws Exception {
-        SudokuViewModel viewModel = new SudokuViewModel();
+        SudokuViewModel viewModel = new PrivatePoolSudokuViewModel();
         viewModel.restoreState(createBoardWithOpenCells(SudokuBoard.Difficulty.EASY, new int[][] { { 0, 0 }, { 0, 1 } }),
                 createBundle(0, 0, 0));
 
@@ -130,7 +134,7 @@ public class SudokuViewModelGameplayTest {
      */
     @Test
     public void pauseBlocksGameplayInputUntilResumed() throws Exception {
-        SudokuViewModel viewModel = new SudokuViewModel();
+        SudokuViewModel viewModel = new PrivatePoolSudokuViewModel();
         viewModel.restoreState(createBoardWithOpenCells(SudokuBoard.Difficulty.MEDIUM, new int[][] { { 0, 0 }, { 0, 1 } }),
                 createBundle(0, 0, 0));
 
@@ -152,31 +156,189 @@ public class SudokuViewModelGameplayTest {
         assertEquals(Integer.valueOf(25), viewModel.getScore().getValue());
     }
 
+    /**
+     * Each move republishes a snapshot based on the previous one that marks only the edited cell.
+     */
+    @Test
+    public void inputNumber_publishesSnapshotWithOnlyTheEditedCellChanged() throws Exception {
+        SudokuViewModel viewModel = new PrivatePoolSudokuViewModel();
+        viewModel.restoreState(
+                createBoardWithOpenCells(SudokuBoard.Difficulty.EASY, new int[][] { { 0, 0 }, { 0, 1 } }),
+                createBundle(0, 0, 0));
+        BoardSnapshot restored = viewModel.getBoardSnapshot().getValue();
+
+        viewModel.inputNumber(SOLUTION[0][0]);
+        BoardSnapshot afterMove = viewModel.getBoardSnapshot().getValue();
+
+        assertEquals(BoardSnapshot.NO_BASE_VERSION, restored.getBaseVersion());
+        assertEquals(restored.getVersion(), afterMove.getBaseVersion());
+        assertEquals(1, afterMove.getChangedCount());
+        assertTrue(afterMove.isChanged(0));
+        assertEquals(SOLUTION[0][0], afterMove.getValue(0, 0));
+        assertEquals(0, restored.getValue(0, 0));
+    }
+
+    /**
+     * A placement that prunes peer notes marks exactly the placed cell and the peers that lost a note, so the grid
+     * rebinds those cells only; peers without the digit and notes outside the cell's houses stay untouched. Undo marks
+     * the same cells again.
+     */
+    @Test
+    public void inputNumber_withAutoRemovedNotes_marksPlacedCellAndPrunedPeersOnly() throws Exception {
+        SudokuViewModel viewModel = new PrivatePoolSudokuViewModel();
+        viewModel.setAutoRemoveNotes(true);
+        SudokuBoard board = createBoardWithOpenCells(SudokuBoard.Difficulty.EASY,
+                new int[][] { { 0, 0 }, { 0, 1 }, { 1, 0 }, { 0, 2 }, { 8, 8 } });
+        int digit = SOLUTION[0][0];
+        board.getCell(0, 1).addNote(digit);
+        board.getCell(1, 0).addNote(digit);
+        board.getCell(0, 2).addNote(SOLUTION[0][2]);
+        board.getCell(8, 8).addNote(digit);
+        viewModel.restoreState(board, createBundle(0, 0, 0));
+        BoardSnapshot restored = viewModel.getBoardSnapshot().getValue();
+
+        viewModel.inputNumber(digit);
+        BoardSnapshot afterMove = viewModel.getBoardSnapshot().getValue();
+
+        assertEquals(restored.getVersion(), afterMove.getBaseVersion());
+        assertEquals(3, afterMove.getChangedCount());
+        assertEquals(0, afterMove.nextChangedCell(0));
+        assertEquals(1, afterMove.nextChangedCell(1));
+        assertEquals(9, afterMove.nextChangedCell(2));
+        assertEquals(-1, afterMove.nextChangedCell(10));
+        assertEquals(0, afterMove.getNoteMask(0, 1));
+        assertEquals(1 << (digit - 1), afterMove.getNoteMask(8, 8));
+
+        assertTrue(viewModel.undoLastMove());
+        BoardSnapshot afterUndo = viewModel.getBoardSnapshot().getValue();
+
+        assertEquals(afterMove.getVersion(), afterUndo.getBaseVersion());
+        assertEquals(3, afterUndo.getChangedCount());
+        assertTrue(afterUndo.isChanged(0) && afterUndo.isChanged(1) && afterUndo.isChanged(9));
+        assertEquals(1 << (digit - 1), afterUndo.getNoteMask(1, 0));
+    }
+
+    /**
+     * The note removal setting reaches boards restored after it was set, and undo gives the pruned notes back.
+     */
+    @Test
+    public void setAutoRemoveNotes_appliesToRestoredBoardsAndUndoRestoresNotes() throws Exception {
+        SudokuViewModel viewModel = new PrivatePoolSudokuViewModel();
+        viewModel.setAutoRemoveNotes(true);
+        SudokuBoard board = createBoardWithOpenCells(SudokuBoard.Difficulty.EASY,
+                new int[][] { { 0, 0 }, { 0, 1 }, { 1, 0 } });
+        board.getCell(0, 1).addNote(SOLUTION[0][0]);
+        board.getCell(0, 1).addNote(SOLUTION[0][1]);
+        board.getCell(1, 0).addNote(SOLUTION[0][0]);
+        viewModel.restoreState(board, createBundle(0, 0, 0));
+
+        viewModel.inputNumber(SOLUTION[0][0]);
+
+        SudokuBoard played = viewModel.getSudokuBoard().getValue();
+        assertTrue(played.isAutoRemoveNotes());
+        assertEquals(1 << (SOLUTION[0][1] - 1), played.getCell(0, 1).getNoteMask());
+        assertFalse(played.getCell(1, 0).hasNotes());
+
+        assertTrue(viewModel.undoLastMove());
+        assertTrue(played.getCell(0, 1).hasNote(SOLUTION[0][0]));
+        assertTrue(played.getCell(1, 0).hasNote(SOLUTION[0][0]));
+
+        viewModel.setAutoRemoveNotes(false);
+        assertFalse(played.isAutoRemoveNotes());
+    }
+
+    /**
+     * Moves in quick succession are analyzed once, in the background, and the published snapshot describes the
+     * latest position.
+     */
+    @Test(timeout = 10000)
+    public void movesPublishOneBackgroundAnalysisOfTheLatestPosition() throws Exception {
+        SudokuViewModel viewModel = new PrivatePoolSudokuViewModel();
+        viewModel.restoreState(
+                createBoardWithOpenCells(SudokuBoard.Difficulty.EASY, new int[][] { { 0, 0 }, { 0, 1 } }),
+                createBundle(0, 0, 0));
+
+        viewModel.inputNumber(9);
+        viewModel.inputNumber(SOLUTION[0][0]);
+        assertNull(viewModel.getBoardAnalysis().getValue());
+
+        awaitBoardAnalysis(viewModel);
+
+        BoardAnalysis analysis = viewModel.getBoardAnalysis().getValue();
+        assertEquals(80, analysis.getFilledCount());
+        assertEquals(0, analysis.getConflictCount());
+        assertEquals(1, analysis.getRemainingCount(SOLUTION[0][1]));
+        assertEquals(1, analysis.getHint().getCell());
+        assertEquals(SOLUTION[0][1], analysis.getHint().getDigit());
+    }
+
+    /**
+     * The last correct placement ends the game on the keystroke itself, before the background analysis lands, so no
+     * further input or undo slips in.
+     */
+    @Test(timeout = 10000)
+    public void completingTheGrid_winsOnTheFinalPlacement() throws Exception {
+        SudokuViewModel viewModel = new PrivatePoolSudokuViewModel();
+        viewModel.restoreState(createBoardWithOpenCells(SudokuBoard.Difficulty.EASY, new int[][] { { 0, 0 } }),
+                createBundle(0, 0, 0));
+
+        viewModel.inputNumber(SOLUTION[0][0]);
+
+        assertEquals(Boolean.TRUE, viewModel.isGameWon().getValue());
+        assertEquals(Boolean.FALSE, viewModel.isGameOverWithIncorrectBoard().getValue());
+        assertTrue(viewModel.getScore().getValue() > 15);
+        assertFalse(viewModel.undoLastMove());
+
+        awaitBoardAnalysis(viewModel);
+
+        assertTrue(viewModel.getBoardAnalysis().getValue().isSolved());
+        assertEquals(Boolean.TRUE, viewModel.isGameWon().getValue());
+    }
+
+    /**
+     * Starting a generation drops the pending analysis of the old position, so it cannot land while the new game is
+     * generated. A failed generation analyzes the kept game again and leaves a timer that was stopped before stopped.
+     */
+    @Test(timeout = 10000)
+    public void startNewGame_dropsPendingAnalysisWhileGenerating() throws Exception {
+        BlockingFailingGenerationSudokuViewModel viewModel = new BlockingFailingGenerationSudokuViewModel();
+        Bundle bundle = createBundle(0, 0, 0);
+        bundle.putLong(STATE_ELAPSED_TIME_IN_MILLIS, 42_000L);
+        viewModel.restoreState(
+                createBoardWithOpenCells(SudokuBoard.Difficulty.EASY, new int[][] { { 0, 0 }, { 0, 1 } }), bundle);
+
+        viewModel.startNewGame(SudokuBoard.Difficulty.HARD);
+        for (int i = 0; i < 5; i++) {
+            Shadows.shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(200));
+            Thread.sleep(25);
+        }
+
+        assertEquals(Boolean.TRUE, viewModel.isGenerating().getValue());
+        assertNull(viewModel.getBoardAnalysis().getValue());
+        assertEquals(Long.valueOf(42_000L), viewModel.getElapsedTimeInMillis().getValue());
+
+        viewModel.failGeneration.countDown();
+        awaitBoardAnalysis(viewModel);
+
+        assertEquals(Boolean.FALSE, viewModel.isGenerating().getValue());
+        assertEquals(79, viewModel.getBoardAnalysis().getValue().getFilledCount());
+        assertEquals(Long.valueOf(42_000L), viewModel.getElapsedTimeInMillis().getValue());
+    }
+
     /**
      * When multiple generations are requested quickly, only the latest request may update state.
      */
     @Test(timeout = 30000)
     public void startNewGameInQuickSuccession_keepsLatestDifficulty() throws Exception {
-        SudokuViewModel viewModel = new SudokuViewModel();
+        SudokuViewModel viewModel = new PrivatePoolSudokuViewModel();
 
         viewModel.startNewGame(SudokuBoard.Difficulty.EASY);
         viewModel.startNewGame(SudokuBoard.Difficulty.HARD);
 
-        long deadline = System.currentTimeMillis() + 25000;
-        while (System.currentTimeMillis() < deadline) {
-            Shadows.shadowOf(Looper.getMainLooper()).idle();
-
-            SudokuBoard board = viewModel.getSudokuBoard().getValue();
-            Boolean isGenerating = viewModel.isGenerating().getValue();
-            if (board != null && Boolean.FALSE.equals(isGenerating)) {
-                assertEquals(SudokuBoard.Difficulty.HARD, board.getCurrentDifficulty());
-                return;
-            }
-
-            Thread.sleep(25);
-        }
+        runMainLooperUntil(() -> viewModel.getSudokuBoard().getValue() != null
+                && Boolean.FALSE.equals(viewModel.isGenerating().getValue()), 25000, "the latest generated puzzle");
 
-        fail("Timed out waiting for the latest generated puzzle.");
+        assertEquals(SudokuBoard.Difficulty.HARD, viewModel.getSudokuBoard().getValue().getCurrentDifficulty());
     }
 
     /**
@@ -190,28 +352,18 @@ public class SudokuViewModelGameplayTest {
 
         viewModel.startNewGame(SudokuBoard.Difficulty.HARD);
 
-        long deadline = System.currentTimeMillis() + 5000;
-        while (System.currentTimeMillis() < deadline) {
-            Shadows.shadowOf(Looper.getMainLooper()).idle();
+        runMainLooperUntil(() -> Boolean.FALSE.equals(viewModel.isGenerating().getValue())
+                && viewModel.getGenerationErrorMessage().getValue() != null, 5000, "the generation failure state");
 
-            if (Boolean.FALSE.equals(viewModel.isGenerating().getValue())
-                    && viewModel.getGenerationErrorMessage().getValue() != null) {
-                assertSame(existingBoard, viewModel.getSudokuBoard().getValue());
-                assertEquals(Integer.valueOf(35), viewModel.getScore().getValue());
-                assertEquals(Integer.valueOf(R.string.puzzle_generation_failed), viewModel.getGenerationErrorMessage().getValue());
-                assertEquals(Integer.valueOf(0), viewModel.getSelectedCell().getValue().first);
-                assertEquals(Integer.valueOf(1), viewModel.getSelectedCell().getValue().second);
-                return;
-            }
-
-            Thread.sleep(25);
-        }
-
-        fail("Timed out waiting for the generation failure state.");
+        assertSame(existingBoard, viewModel.getSudokuBoard().getValue());
+        assertEquals(Integer.valueOf(35), viewModel.getScore().getValue());
+        assertEquals(Integer.valueOf(R.string.puzzle_generation_failed), viewModel.getGenerationErrorMessage().getValue());
+        assertEquals(Integer.valueOf(0), viewModel.getSelectedCell().getValue().first);
+        assertEquals(Integer.valueOf(1), viewModel.getSelectedCell().getValue().second);
     }
 
     private void assertScoreForCorrectMove(SudokuBoard.Difficulty difficulty, int expectedScore) throws Exception {
-        SudokuViewModel viewModel = new SudokuViewModel();
+        SudokuViewModel viewModel = new PrivatePoolSudokuViewModel();
         viewModel.restoreState(createBoardWithOpenCells(difficulty, new int[][] { { 0, 0 }, { 0, 1 } }),
                 createBundle(0, 0, 0));
 
@@ -225,33 +377,16 @@ public class SudokuViewModelGameplayTest {
     /**
      * Builds a deterministic test board with selected editable cells.
      */
-    private SudokuBoard createBoardWithOpenCells(SudokuBoard.Difficulty difficulty, int[][] openCells) throws Exception {
-        SudokuBoard board = new SudokuBoard();
-        SudokuCell[][] cells = new SudokuCell[9][9];
+    private SudokuBoard createBoardWithOpenCells(SudokuBoard.Difficulty difficulty, int[][] openCells) {
+        int[] solution = new int[81];
         for (int row = 0; row < 9; row++) {
-            for (int col = 0; col < 9; col++) {
-                cells[row][col] = new SudokuCell(SOLUTION[row][col], true, true, null);
-            }
+            System.arraycopy(SOLUTION[row], 0, solution, row * 9, 9);
         }
+        int[] givens = solution.clone();
         for (int[] openCell : openCells) {
-            cells[openCell[0]][openCell[1]] = new SudokuCell(0, false, true, null);
+            givens[openCell[0] * 9 + openCell[1]] = 0;
         }
-
-        setField(board, "currentDifficulty", difficulty);
-        setField(board, "solutionBoard", copySolution());
-        setField(board, "board", cells);
-        return board;
-    }
-
-    /**
-     * Creates a deep copy of the fixture solution matrix.
-     */
-    private int[][] copySolution() {
-        int[][] copy = new int[9][9];
-        for (int row = 0; row < 9; row++) {
-            System.arraycopy(SOLUTION[row], 0, copy[row], 0, 9);
-        }
-        return copy;
+        return SudokuBoard.fromPuzzle(difficulty, givens, solution);
     }
 
     /**
@@ -276,26 +411,58 @@ public class SudokuViewModelGameplayTest {
     }
 
     /**
-     * Reflection helper used by tests to inject deterministic board internals.
+     * Test double that forces puzzle generation to fail in background execution.
      */
-    private void setField(Object target, String fieldName, Object value) throws Exception {
-        Field field = target.getClass().getDeclaredField(fieldName);
-        field.setAccessible(true);
-        field.set(target, value);
+    private static final class FailingGenerationSudokuViewModel extends SudokuViewModel {
+        @Override
+        protected PuzzlePool getPuzzlePool() {
+            // Bypass the shared pool so every request reaches the failing generator.
+            return null;
+        }
+
+        @Override
+        protected SudokuBoard createBoardForGeneration() {
+            return new SudokuBoard() {
+                @Override
+                public void generateNewPuzzle(Difficulty difficulty) {
+                    throw new IllegalStateException("Synthetic generation failure");
+                }
+            };
+        }
     }
 
     /**
-     * Test double that forces puzzle generation to fail in background execution.
+     * Test double whose generation blocks until the test releases it and then fails.
      */
-    private static final class FailingGenerationSudokuViewModel extends SudokuViewModel {
+    private static final class BlockingFailingGenerationSudokuViewModel extends SudokuViewModel {
+        private final CountDownLatch failGeneration = new CountDownLatch(1);
+
+        @Override
+        protected PuzzlePool getPuzzlePool() {
+            return null;
+        }
+
         @Override
         protected SudokuBoard createBoardForGeneration() {
             return new SudokuBoard() {
                 @Override
-                public void generateNewPuzzle(Difficulty difficulty) {
+                public void generateNewPuzzle(Difficulty difficulty) throws InterruptedException {
+                    failGeneration.await();
                     throw new IllegalStateException("Synthetic generation failure");
                 }
             };
         }
     }
+
+    /**
+     * View model backed by its own pool whose refills never run, so tests neither share nor wait for pooled puzzles.
+     */
+    private static final class PrivatePoolSudokuViewModel extends SudokuViewModel {
+        private final PuzzlePool puzzlePool = new PuzzlePool(PuzzlePool.DEFAULT_CAPACITY, refill -> { });
+
+        @Override
+        protected PuzzlePool getPuzzlePool() {
+            return puzzlePool;
+        }
+    }
 }
@@ -15,10 +15,9 @@ import org.robolectric.RobolectricTestRunner;
 import org.robolectric.Shadows;
 import org.robolectric.annotation.Config;
 
-import java.lang.reflect.Field;
-import java.util.Stack;
 import java.util.concurrent.TimeUnit;
 
+import static com.example.sudoku.MainLooperTestSupport.awaitBoardAnalysis;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -64,13 +63,13 @@ public class SudokuViewModelRestoreTest {
      */
     @Test
     public void saveAndRestore_preservesTotalErrorsForFutureMoves() throws Exception {
-        SudokuViewModel originalViewModel = new SudokuViewModel();
+        SudokuViewModel originalViewModel = new PrivatePoolSudokuViewModel();
         originalViewModel.restoreState(createBoardWithOnePastErrorAndOneOpenCell(),
                 createBundle(0, 1, 1, 1, 0, false, false, false, false, 0));
 
         Pair<SudokuBoard, Bundle> savedState = originalViewModel.saveState();
 
-        SudokuViewModel restoredViewModel = new SudokuViewModel();
+        SudokuViewModel restoredViewModel = new PrivatePoolSudokuViewModel();
         restoredViewModel.restoreState(savedState.first, savedState.second);
         restoredViewModel.inputNumber(8);
 
@@ -84,13 +83,13 @@ public class SudokuViewModelRestoreTest {
      */
     @Test
     public void saveAndRestore_undoPreservesHistoricalErrorCount() throws Exception {
-        SudokuViewModel originalViewModel = new SudokuViewModel();
+        SudokuViewModel originalViewModel = new PrivatePoolSudokuViewModel();
         originalViewModel.restoreState(createBoardWithOnePastErrorAndOneOpenCell(),
                 createBundle(0, 1, 1, 1, 0, false, false, false, false, 0));
 
         Pair<SudokuBoard, Bundle> savedState = originalViewModel.saveState();
 
-        SudokuViewModel restoredViewModel = new SudokuViewModel();
+        SudokuViewModel restoredViewModel = new PrivatePoolSudokuViewModel();
         restoredViewModel.restoreState(savedState.first, savedState.second);
 
         assertTrue(restoredViewModel.undoLastMove());
@@ -103,13 +102,13 @@ public class SudokuViewModelRestoreTest {
      */
     @Test
     public void saveAndRestore_doesNotAwardCompletionBonusTwice() throws Exception {
-        SudokuViewModel originalViewModel = new SudokuViewModel();
+        SudokuViewModel originalViewModel = new PrivatePoolSudokuViewModel();
         originalViewModel.restoreState(createWonBoardWithWinningMove(),
                 createBundle(-1, -1, 0, 0, 1210, false, true, false, true, 1200));
 
         Pair<SudokuBoard, Bundle> savedState = originalViewModel.saveState();
 
-        SudokuViewModel restoredViewModel = new SudokuViewModel();
+        SudokuViewModel restoredViewModel = new PrivatePoolSudokuViewModel();
         restoredViewModel.restoreState(savedState.first, savedState.second);
 
         assertEquals(Integer.valueOf(1210), restoredViewModel.getScore().getValue());
@@ -122,13 +121,13 @@ public class SudokuViewModelRestoreTest {
      */
     @Test
     public void undoAfterRestoredWin_isBlockedWhenGameIsWon() throws Exception {
-        SudokuViewModel originalViewModel = new SudokuViewModel();
+        SudokuViewModel originalViewModel = new PrivatePoolSudokuViewModel();
         originalViewModel.restoreState(createWonBoardWithWinningMove(),
                 createBundle(-1, -1, 0, 0, 1210, false, true, false, true, 1200));
 
         Pair<SudokuBoard, Bundle> savedState = originalViewModel.saveState();
 
-        SudokuViewModel restoredViewModel = new SudokuViewModel();
+        SudokuViewModel restoredViewModel = new PrivatePoolSudokuViewModel();
         restoredViewModel.restoreState(savedState.first, savedState.second);
 
         assertFalse(restoredViewModel.undoLastMove());
@@ -151,7 +150,7 @@ public class SudokuViewModelRestoreTest {
         // the saved elapsed value instead of jumping ahead by this full gap.
         Shadows.shadowOf(Looper.getMainLooper()).idleFor(5, TimeUnit.MINUTES);
 
-        SudokuViewModel restoredViewModel = new SudokuViewModel();
+        SudokuViewModel restoredViewModel = new PrivatePoolSudokuViewModel();
         restoredViewModel.restoreState(createBoardWithOnePastErrorAndOneOpenCell(), bundle);
 
         assertEquals(Long.valueOf(42_000L), restoredViewModel.getElapsedTimeInMillis().getValue());
@@ -163,12 +162,31 @@ public class SudokuViewModelRestoreTest {
         assertTrue(resumedElapsedTime < 50_000L);
     }
 
+    /**
+     * A timer that was stopped when the game was saved stays stopped after restore, also once the background analysis
+     * of the restored position has landed.
+     */
+    @Test(timeout = 10000)
+    public void restoreState_keepsStoppedTimerStoppedAfterAnalysis() throws Exception {
+        Bundle bundle = createBundle(0, 1, 0, 0, 0, false, false, false, false, 0);
+        bundle.putLong(STATE_ELAPSED_TIME_IN_MILLIS, 42_000L);
+
+        SudokuViewModel restoredViewModel = new PrivatePoolSudokuViewModel();
+        restoredViewModel.restoreState(createBoardWithOnePastErrorAndOneOpenCell(), bundle);
+        awaitBoardAnalysis(restoredViewModel);
+
+        Shadows.shadowOf(Looper.getMainLooper()).idleFor(2, TimeUnit.SECONDS);
+
+        assertEquals(Long.valueOf(42_000L), restoredViewModel.getElapsedTimeInMillis().getValue());
+        assertFalse(restoredViewModel.saveState().second.getBoolean(STATE_IS_TIMER_RUNNING));
+    }
+
     /**
      * A paused game must survive save/restore without the timer advancing until resumed again.
      */
     @Test
     public void saveAndRestore_preservesPausedStateAndFrozenTimer() throws Exception {
-        SudokuViewModel originalViewModel = new SudokuViewModel();
+        SudokuViewModel originalViewModel = new PrivatePoolSudokuViewModel();
         Bundle originalBundle = createBundle(0, 1, 0, 0, 0, false, false, false, false, 0);
         originalBundle.putBoolean(STATE_IS_TIMER_RUNNING, true);
         originalBundle.putLong(STATE_ELAPSED_TIME_IN_MILLIS, 42_000L);
@@ -183,7 +201,7 @@ public class SudokuViewModelRestoreTest {
 
         Shadows.shadowOf(Looper.getMainLooper()).idleFor(5, TimeUnit.MINUTES);
 
-        SudokuViewModel restoredViewModel = new SudokuViewModel();
+        SudokuViewModel restoredViewModel = new PrivatePoolSudokuViewModel();
         restoredViewModel.restoreState(savedState.first, savedState.second);
 
         assertEquals(Boolean.TRUE, restoredViewModel.isPaused().getValue());
@@ -202,81 +220,34 @@ public class SudokuViewModelRestoreTest {
     /**
      * Builds a board with one historical error already committed and one open cell for the next move.
      */
-    private SudokuBoard createBoardWithOnePastErrorAndOneOpenCell() throws Exception {
-        SudokuBoard board = new SudokuBoard();
-        SudokuCell[][] cells = createFixedSolvedBoard();
-        cells[0][0] = new SudokuCell(9, false, false, null);
-        cells[0][1] = new SudokuCell(0, false, true, null);
-
-        configureBoard(board, cells);
-        getMoveHistory(board).push(new SudokuBoard.MoveRecord(0, 0, 0, 9, 0, true));
+    private SudokuBoard createBoardWithOnePastErrorAndOneOpenCell() {
+        SudokuBoard board = createBoardWithOpenCells(new int[][] { { 0, 0 }, { 0, 1 } });
+        board.setCellValue(0, 0, 9, 0, true);
         return board;
     }
 
     /**
      * Builds a solved board where the last winning move exists in move history.
      */
-    private SudokuBoard createWonBoardWithWinningMove() throws Exception {
-        SudokuBoard board = new SudokuBoard();
-        SudokuCell[][] cells = createFixedSolvedBoard();
-        cells[0][0] = new SudokuCell(SOLUTION[0][0], false, true, null);
-
-        configureBoard(board, cells);
-        getMoveHistory(board).push(new SudokuBoard.MoveRecord(0, 0, 0, SOLUTION[0][0], 10, false));
+    private SudokuBoard createWonBoardWithWinningMove() {
+        SudokuBoard board = createBoardWithOpenCells(new int[][] { { 0, 0 } });
+        board.setCellValue(0, 0, SOLUTION[0][0], 10, false);
         return board;
     }
 
     /**
-     * Injects deterministic board internals for state-restore tests.
+     * Creates a deterministic EASY board from the fixed solution with the given cells left open.
      */
-    private void configureBoard(SudokuBoard board, SudokuCell[][] cells) throws Exception {
-        setField(board, "currentDifficulty", SudokuBoard.Difficulty.EASY);
-        setField(board, "solutionBoard", copySolution());
-        setField(board, "board", cells);
-        getMoveHistory(board).clear();
-    }
-
-    /**
-     * Creates a fully fixed solved board fixture.
-     */
-    private SudokuCell[][] createFixedSolvedBoard() {
-        SudokuCell[][] cells = new SudokuCell[9][9];
+    private SudokuBoard createBoardWithOpenCells(int[][] openCells) {
+        int[] solution = new int[81];
         for (int row = 0; row < 9; row++) {
-            for (int col = 0; col < 9; col++) {
-                cells[row][col] = new SudokuCell(SOLUTION[row][col], true, true, null);
-            }
+            System.arraycopy(SOLUTION[row], 0, solution, row * 9, 9);
         }
-        return cells;
-    }
-
-    /**
-     * Returns a defensive copy of the fixed solution matrix.
-     */
-    private int[][] copySolution() {
-        int[][] copy = new int[9][9];
-        for (int row = 0; row < 9; row++) {
-            System.arraycopy(SOLUTION[row], 0, copy[row], 0, 9);
+        int[] givens = solution.clone();
+        for (int[] openCell : openCells) {
+            givens[openCell[0] * 9 + openCell[1]] = 0;
         }
-        return copy;
-    }
-
-    /**
-     * Reflection helper to inspect and manipulate move history for deterministic restore scenarios.
-     */
-    @SuppressWarnings("unchecked")
-    private Stack<SudokuBoard.MoveRecord> getMoveHistory(SudokuBoard board) throws Exception {
-        Field movesHistoryField = SudokuBoard.class.getDeclaredField("movesHistory");
-        movesHistoryField.setAccessible(true);
-        return (Stack<SudokuBoard.MoveRecord>) movesHistoryField.get(board);
-    }
-
-    /**
-     * Reflection helper used to set private fields on board instances.
-     */
-    private void setField(Object target, String fieldName, Object value) throws Exception {
-        Field field = target.getClass().getDeclaredField(fieldName);
-        field.setAccessible(true);
-        field.set(target, value);
+        return SudokuBoard.fromPuzzle(SudokuBoard.Difficulty.EASY, givens, solution);
     }
 
     /**
@@ -303,4 +274,16 @@ public class SudokuViewModelRestoreTest {
         bundle.putInt(STATE_AWARDED_COMPLETION_BONUS, awardedCompletionBonus);
         return bundle;
     }
+
+    /**
+     * View model backed by its own pool whose refills never run, so tests neither share nor wait for pooled puzzles.
+     */
+    private static final class PrivatePoolSudokuViewModel extends SudokuViewModel {
+        private final PuzzlePool puzzlePool = new PuzzlePool(PuzzlePool.DEFAULT_CAPACITY, refill -> { });
+
+        @Override
+        protected PuzzlePool getPuzzlePool() {
+            return puzzlePool;
+        }
+    }
 }
@@ -0,0 +1,41 @@
+package com.example.sudoku.benchmark;
+
+import com.example.sudoku.engine.CandidateMasks;
+
+/**
+ * Fixed, uniquely solvable puzzles so every benchmark run measures the same work.
+ */
+final class BenchmarkPuzzles {
+
+    /** Classic 30-clue newspaper puzzle, solved almost entirely by naked singles. */
+    static final String CLASSIC =
+            "530070000600195000098000060800060003400803001700020006060000280000419005000080079";
+    /** 21-clue puzzle published by Arto Inkala, which forces deep branching. */
+    static final String INKALA =
+            "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+    /** Solution of {@link #CLASSIC}. */
+    static final String CLASSIC_SOLUTION =
+            "534678912672195348198342567859761423426853791713924856961537284287419635345286179";
+
+    private BenchmarkPuzzles() {
+    }
+
+    static String byName(String name) {
+        switch (name) {
+            case "CLASSIC":
+                return CLASSIC;
+            case "INKALA":
+                return INKALA;
+            default:
+                throw new IllegalArgumentException("Unknown puzzle " + name);
+        }
+    }
+
+    static int[] parse(String grid) {
+        int[] cells = new int[CandidateMasks.CELL_COUNT];
+        for (int index = 0; index < cells.length; index++) {
+            cells[index] = grid.charAt(index) - '0';
+        }
+        return cells;
+    }
+}
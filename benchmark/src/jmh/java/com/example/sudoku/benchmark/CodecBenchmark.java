@@ -0,0 +1,48 @@
+package com.example.sudoku.benchmark;
+
+import com.example.sudoku.engine.CandidateMasks;
+import com.example.sudoku.engine.PackedBoardCodec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trips through the packed encodings that make up the board parcel, the disk cache and the puzzle pool.
+ * {@code android.os.Parcel} itself needs the Android runtime, so these cover the engine-side part of a parcel.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CodecBenchmark {
+
+    private final int[] givens = BenchmarkPuzzles.parse(BenchmarkPuzzles.CLASSIC);
+    private final int[] solution = BenchmarkPuzzles.parse(BenchmarkPuzzles.CLASSIC_SOLUTION);
+    private final int[] noteMasks = new int[CandidateMasks.CELL_COUNT];
+    private final int[] unpackedGivens = new int[CandidateMasks.CELL_COUNT];
+    private final int[] unpackedSolution = new int[CandidateMasks.CELL_COUNT];
+    private final int[] unpackedNotes = new int[CandidateMasks.CELL_COUNT];
+
+    public CodecBenchmark() {
+        for (int index = 0; index < noteMasks.length; index++) {
+            noteMasks[index] = givens[index] == 0 ? (index * 37) & CandidateMasks.ALL_DIGITS : 0;
+        }
+    }
+
+    @Benchmark
+    public int[] puzzleRoundTrip() {
+        PackedBoardCodec.unpackPuzzle(PackedBoardCodec.packPuzzle(givens, solution), unpackedGivens, unpackedSolution);
+        return unpackedSolution;
+    }
+
+    @Benchmark
+    public int[] notesRoundTrip() {
+        PackedBoardCodec.unpackNotes(PackedBoardCodec.packNotes(noteMasks), unpackedNotes);
+        return unpackedNotes;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.sudoku.benchmark;
+
+import com.example.sudoku.SudokuBoard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end puzzle generation and board serialization through {@link SudokuBoard}, the same path the app runs on its
+ * generation executor and when saving a game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GenerationBenchmark {
+
+    @Param({"EASY", "MEDIUM", "HARD", "EXPERT"})
+    public SudokuBoard.Difficulty difficulty;
+
+    // Attempts raced at once; 1 generates on the benchmark thread.
+    @Param({"1", "4"})
+    public int parallelism;
+
+    private final SudokuBoard board = new SudokuBoard();
+    private ExecutorService workers;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        if (parallelism > 1) {
+            workers = Executors.newFixedThreadPool(parallelism);
+            board.setParallelGeneration(workers, parallelism);
+        }
+        board.generateNewPuzzle(difficulty);
+        payload = board.toByteArray();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public SudokuBoard generate() throws InterruptedException {
+        board.generateNewPuzzle(difficulty);
+        return board;
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return board.toByteArray();
+    }
+
+    @Benchmark
+    public SudokuBoard decode() {
+        return SudokuBoard.fromByteArray(payload);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.sudoku.benchmark;
+
+import com.example.sudoku.engine.CandidateMasks;
+import com.example.sudoku.engine.SolutionGridFiller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Random complete-grid filling, the first stage of every generation attempt.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GridFillBenchmark {
+
+    private final SolutionGridFiller filler = new SolutionGridFiller(new Random(42));
+    private final CandidateMasks masks = new CandidateMasks();
+
+    @Benchmark
+    public CandidateMasks fill() {
+        filler.fill(masks);
+        return masks;
+    }
+}
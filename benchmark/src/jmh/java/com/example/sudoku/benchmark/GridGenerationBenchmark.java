@@ -0,0 +1,48 @@
+package com.example.sudoku.benchmark;
+
+import com.example.sudoku.engine.GridGeometry;
+import com.example.sudoku.engine.GridPuzzleGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Puzzle generation on larger grids with {@link GridPuzzleGenerator}, removing about 55% of the cells of each grid.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GridGenerationBenchmark {
+
+    @Param({"2", "3", "4"})
+    public int boxSize;
+
+    private GridPuzzleGenerator generator;
+    private int[] givens;
+    private int[] solution;
+    private int cellsToRemove;
+
+    @Setup
+    public void setUp() {
+        GridGeometry geometry = GridGeometry.of(boxSize);
+        generator = new GridPuzzleGenerator(geometry, new Random(42));
+        givens = new int[geometry.getCellCount()];
+        solution = new int[geometry.getCellCount()];
+        cellsToRemove = geometry.getCellCount() * 55 / 100;
+    }
+
+    @Benchmark
+    public int[] generate() throws InterruptedException {
+        generator.generate(cellsToRemove, givens, solution);
+        return givens;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.sudoku.benchmark;
+
+import com.example.sudoku.SudokuBoard;
+import com.example.sudoku.engine.CandidateMasks;
+import com.example.sudoku.engine.Hint;
+import com.example.sudoku.engine.HintEngine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One hint on the givens of a seeded puzzle, cycling through a fixed set per difficulty. The givens are the hardest
+ * position of a game to hint on for EXPERT and HARD, where the first placement may need several eliminations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HintBenchmark {
+
+    private static final int PUZZLE_COUNT = 64;
+
+    @Param({"EASY", "HARD", "EXPERT"})
+    public String difficulty;
+
+    private final HintEngine engine = new HintEngine();
+    private final int[][] puzzles = new int[PUZZLE_COUNT][CandidateMasks.CELL_COUNT];
+    private final int[][] solutions = new int[PUZZLE_COUNT][CandidateMasks.CELL_COUNT];
+    private int next;
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        SudokuBoard board = new SudokuBoard();
+        for (int seed = 0; seed < PUZZLE_COUNT; seed++) {
+            board.generateNewPuzzle(SudokuBoard.Difficulty.valueOf(difficulty), seed);
+            board.copyGivensTo(puzzles[seed]);
+            board.copySolutionTo(solutions[seed]);
+        }
+    }
+
+    @Benchmark
+    public Hint findHint() {
+        int puzzle = next;
+        next = (next + 1) % PUZZLE_COUNT;
+        return engine.findHint(puzzles[puzzle], solutions[puzzle]);
+    }
+}
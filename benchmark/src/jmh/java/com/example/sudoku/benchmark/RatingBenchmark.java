@@ -0,0 +1,52 @@
+package com.example.sudoku.benchmark;
+
+import com.example.sudoku.SudokuBoard;
+import com.example.sudoku.engine.CandidateMasks;
+import com.example.sudoku.engine.DifficultyRating;
+import com.example.sudoku.engine.LogicalSolver;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Technique-based rating of one puzzle, cycling through a fixed set of seeded puzzles per difficulty so the average
+ * covers puzzles that logic solves and puzzles where it gets stuck.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RatingBenchmark {
+
+    private static final int PUZZLE_COUNT = 64;
+
+    @Param({"EASY", "HARD"})
+    public String difficulty;
+
+    private final LogicalSolver solver = new LogicalSolver();
+    private final int[][] puzzles = new int[PUZZLE_COUNT][CandidateMasks.CELL_COUNT];
+    private int next;
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        SudokuBoard board = new SudokuBoard();
+        for (int seed = 0; seed < PUZZLE_COUNT; seed++) {
+            board.generateNewPuzzle(SudokuBoard.Difficulty.valueOf(difficulty), seed);
+            board.copyGivensTo(puzzles[seed]);
+        }
+    }
+
+    @Benchmark
+    public DifficultyRating rate() {
+        int[] puzzle = puzzles[next];
+        next = (next + 1) % PUZZLE_COUNT;
+        return solver.rate(puzzle);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.sudoku.benchmark;
+
+import com.example.sudoku.SudokuBoard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays one seeded generation, such as a slow puzzle whose seed was read from a saved game. Override the seed with
+ * {@code -p seed=<value>} when running the JMH jar directly.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SeededGenerationBenchmark {
+
+    @Param({"HARD"})
+    public SudokuBoard.Difficulty difficulty;
+
+    @Param({"42"})
+    public long seed;
+
+    private final SudokuBoard board = new SudokuBoard();
+
+    @Benchmark
+    public SudokuBoard replay() throws InterruptedException {
+        board.generateNewPuzzle(difficulty, seed);
+        return board;
+    }
+}
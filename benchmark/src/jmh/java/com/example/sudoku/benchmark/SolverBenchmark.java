@@ -0,0 +1,44 @@
+package com.example.sudoku.benchmark;
+
+import com.example.sudoku.engine.SolverEngine;
+import com.example.sudoku.engine.SudokuSolver;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uniqueness counting ({@code countSolutions(cells, 2)}), the query issued once per removed clue during generation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SolverBenchmark {
+
+    @Param({"NAIVE", "BITMASK", "DANCING_LINKS"})
+    public String engine;
+
+    @Param({"CLASSIC", "INKALA"})
+    public String puzzle;
+
+    private SudokuSolver solver;
+    private int[] cells;
+
+    @Setup
+    public void setUp() {
+        solver = SolverEngine.valueOf(engine).create();
+        cells = BenchmarkPuzzles.parse(BenchmarkPuzzles.byName(puzzle));
+    }
+
+    @Benchmark
+    public int countSolutions() throws InterruptedException {
+        return solver.countSolutions(cells, 2);
+    }
+}
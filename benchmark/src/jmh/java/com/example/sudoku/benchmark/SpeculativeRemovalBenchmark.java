@@ -0,0 +1,54 @@
+package com.example.sudoku.benchmark;
+
+import com.example.sudoku.SudokuBoard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HARD generation with clue removals probed in speculative batches on worker threads, against the one-at-a-time path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpeculativeRemovalBenchmark {
+
+    // Removals probed at once; 1 checks them on the benchmark thread.
+    @Param({"1", "2", "4", "8"})
+    public int batchSize;
+
+    private final SudokuBoard board = new SudokuBoard();
+    private ExecutorService workers;
+
+    @Setup
+    public void setUp() {
+        if (batchSize > 1) {
+            workers = Executors.newFixedThreadPool(batchSize);
+            board.setSpeculativeRemoval(workers, batchSize);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public SudokuBoard generateHard() throws InterruptedException {
+        board.generateNewPuzzle(SudokuBoard.Difficulty.HARD);
+        return board;
+    }
+}
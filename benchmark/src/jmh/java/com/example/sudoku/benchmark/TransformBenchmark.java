@@ -0,0 +1,38 @@
+package com.example.sudoku.benchmark;
+
+import com.example.sudoku.engine.CandidateMasks;
+import com.example.sudoku.engine.PuzzleTransformer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Minting a new puzzle by transforming a base, the pool's fallback when no generated puzzle is ready. Compare with
+ * {@link GenerationBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransformBenchmark {
+
+    private final PuzzleTransformer transformer = new PuzzleTransformer(new Random(42));
+    private final int[] baseGivens = BenchmarkPuzzles.parse(BenchmarkPuzzles.CLASSIC);
+    private final int[] baseSolution = BenchmarkPuzzles.parse(BenchmarkPuzzles.CLASSIC_SOLUTION);
+    private final int[] givens = new int[CandidateMasks.CELL_COUNT];
+    private final int[] solution = new int[CandidateMasks.CELL_COUNT];
+
+    @Benchmark
+    public int[] transform() {
+        System.arraycopy(baseGivens, 0, givens, 0, CandidateMasks.CELL_COUNT);
+        System.arraycopy(baseSolution, 0, solution, 0, CandidateMasks.CELL_COUNT);
+        transformer.transform(givens, solution);
+        return givens;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.sudoku.benchmark;
+
+import com.example.sudoku.SudokuBoard;
+import com.example.sudoku.engine.CandidateMasks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rule validation of a grid. The {@link CandidateMasks#load(int[])} benchmarks rescan every cell, which is what
+ * {@code SudokuBoard.isCurrentBoardStateValidAccordingToRules} cost before the board kept per-house digit counts. The
+ * board benchmarks measure what it runs now: the constant-time read of those counts, and the count update that
+ * {@code setCellValue} and {@code undoMove} pay on every move instead.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationBenchmark {
+
+    private final CandidateMasks masks = new CandidateMasks();
+    private final int[] puzzle = BenchmarkPuzzles.parse(BenchmarkPuzzles.CLASSIC);
+    private final int[] solution = BenchmarkPuzzles.parse(BenchmarkPuzzles.CLASSIC_SOLUTION);
+    private final SudokuBoard board = SudokuBoard.fromPuzzle(SudokuBoard.Difficulty.EASY, puzzle, solution);
+    private final int openRow;
+    private final int openCol;
+    private final int clashingDigit;
+
+    public ValidationBenchmark() {
+        int index = 0;
+        while (puzzle[index] != 0) {
+            index++;
+        }
+        openRow = index / CandidateMasks.SIZE;
+        openCol = index % CandidateMasks.SIZE;
+        // A clue of the same row, so placing it adds a duplicate to the counts.
+        int clue = openRow * CandidateMasks.SIZE;
+        while (puzzle[clue] == 0) {
+            clue++;
+        }
+        clashingDigit = puzzle[clue];
+    }
+
+    @Benchmark
+    public boolean validatePuzzle() {
+        return masks.load(puzzle);
+    }
+
+    @Benchmark
+    public boolean validateSolution() {
+        return masks.load(solution);
+    }
+
+    @Benchmark
+    public boolean validateBoard() {
+        return board.isCurrentBoardStateValidAccordingToRules();
+    }
+
+    @Benchmark
+    public SudokuBoard.MoveRecord placeAndUndoCorrectDigit() {
+        board.setCellValue(openRow, openCol, solution[openRow * CandidateMasks.SIZE + openCol], 0, false);
+        return board.undoMove();
+    }
+
+    @Benchmark
+    public boolean placeAndUndoClashingDigit() {
+        board.setCellValue(openRow, openCol, clashingDigit, 0, true);
+        boolean valid = board.isCurrentBoardStateValidAccordingToRules();
+        board.undoMove();
+        return valid;
+    }
+}
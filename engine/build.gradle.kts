@@ -0,0 +1,15 @@
+// Pure-Java puzzle engine shared by the Android app and the JVM benchmarks; it must not depend on Android APIs.
+plugins {
+    `java-library`
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_21
+    targetCompatibility = JavaVersion.VERSION_21
+}
+
+dependencies {
+    // JVM-only annotations jar; keeps @NonNull/@Nullable on the shared board API without pulling in Android.
+    implementation(libs.androidx.annotation)
+    testImplementation(libs.junit)
+}
@@ -0,0 +1,189 @@
+package com.example.sudoku;
+
+import androidx.annotation.Nullable;
+
+import com.example.sudoku.engine.BoardState;
+import com.example.sudoku.engine.CandidateMasks;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Immutable picture of what the grid shows after one move: per cell the value, the fixed and correctness flags and the
+ * notes, plus the set of cells that differ from the snapshot it was taken after. Observers that rendered that earlier
+ * snapshot only need to touch the changed cells.
+ * <p>
+ * Each row is stored as its own array, and a row without changes is shared with the earlier snapshot instead of
+ * copied, so a move allocates one row of 9 ints per row it changed and reads only the cells it wrote. Every snapshot
+ * gets a process-wide unique {@link #getVersion() version}; {@link #getBaseVersion()} names the snapshot the changes
+ * are relative to.
+ * <p>
+ * Instances are immutable and safe to hand to another thread.
+ */
+public final class BoardSnapshot {
+
+    /**
+     * Base version of a snapshot taken without an earlier one; every cell counts as changed.
+     */
+    public static final long NO_BASE_VERSION = -1L;
+
+    private static final int SIZE = CandidateMasks.SIZE;
+    private static final int WORDS = (CandidateMasks.CELL_COUNT + 63) >>> 6;
+    private static final AtomicLong NEXT_VERSION = new AtomicLong();
+
+    // Bits 0-3 hold the value, bit 4 the fixed flag, bit 5 the correct flag and bits 6-14 the note mask.
+    private static final int VALUE_MASK = 0xF;
+    private static final int FIXED_FLAG = 1 << 4;
+    private static final int CORRECT_FLAG = 1 << 5;
+    private static final int NOTES_SHIFT = 6;
+
+    // Row-major cells, one packed int per cell; rows may be shared with earlier snapshots.
+    private final int[][] rows;
+    private final long[] changedCells;
+    private final int changedCount;
+    private final long version;
+    private final long baseVersion;
+
+    private BoardSnapshot(int[][] rows, long[] changedCells, int changedCount, long baseVersion) {
+        this.rows = rows;
+        this.changedCells = changedCells;
+        this.changedCount = changedCount;
+        this.version = NEXT_VERSION.getAndIncrement();
+        this.baseVersion = baseVersion;
+    }
+
+    /**
+     * Captures {@code state}. With a {@code previous} snapshot only the cells written since the last capture (the
+     * placed cell, the peers whose notes it pruned, an edited note) are read and compared, and the rows without changes
+     * are shared.
+     *
+     * @param previous The latest snapshot captured from the same {@code state}, or {@code null} to read every cell and
+     *                 mark it as changed.
+     */
+    static BoardSnapshot capture(BoardState state, @Nullable BoardSnapshot previous) {
+        long[] touchedCells = new long[WORDS];
+        state.drainDirtyCells(touchedCells);
+        int[][] rows = new int[SIZE][];
+        long[] changedCells = new long[WORDS];
+        if (previous == null) {
+            for (int row = 0; row < SIZE; row++) {
+                rows[row] = new int[SIZE];
+                for (int col = 0; col < SIZE; col++) {
+                    int index = row * SIZE + col;
+                    rows[row][col] = pack(state, index);
+                    changedCells[index >>> 6] |= 1L << index;
+                }
+            }
+            return new BoardSnapshot(rows, changedCells, CandidateMasks.CELL_COUNT, NO_BASE_VERSION);
+        }
+
+        System.arraycopy(previous.rows, 0, rows, 0, SIZE);
+        int copiedRows = 0;
+        int changedCount = 0;
+        for (int word = 0; word < WORDS; word++) {
+            for (long bits = touchedCells[word]; bits != 0; bits &= bits - 1) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                int row = index / SIZE;
+                int col = index % SIZE;
+                int packed = pack(state, index);
+                if (rows[row][col] == packed) {
+                    continue;
+                }
+                if ((copiedRows & (1 << row)) == 0) {
+                    rows[row] = rows[row].clone();
+                    copiedRows |= 1 << row;
+                }
+                rows[row][col] = packed;
+                changedCells[word] |= 1L << index;
+                changedCount++;
+            }
+        }
+        return new BoardSnapshot(rows, changedCells, changedCount, previous.version);
+    }
+
+    private static int pack(BoardState state, int index) {
+        return state.getValue(index)
+                | (state.isFixed(index) ? FIXED_FLAG : 0)
+                | (state.isCorrect(index) ? CORRECT_FLAG : 0)
+                | state.getNoteMask(index) << NOTES_SHIFT;
+    }
+
+    /**
+     * @return Unique identifier of this snapshot.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return Version of the snapshot the changed cells are relative to, or {@link #NO_BASE_VERSION}.
+     */
+    public long getBaseVersion() {
+        return baseVersion;
+    }
+
+    /**
+     * @return Number of cells that differ from the base snapshot.
+     */
+    public int getChangedCount() {
+        return changedCount;
+    }
+
+    /**
+     * @param index Row-major cell index.
+     * @return {@code true} when the cell differs from the base snapshot.
+     */
+    public boolean isChanged(int index) {
+        return (changedCells[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Iterates the changed cells in the style of {@link java.util.BitSet#nextSetBit(int)}.
+     *
+     * @param fromIndex Row-major index to start from, inclusive.
+     * @return The first changed cell at or after {@code fromIndex}, or {@code -1} when there is none.
+     */
+    public int nextChangedCell(int fromIndex) {
+        int word = fromIndex >>> 6;
+        if (word >= changedCells.length) {
+            return -1;
+        }
+        long bits = changedCells[word] & (-1L << fromIndex);
+        while (true) {
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            if (++word == changedCells.length) {
+                return -1;
+            }
+            bits = changedCells[word];
+        }
+    }
+
+    /**
+     * @return Value of the cell, or {@code 0} when empty.
+     */
+    public int getValue(int row, int col) {
+        return rows[row][col] & VALUE_MASK;
+    }
+
+    /**
+     * @return {@code true} for a puzzle clue.
+     */
+    public boolean isFixed(int row, int col) {
+        return (rows[row][col] & FIXED_FLAG) != 0;
+    }
+
+    /**
+     * @return {@code true} unless the cell holds a user entry that disagrees with the solution.
+     */
+    public boolean isCorrect(int row, int col) {
+        return (rows[row][col] & CORRECT_FLAG) != 0;
+    }
+
+    /**
+     * @return The notes of the cell as a mask where bit {@code d - 1} stands for digit {@code d}.
+     */
+    public int getNoteMask(int row, int col) {
+        return rows[row][col] >>> NOTES_SHIFT;
+    }
+}
@@ -0,0 +1,1331 @@
+package com.example.sudoku;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.sudoku.engine.BoardState;
+import com.example.sudoku.engine.CandidateMasks;
+import com.example.sudoku.engine.DifficultyRating;
+import com.example.sudoku.engine.GenerationStatistics;
+import com.example.sudoku.engine.GridGeometry;
+import com.example.sudoku.engine.Hint;
+import com.example.sudoku.engine.HintEngine;
+import com.example.sudoku.engine.HouseCounts;
+import com.example.sudoku.engine.LogicalSolver;
+import com.example.sudoku.engine.PackedBoardCodec;
+import com.example.sudoku.engine.SearchStatistics;
+import com.example.sudoku.engine.SolutionGridFiller;
+import com.example.sudoku.engine.SolverEngine;
+import com.example.sudoku.engine.SudokuSolver;
+import com.example.sudoku.engine.Technique;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Stack;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents the state and logic of a Sudoku board. This class manages puzzle generation, move validation, cell states,
+ * and the history of moves for the undo functionality.
+ */
+public class SudokuBoard {
+
+    private static final int MAX_PUZZLE_GENERATION_ATTEMPTS = 8;
+    // Retreats from a carve that came out easier than its band; see liftIntoBand.
+    private static final int MAX_BAND_RETREATS = 10;
+    private static final int BAND_RETREAT_DEPTH = 16;
+    // Bumped whenever the serialized layout changes; older payloads are rejected instead of being misread.
+    // Versions 1 and 2 were Android parcel layouts; version 3 is still read, without a generation seed.
+    // Version 4 is still read, without pruned notes in the move history.
+    private static final int SERIAL_FORMAT_VERSION = 5;
+    private static final int SEEDED_SERIAL_FORMAT_VERSION = 4;
+    private static final int UNSEEDED_SERIAL_FORMAT_VERSION = 3;
+
+    /**
+     * Enum for Sudoku difficulty levels. It determines how many numbers are removed from a fully solved grid, and the
+     * band of human techniques the puzzle must need: the hardest technique required by {@link LogicalSolver} lies
+     * between {@link #easiestTechnique} and {@link #hardestTechnique}.
+     * <p>
+     * {@link #EXPERT} has no band. It carves minimal puzzles instead: clues are removed until every remaining one is
+     * essential to uniqueness, {@link #cellsToRemove} is the fewest removals accepted (at most 25 clues), and the
+     * puzzle may need more than the techniques {@link LogicalSolver} knows.
+     */
+    public enum Difficulty {
+        EASY(35, Technique.HIDDEN_SINGLE, Technique.HIDDEN_SINGLE),
+        MEDIUM(45, Technique.NAKED_SINGLE, Technique.LOCKED_CANDIDATES),
+        HARD(55, Technique.NAKED_PAIR, Technique.XY_WING),
+        EXPERT(56, null, null);
+
+        public final int cellsToRemove;
+        @Nullable
+        public final Technique easiestTechnique;
+        @Nullable
+        public final Technique hardestTechnique;
+
+        Difficulty(int cellsToRemove, @Nullable Technique easiestTechnique, @Nullable Technique hardestTechnique) {
+            this.cellsToRemove = cellsToRemove;
+            this.easiestTechnique = easiestTechnique;
+            this.hardestTechnique = hardestTechnique;
+        }
+
+        /**
+         * @return {@code true} when puzzles are carved down to a minimal clue set rather than to a technique band.
+         */
+        public boolean isMinimal() {
+            return hardestTechnique == null;
+        }
+    }
+
+    /**
+     * A private static nested class to represent a single move made by the user. Used for the move history stack. Making it
+     * static means it doesn't hold an implicit reference to the outer SudokuBoard instance.
+     */
+    public static class MoveRecord {
+        final int row;
+        final int col;
+        final int oldValue;
+        final int newValue;
+        final int scoreChange;
+        final boolean wasError;
+        // Bit i is set when the move removed its digit from the notes of peer i, in GridGeometry peer order.
+        final int prunedPeers;
+
+        MoveRecord(int row, int col, int oldValue, int newValue, int scoreChange, boolean wasError,
+                int prunedPeers) {
+            this.row = row;
+            this.col = col;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+            this.scoreChange = scoreChange;
+            this.wasError = wasError;
+            this.prunedPeers = prunedPeers;
+        }
+
+        /**
+         * @return Effective score delta applied when this move was recorded.
+         */
+        public int getScoreChange() {
+            return scoreChange;
+        }
+
+        /**
+         * @return {@code true} when this move represented an incorrect input.
+         */
+        public boolean wasError() {
+            return wasError;
+        }
+    }
+
+    private Difficulty currentDifficulty;
+    // The complete solution grid in row-major order, generated at the start.
+    // Used to check the correctness of user moves.
+    private final int[] solutionValues = new int[CandidateMasks.CELL_COUNT];
+
+    // The game grid visible to the user, stored as flat arrays and reused across generations.
+    private final BoardState state = new BoardState();
+    // One SudokuCell view per index of the state, created once per board.
+    private final SudokuCell[] cells = createCellViews(state);
+    // Digit counts per house of the values in state. Moves update them in place; bulk writes (generation, decoding)
+    // recount them once at the end.
+    private final HouseCounts houseCounts = new HouseCounts();
+    private boolean autoRemoveNotes;
+
+    // Stack to track moves for the undo feature.
+    private final Stack<MoveRecord> movesHistory;
+
+    // Draws the seed of every unseeded generation.
+    private final Random seedSource;
+    // Drives grid filling and clue removal; reseeded at the start of every generation.
+    private final Random random = new Random();
+    // Seed that reproduces the current puzzle through generateNewPuzzle(Difficulty, long), if it was generated here.
+    private long generationSeed;
+    private boolean hasGenerationSeed;
+
+    // Scratch occupancy masks used while filling the solution grid.
+    private final CandidateMasks masks = new CandidateMasks();
+    private final SolutionGridFiller gridFiller;
+    // Scratch buffers reused by every generation attempt: removal order and the puzzle handed to the solver.
+    private final int[] removalOrder = new int[CandidateMasks.CELL_COUNT];
+    private final int[] puzzleValues = new int[CandidateMasks.CELL_COUNT];
+
+    // Engine backing uniqueness checks; the solver itself is created on first generation and then reused.
+    private final SolverEngine solverEngine;
+    private SudokuSolver uniquenessSolver;
+    // Rates puzzles by the human techniques they need, and keeps every removal of a generation within the band;
+    // created on first use.
+    private LogicalSolver logicalSolver;
+    // Suggests the next move on the played grid; created on first use.
+    private HintEngine hintEngine;
+    // Running difficulty estimate of the attempt being carved: hardest technique needed by its last accepted removal.
+    private Technique carvedHardestTechnique;
+    // Position in removalOrder after the last removal of the attempt being carved.
+    private int nextRemovalCursor;
+    private long attemptRatingNanos;
+    private final GenerationStatistics generationStatistics = new GenerationStatistics();
+
+    // Optional workers for racing generation attempts; see setParallelGeneration.
+    private ExecutorService generationWorkers;
+    private int generationParallelism = 1;
+
+    // Optional workers probing batches of clue removals; see setSpeculativeRemoval. Per-probe buffers are created
+    // with the workers and reused by every batch.
+    private ExecutorService probeWorkers;
+    private int probeBatchSize;
+    private SudokuSolver[] probeSolvers;
+    private int[][] probeGrids;
+    private int[] probePositions;
+    private int[] probeCursors;
+    private boolean[] probeResults;
+    private List<Callable<Void>> probeTasks;
+
+    /**
+     * Default constructor. Initializes the board structures with the {@link SolverEngine#DEFAULT} solver. The puzzle
+     * itself must be generated by calling generateNewPuzzle().
+     */
+    public SudokuBoard() {
+        this(SolverEngine.DEFAULT);
+    }
+
+    /**
+     * Initializes the board structures and selects the engine used for uniqueness checks during generation.
+     *
+     * @param solverEngine Engine that backs {@link #generateNewPuzzle(Difficulty)}.
+     */
+    public SudokuBoard(@NonNull SolverEngine solverEngine) {
+        this(solverEngine, new Random());
+    }
+
+    /**
+     * Initializes the board with an explicit source for the seeds of unseeded generations, so tests can reproduce them.
+     */
+    SudokuBoard(@NonNull SolverEngine solverEngine, @NonNull Random seedSource) {
+        this.solverEngine = solverEngine;
+        this.seedSource = seedSource;
+        this.gridFiller = new SolutionGridFiller(random);
+        this.currentDifficulty = Difficulty.MEDIUM;
+        this.movesHistory = new Stack<>();
+    }
+
+    /**
+     * Rebuilds a fresh, unplayed board from a stored puzzle, such as a record of the on-disk puzzle cache.
+     *
+     * @param difficulty Difficulty the puzzle was generated for.
+     * @param givens     Row-major clues, 0 for empty cells.
+     * @param solution   Row-major complete solution; every given must match it.
+     * @return A board whose givens are fixed cells, whose history is empty and which has no generation seed.
+     * @throws IllegalArgumentException If the grids are malformed or inconsistent with each other.
+     */
+    @NonNull
+    public static SudokuBoard fromPuzzle(@NonNull Difficulty difficulty, @NonNull int[] givens,
+            @NonNull int[] solution) {
+        if (givens.length != CandidateMasks.CELL_COUNT || solution.length != CandidateMasks.CELL_COUNT) {
+            throw new IllegalArgumentException("Puzzle grids must hold " + CandidateMasks.CELL_COUNT + " cells.");
+        }
+        if (!new CandidateMasks().load(solution)) {
+            throw new IllegalArgumentException("Solution breaks the Sudoku rules.");
+        }
+
+        SudokuBoard result = new SudokuBoard();
+        result.currentDifficulty = difficulty;
+        for (int index = 0; index < CandidateMasks.CELL_COUNT; index++) {
+            int value = solution[index];
+            int given = givens[index];
+            if (value < 1 || value > CandidateMasks.SIZE || (given != 0 && given != value)) {
+                throw new IllegalArgumentException("Givens do not match the solution at cell " + index + ".");
+            }
+            result.solutionValues[index] = value;
+            result.state.setValue(index, given);
+            result.state.setFixed(index, given != 0);
+        }
+        result.houseCounts.load(result.state);
+        return result;
+    }
+
+    /**
+     * Rebuilds a fresh, unplayed board from a puzzle packed by {@link #toPackedPuzzle()}, generation seed included.
+     *
+     * @param difficulty Difficulty the puzzle was generated for.
+     * @param packed     {@link PackedBoardCodec#SEEDED_PUZZLE_BYTES} bytes holding the givens, the solution and the
+     *                   seed.
+     * @return A board whose givens are fixed cells and whose history is empty.
+     * @throws IllegalArgumentException If the payload is malformed or inconsistent.
+     */
+    @NonNull
+    public static SudokuBoard fromPackedPuzzle(@NonNull Difficulty difficulty, @NonNull byte[] packed) {
+        int[] givens = new int[CandidateMasks.CELL_COUNT];
+        int[] solution = new int[CandidateMasks.CELL_COUNT];
+        boolean seeded = PackedBoardCodec.unpackSeededPuzzle(packed, givens, solution);
+        SudokuBoard board = fromPuzzle(difficulty, givens, solution);
+        if (seeded) {
+            board.generationSeed = PackedBoardCodec.readPuzzleSeed(packed);
+            board.hasGenerationSeed = true;
+        }
+        return board;
+    }
+
+    /**
+     * Generates a new Sudoku puzzle with the specified difficulty from a fresh random seed, which
+     * {@link #getGenerationSeed()} reports afterwards. When {@link #setParallelGeneration} supplied workers,
+     * independent attempts race on them and the first complete puzzle wins; its seed still replays it on a single
+     * thread.
+     *
+     * @param difficulty The difficulty level for the new puzzle.
+     * @throws InterruptedException  If the calling thread is interrupted; running racers are cancelled as well.
+     * @throws IllegalStateException If no attempt produced a unique puzzle.
+     */
+    public void generateNewPuzzle(Difficulty difficulty) throws InterruptedException {
+        if (generationWorkers != null && generationParallelism > 1) {
+            prepareGeneration(difficulty);
+            generateInParallel(difficulty);
+            return;
+        }
+        generateNewPuzzle(difficulty, seedSource.nextLong());
+    }
+
+    /**
+     * Generates the puzzle determined by {@code seed}. The same seed and difficulty always produce the same givens and
+     * solution, whatever the solver engine, speculative removal, or device, as long as the generation algorithm itself
+     * is unchanged. Racing workers are not used, since the order in which racers finish is not reproducible.
+     *
+     * @param difficulty The difficulty level for the new puzzle.
+     * @param seed       Seed of the generation, for example one reported by {@link #getGenerationSeed()}.
+     * @throws InterruptedException  If the calling thread is interrupted.
+     * @throws IllegalStateException If no attempt produced a unique puzzle.
+     */
+    public void generateNewPuzzle(Difficulty difficulty, long seed) throws InterruptedException {
+        prepareGeneration(difficulty);
+        random.setSeed(seed);
+        for (int attempt = 0; attempt < MAX_PUZZLE_GENERATION_ATTEMPTS; attempt++) {
+            if (runGenerationAttempt(difficulty)) {
+                generationSeed = seed;
+                hasGenerationSeed = true;
+                return;
+            }
+        }
+
+        throw new IllegalStateException("Unable to generate a unique puzzle after " + MAX_PUZZLE_GENERATION_ATTEMPTS
+                + " attempts.");
+    }
+
+    /**
+     * @return {@code true} when the current puzzle was generated by this board (or a board it was copied or decoded
+     *         from), so {@link #getGenerationSeed()} can reproduce it.
+     */
+    public boolean hasGenerationSeed() {
+        return hasGenerationSeed;
+    }
+
+    /**
+     * Returns the seed that regenerates the current puzzle through {@link #generateNewPuzzle(Difficulty, long)}.
+     *
+     * @return The generation seed.
+     * @throws IllegalStateException If the puzzle was not generated from a seed, as for transformed pool puzzles.
+     */
+    public long getGenerationSeed() {
+        if (!hasGenerationSeed) {
+            throw new IllegalStateException("The current puzzle was not generated from a known seed.");
+        }
+        return generationSeed;
+    }
+
+    /**
+     * Lets {@link #generateNewPuzzle(Difficulty)} race up to {@code parallelism} attempts at once on {@code workers}.
+     * The attempt budget stays {@value #MAX_PUZZLE_GENERATION_ATTEMPTS} in total; racers claim attempts from it until
+     * one succeeds, and the rest are cancelled through interruption. {@code workers} must interrupt cancelled tasks, as
+     * {@link java.util.concurrent.ThreadPoolExecutor} does.
+     *
+     * @param workers     Executor running the racing attempts, or {@code null} to generate on the calling thread.
+     * @param parallelism Number of attempts run at once; values below 2 disable racing.
+     */
+    public void setParallelGeneration(@Nullable ExecutorService workers, int parallelism) {
+        this.generationWorkers = workers;
+        this.generationParallelism = Math.max(1, Math.min(parallelism, MAX_PUZZLE_GENERATION_ATTEMPTS));
+    }
+
+    /**
+     * Lets clue removal check up to {@code batchSize} candidate removals at once on {@code workers}. Each candidate is
+     * probed against the same snapshot and the results are committed in removal order, re-probing a candidate whenever
+     * an earlier commit in its batch changed the board, so the puzzle is identical to the one-at-a-time path for the
+     * same random sequence. Do not pass the executor given to {@link #setParallelGeneration}: racers would wait on
+     * probes queued behind themselves.
+     *
+     * @param workers   Executor running the probes, or {@code null} to check removals on the generating thread.
+     * @param batchSize Candidate removals probed at once; values below 2 disable speculation.
+     */
+    public void setSpeculativeRemoval(@Nullable ExecutorService workers, int batchSize) {
+        if (workers == null || batchSize < 2) {
+            probeWorkers = null;
+            probeBatchSize = 0;
+            probeSolvers = null;
+            probeGrids = null;
+            probePositions = null;
+            probeCursors = null;
+            probeResults = null;
+            probeTasks = null;
+            return;
+        }
+        probeWorkers = workers;
+        probeBatchSize = batchSize;
+        probeSolvers = new SudokuSolver[batchSize];
+        probeGrids = new int[batchSize][CandidateMasks.CELL_COUNT];
+        probePositions = new int[batchSize];
+        probeCursors = new int[batchSize];
+        probeResults = new boolean[batchSize];
+        probeTasks = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            int probe = i;
+            probeSolvers[probe] = solverEngine.create();
+            probeTasks.add(() -> {
+                int[] grid = probeGrids[probe];
+                System.arraycopy(puzzleValues, 0, grid, 0, CandidateMasks.CELL_COUNT);
+                grid[probePositions[probe]] = 0;
+                probeResults[probe] = probeSolvers[probe].isUnique(grid);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Retrieves the cell at the specified row and column.
+     *
+     * @param row The row (0-8).
+     * @param col The column (0-8).
+     * @return The SudokuCell at that position, or null if coordinates are out of bounds.
+     */
+    public SudokuCell getCell(int row, int col) {
+        if (isValidCoordinate(row, col)) {
+            return cells[row * CandidateMasks.SIZE + col];
+        }
+        return null;
+    }
+
+    /**
+     * Sets the value of a cell and records the move. The correctness of the input value is checked against the complete
+     * solution.
+     *
+     * @param row         The row (0-8).
+     * @param col         The column (0-8).
+     * @param value       The value (1-9) to insert. If 0, the cell is cleared.
+     * @param scoreChange The change in score associated with this move.
+     * @param wasError    True if the move was an error, false otherwise.
+     */
+    public void setCellValue(int row, int col, int value, int scoreChange, boolean wasError) {
+        if (!isValidCoordinate(row, col) || state.isFixed(row * CandidateMasks.SIZE + col)
+                || value < 0 || value > CandidateMasks.SIZE) {
+            return;
+        }
+
+        int index = row * CandidateMasks.SIZE + col;
+        int oldValue = state.getValue(index);
+
+        if (oldValue == value)
+            return;
+
+        state.setValue(index, value);
+        houseCounts.change(index, oldValue, value);
+        if (value != 0) {
+            state.setCorrect(index, value == solutionValues[index]);
+        } else {
+            state.setCorrect(index, true); // An empty cell is not considered "incorrect".
+        }
+
+        int prunedPeers = autoRemoveNotes && value != 0 ? pruneNotesAround(index, value) : 0;
+        movesHistory.push(new MoveRecord(row, col, oldValue, value, scoreChange, wasError, prunedPeers));
+    }
+
+    /**
+     * When enabled, placing a digit with {@link #setCellValue} also removes that digit from the notes of the cell's 20
+     * peers, and {@link #undoMove()} puts back exactly the notes the move removed.
+     *
+     * @param autoRemoveNotes {@code true} to prune peer notes on every placement from now on.
+     */
+    public void setAutoRemoveNotes(boolean autoRemoveNotes) {
+        this.autoRemoveNotes = autoRemoveNotes;
+    }
+
+    /**
+     * @return {@code true} when placements prune the digit from peer notes.
+     */
+    public boolean isAutoRemoveNotes() {
+        return autoRemoveNotes;
+    }
+
+    /**
+     * Returns the digits that no cell in the same row, column, or 3x3 subgrid shows, in constant time.
+     *
+     * @param row The row (0-8).
+     * @param col The column (0-8).
+     * @return A 9-bit mask where bit {@code d - 1} stands for digit {@code d}, or {@code 0} for filled cells and
+     *         invalid coordinates.
+     */
+    public int getCandidateMask(int row, int col) {
+        if (!isValidCoordinate(row, col)) {
+            return 0;
+        }
+        int index = row * CandidateMasks.SIZE + col;
+        return state.getValue(index) != 0 ? 0 : houseCounts.candidates(index);
+    }
+
+    /**
+     * Undoes the last move made. Restores the previous value of the modified cell.
+     *
+     * @return The `MoveRecord` of the undone move, or `null` if there are no moves to undo.
+     */
+    public MoveRecord undoMove() {
+        if (!movesHistory.isEmpty()) {
+            MoveRecord lastMove = movesHistory.pop();
+            int index = lastMove.row * CandidateMasks.SIZE + lastMove.col;
+            houseCounts.change(index, state.getValue(index), lastMove.oldValue);
+            state.setValue(index, lastMove.oldValue);
+            restoreNotesAround(index, lastMove.newValue, lastMove.prunedPeers);
+            if (lastMove.oldValue != 0) {
+                state.setCorrect(index, lastMove.oldValue == solutionValues[index]);
+            } else {
+                state.setCorrect(index, true);
+            }
+            return lastMove;
+        }
+        return null;
+    }
+
+    /**
+     * Checks if the entire board is filled with numbers. This is a constant-time read of the house counts.
+     *
+     * @return `true` if no cell has a value of 0, `false` otherwise.
+     */
+    public boolean isBoardFull() {
+        return houseCounts.isFull();
+    }
+
+    /**
+     * Counts the number of incorrect user-entered values on the board.
+     *
+     * @return The total count of errors.
+     */
+    public int countUserErrors() {
+        int errors = 0;
+        for (int index = 0; index < CandidateMasks.CELL_COUNT; index++) {
+            if (!state.isFixed(index) && state.getValue(index) != 0 && !state.isCorrect(index)) {
+                errors++;
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Checks if the current user-entered numbers are correct according to the solution. It only validates non-fixed cells
+     * that have a value.
+     *
+     * @return {@code true} if all user-entered numbers match the solution, {@code false} otherwise.
+     */
+    public boolean areAllUserCellsCorrect() {
+        for (int index = 0; index < CandidateMasks.CELL_COUNT; index++) {
+            // Check only user-entered (non-fixed) cells with a value.
+            int value = state.getValue(index);
+            if (!state.isFixed(index) && value != 0 && value != solutionValues[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if a given value for a cell is correct according to the solution.
+     *
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @param value The value to check.
+     * @return {@code true} if the value is correct for the cell, {@code false} otherwise.
+     */
+    public boolean isMoveCorrect(int row, int col, int value) {
+        if (isValidCoordinate(row, col)) {
+            return solutionValues[row * CandidateMasks.SIZE + col] == value;
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the current state of the board is valid according to basic Sudoku rules (no duplicates in any row, column,
+     * or 3x3 subgrid). This check does not use the solution, it only validates the current numbers on the board against
+     * each other. Per-house digit counts are kept up to date by every move, so this is a constant-time read.
+     *
+     * @return {@code true} if the current board is valid by the rules, {@code false} otherwise.
+     */
+    public boolean isCurrentBoardStateValidAccordingToRules() {
+        return houseCounts.isValid();
+    }
+
+    /**
+     * Checks if the cell's value is repeated elsewhere in its row, column, or 3x3 subgrid, whether or not it matches
+     * the solution. Like {@link #isCurrentBoardStateValidAccordingToRules()}, this reads the house counts in constant
+     * time, so it can be asked for every cell after every keystroke.
+     *
+     * @param row The row (0-8).
+     * @param col The column (0-8).
+     * @return {@code true} if another cell of the same house shows the same digit.
+     */
+    public boolean isCellInConflict(int row, int col) {
+        if (!isValidCoordinate(row, col)) {
+            return false;
+        }
+        int index = row * CandidateMasks.SIZE + col;
+        return houseCounts.isConflicting(index, state.getValue(index));
+    }
+
+    /**
+     * Returns the uniqueness-search counters accumulated by the latest {@link #generateNewPuzzle(Difficulty)} call, so
+     * solver engines can be compared by how many search nodes they visit.
+     *
+     * @return A snapshot of the statistics, empty if this board never generated a puzzle.
+     */
+    public SearchStatistics getLastGenerationStatistics() {
+        return uniquenessSolver != null ? uniquenessSolver.getStatistics().copy() : new SearchStatistics();
+    }
+
+    /**
+     * Reports the stages of the latest {@link #generateNewPuzzle} call: attempts, rejections, and the time spent
+     * filling, carving, and rating. After a parallel generation only the winning racer's counters are included.
+     *
+     * @return A snapshot of the statistics, empty if this board never generated a puzzle.
+     */
+    @NonNull
+    public GenerationStatistics getLastGenerationStageStatistics() {
+        return generationStatistics.copy();
+    }
+
+    /**
+     * Rates the current puzzle by the human techniques needed to solve its givens, ignoring user progress.
+     *
+     * @return The rating of the givens; see {@link LogicalSolver#rate(int[])}.
+     */
+    @NonNull
+    public DifficultyRating rateCurrentPuzzle() {
+        if (logicalSolver == null) {
+            logicalSolver = new LogicalSolver();
+        }
+        copyGivensTo(puzzleValues);
+        return logicalSolver.rate(puzzleValues);
+    }
+
+    /**
+     * Suggests the next move for the grid as currently played: a wrong entry to fix, or the easiest deduction that
+     * places a digit, with the cells and candidates behind it. See {@link HintEngine}.
+     *
+     * @return The hint, or {@code null} when the board is solved.
+     */
+    @Nullable
+    public Hint findHint() {
+        if (hintEngine == null) {
+            hintEngine = new HintEngine();
+        }
+        copyValuesTo(puzzleValues);
+        return hintEngine.findHint(puzzleValues, solutionValues);
+    }
+
+    /**
+     * Captures what the grid shows now as an immutable {@link BoardSnapshot}.
+     *
+     * @param previous The latest snapshot of this board, whose unchanged rows are shared and against which the cells
+     *                 written since then are compared; {@code null} reads every cell and marks it as changed.
+     * @return A new snapshot.
+     */
+    @NonNull
+    public BoardSnapshot snapshot(@Nullable BoardSnapshot previous) {
+        return BoardSnapshot.capture(state, previous);
+    }
+
+    /**
+     * Copies the values currently on the grid, givens and user entries alike, in row-major order.
+     *
+     * @param target Array of at least 81 elements receiving the values, 0 for empty cells.
+     */
+    public void copyValuesTo(@NonNull int[] target) {
+        for (int index = 0; index < CandidateMasks.CELL_COUNT; index++) {
+            target[index] = state.getValue(index);
+        }
+    }
+
+    /**
+     * Copies the puzzle clues (fixed cells) in row-major order; user entries are left out.
+     *
+     * @param target Array of at least 81 elements receiving the givens, 0 for non-fixed cells.
+     */
+    public void copyGivensTo(@NonNull int[] target) {
+        for (int index = 0; index < CandidateMasks.CELL_COUNT; index++) {
+            target[index] = state.isFixed(index) ? state.getValue(index) : 0;
+        }
+    }
+
+    /**
+     * Copies the complete solution grid in row-major order.
+     *
+     * @param target Array of at least 81 elements receiving the solution.
+     */
+    public void copySolutionTo(@NonNull int[] target) {
+        System.arraycopy(solutionValues, 0, target, 0, CandidateMasks.CELL_COUNT);
+    }
+
+    /**
+     * Packs the puzzle (givens, solution and generation seed, without user progress) into
+     * {@link PackedBoardCodec#SEEDED_PUZZLE_BYTES} bytes.
+     *
+     * @return A new packed array accepted by {@link #fromPackedPuzzle(Difficulty, byte[])}.
+     */
+    @NonNull
+    public byte[] toPackedPuzzle() {
+        int[] givens = new int[CandidateMasks.CELL_COUNT];
+        int[] solution = new int[CandidateMasks.CELL_COUNT];
+        copyGivensTo(givens);
+        copySolutionTo(solution);
+        return PackedBoardCodec.packSeededPuzzle(givens, solution, hasGenerationSeed, generationSeed);
+    }
+
+    /**
+     * Creates an independent copy of this board, including user progress and undo history. Grid state is copied with
+     * {@link System#arraycopy}; the copy keeps this board's solver engine for later generations.
+     *
+     * @return A new board equal to this one.
+     */
+    @NonNull
+    public SudokuBoard copy() {
+        SudokuBoard copy = new SudokuBoard(solverEngine);
+        copy.currentDifficulty = currentDifficulty;
+        System.arraycopy(solutionValues, 0, copy.solutionValues, 0, CandidateMasks.CELL_COUNT);
+        copy.state.copyFrom(state);
+        copy.houseCounts.copyFrom(houseCounts);
+        copy.autoRemoveNotes = autoRemoveNotes;
+        copy.generationSeed = generationSeed;
+        copy.hasGenerationSeed = hasGenerationSeed;
+        // Move records are immutable, so the copy can share them.
+        copy.movesHistory.addAll(movesHistory);
+        return copy;
+    }
+
+    /**
+     * Returns the difficulty used to generate the current puzzle.
+     *
+     * @return Current board difficulty.
+     */
+    public Difficulty getCurrentDifficulty() {
+        return currentDifficulty;
+    }
+
+    /* ----- Private Helper Methods ----- */
+
+    /**
+     * Creates one {@link SudokuCell} view per cell of {@code state}.
+     */
+    private static SudokuCell[] createCellViews(BoardState state) {
+        SudokuCell[] views = new SudokuCell[state.getCellCount()];
+        for (int index = 0; index < views.length; index++) {
+            views[index] = new SudokuCell(state, index);
+        }
+        return views;
+    }
+
+    /**
+     * Resets difficulty, history, seed, and solver and stage statistics before a generation.
+     */
+    private void prepareGeneration(Difficulty difficulty) {
+        this.currentDifficulty = difficulty;
+        this.movesHistory.clear();
+        this.hasGenerationSeed = false;
+        if (uniquenessSolver == null) {
+            uniquenessSolver = solverEngine.create();
+        }
+        if (logicalSolver == null) {
+            logicalSolver = new LogicalSolver();
+        }
+        uniquenessSolver.getStatistics().reset();
+        generationStatistics.reset();
+    }
+
+    /**
+     * Fills a fresh solution grid and tries to carve {@code difficulty} out of it. Every removal is rated on the spot,
+     * so the puzzle never needs a technique above the band; an attempt is rejected as soon as the clue count is out of
+     * reach, or at the end if {@link #liftIntoBand} cannot make the puzzle hard enough.
+     *
+     * @return {@code true} when the board now holds a unique puzzle within the band, with its givens fixed.
+     */
+    private boolean runGenerationAttempt(Difficulty difficulty) throws InterruptedException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException("Puzzle generation was cancelled.");
+        }
+        generationStatistics.recordAttempt();
+        long fillStart = System.nanoTime();
+
+        // Reset the reused grid in place instead of allocating a new one for every attempt.
+        state.clear();
+
+        // This will fill the solution grid with a valid, complete Sudoku grid.
+        gridFiller.fill(masks);
+        masks.copyValuesTo(solutionValues);
+
+        // Copy the solution to the user-facing board.
+        for (int index = 0; index < CandidateMasks.CELL_COUNT; index++) {
+            state.setValue(index, solutionValues[index]);
+        }
+
+        long carveStart = System.nanoTime();
+        generationStatistics.addFillNanos(carveStart - fillStart);
+        carvedHardestTechnique = null;
+        attemptRatingNanos = 0;
+        boolean carved = removeNumbersForPuzzle(difficulty);
+        boolean inBand = carved && (difficulty.isMinimal() || liftIntoBand(difficulty));
+        generationStatistics.addCarveNanos(System.nanoTime() - carveStart - attemptRatingNanos);
+        generationStatistics.addRatingNanos(attemptRatingNanos);
+        if (!carved) {
+            generationStatistics.recordUnreachableCount();
+            return false;
+        }
+        if (!inBand) {
+            generationStatistics.recordBelowBand();
+            return false;
+        }
+        // Mark the remaining numbers as fixed.
+        for (int index = 0; index < CandidateMasks.CELL_COUNT; index++) {
+            state.setFixed(index, state.getValue(index) != 0);
+        }
+        houseCounts.load(state);
+        return true;
+    }
+
+    /**
+     * Races independent attempts on {@link #generationWorkers}, each on a private board, and adopts the first puzzle
+     * that completes. Losing racers are interrupted, which their per-removal cancellation checks pick up promptly.
+     */
+    private void generateInParallel(Difficulty difficulty) throws InterruptedException {
+        AtomicInteger remainingAttempts = new AtomicInteger(MAX_PUZZLE_GENERATION_ATTEMPTS);
+        CompletionService<SudokuBoard> race = new ExecutorCompletionService<>(generationWorkers);
+        List<Future<SudokuBoard>> racers = new ArrayList<>(generationParallelism);
+        try {
+            for (int i = 0; i < generationParallelism; i++) {
+                // A racer's attempts use consecutive draws of its own seed, so replaying the winner's seed on one
+                // thread fails the same attempts and then produces the same puzzle.
+                long racerSeed = seedSource.nextLong();
+                racers.add(race.submit(() -> {
+                    SudokuBoard racer = new SudokuBoard(solverEngine);
+                    racer.currentDifficulty = difficulty;
+                    racer.uniquenessSolver = solverEngine.create();
+                    racer.logicalSolver = new LogicalSolver();
+                    racer.random.setSeed(racerSeed);
+                    while (remainingAttempts.getAndDecrement() > 0) {
+                        if (racer.runGenerationAttempt(difficulty)) {
+                            racer.generationSeed = racerSeed;
+                            racer.hasGenerationSeed = true;
+                            return racer;
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            for (int finished = 0; finished < racers.size(); finished++) {
+                SudokuBoard winner = awaitWorker(race.take());
+                if (winner != null) {
+                    System.arraycopy(winner.solutionValues, 0, solutionValues, 0, CandidateMasks.CELL_COUNT);
+                    state.copyFrom(winner.state);
+                    houseCounts.copyFrom(winner.houseCounts);
+                    generationSeed = winner.generationSeed;
+                    hasGenerationSeed = true;
+                    // Only the winner's counters are reported; losing racers may still be running.
+                    uniquenessSolver.getStatistics().add(winner.uniquenessSolver.getStatistics());
+                    generationStatistics.add(winner.generationStatistics);
+                    return;
+                }
+            }
+        } finally {
+            for (Future<SudokuBoard> racer : racers) {
+                racer.cancel(true);
+            }
+        }
+
+        throw new IllegalStateException("Unable to generate a unique puzzle after " + MAX_PUZZLE_GENERATION_ATTEMPTS
+                + " attempts.");
+    }
+
+    /**
+     * Removes {@link Difficulty#cellsToRemove} cells from the board to create the puzzle, ensuring that the puzzle
+     * still has a unique solution and needs no technique above {@link Difficulty#hardestTechnique}. A {@link
+     * Difficulty#isMinimal() minimal} difficulty keeps going through the whole removal order instead: a clue that could
+     * not be removed when it was visited cannot be removed after further removals either, so one pass leaves every
+     * remaining clue essential.
+     *
+     * @param difficulty Target clue count and technique band.
+     * @return {@code false} as soon as too few clues are left to reach the count.
+     */
+    private boolean removeNumbersForPuzzle(Difficulty difficulty) throws InterruptedException {
+        for (int index = 0; index < CandidateMasks.CELL_COUNT; index++) {
+            removalOrder[index] = index;
+        }
+        shuffleRemovalOrder(0);
+
+        state.copyValuesTo(puzzleValues);
+        if (probeWorkers != null) {
+            return removeNumbersSpeculatively(difficulty);
+        }
+        return removeNumbersFrom(difficulty, 0, 0);
+    }
+
+    /**
+     * In-place Fisher-Yates shuffle of {@code removalOrder[first..]}, reusing the same buffer for every attempt.
+     */
+    private void shuffleRemovalOrder(int first) {
+        for (int last = CandidateMasks.CELL_COUNT - 1; last > first; last--) {
+            int swap = first + random.nextInt(last - first + 1);
+            int position = removalOrder[last];
+            removalOrder[last] = removalOrder[swap];
+            removalOrder[swap] = position;
+        }
+    }
+
+    /**
+     * The one-at-a-time removal loop, visiting {@code removalOrder} from {@code firstCursor} with {@code removedCount}
+     * clues already removed.
+     *
+     * @return {@code false} as soon as too few clues are left to reach the count.
+     */
+    private boolean removeNumbersFrom(Difficulty difficulty, int firstCursor, int removedCount)
+            throws InterruptedException {
+        int cellsToRemove = difficulty.cellsToRemove;
+        boolean minimal = difficulty.isMinimal();
+        for (int cursor = firstCursor; cursor < CandidateMasks.CELL_COUNT; cursor++) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException("Puzzle generation was cancelled.");
+            }
+            // Every position is visited once, so the count is out of reach once the unvisited ones cannot cover it.
+            if (removedCount + CandidateMasks.CELL_COUNT - cursor < cellsToRemove) {
+                return false;
+            }
+
+            int position = removalOrder[cursor];
+            int previousValue = puzzleValues[position];
+            if (previousValue == 0) {
+                continue;
+            }
+
+            state.setValue(position, 0);
+            puzzleValues[position] = 0;
+
+            // Removing more clues can only make uniqueness harder to preserve, and in practice never makes the puzzle
+            // easier, so a clue that already fails either check would not become removable later.
+            if (uniquenessSolver.isUnique(puzzleValues) && isWithinTechniqueCeiling(difficulty)) {
+                removedCount++;
+                if (removedCount == cellsToRemove && !minimal) {
+                    nextRemovalCursor = cursor + 1;
+                    return true;
+                }
+            } else {
+                state.setValue(position, previousValue);
+                puzzleValues[position] = previousValue;
+            }
+        }
+
+        nextRemovalCursor = CandidateMasks.CELL_COUNT;
+        return minimal && removedCount >= cellsToRemove;
+    }
+
+    /**
+     * Batched form of the removal loop in {@link #removeNumbersForPuzzle(Difficulty)}. Every probe of a batch tests its
+     * candidate's uniqueness against the same snapshot. A rejected candidate stays rejected after earlier commits,
+     * since removing more clues never restores uniqueness; an accepted candidate is only trusted while nothing before
+     * it in the batch was committed, and otherwise opens the next batch to be probed again. The technique ceiling is
+     * checked on the generating thread at commit time, exactly as in the sequential loop.
+     */
+    private boolean removeNumbersSpeculatively(Difficulty difficulty) throws InterruptedException {
+        int cellsToRemove = difficulty.cellsToRemove;
+        boolean minimal = difficulty.isMinimal();
+        int removedCount = 0;
+        int cursor = 0;
+        while (cursor < CandidateMasks.CELL_COUNT) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException("Puzzle generation was cancelled.");
+            }
+            if (removedCount + CandidateMasks.CELL_COUNT - cursor < cellsToRemove) {
+                return false;
+            }
+
+            int batch = 0;
+            for (; cursor < CandidateMasks.CELL_COUNT && batch < probeBatchSize; cursor++) {
+                int position = removalOrder[cursor];
+                if (puzzleValues[position] != 0) {
+                    probePositions[batch] = position;
+                    probeCursors[batch] = cursor;
+                    batch++;
+                }
+            }
+            if (batch == 0) {
+                break;
+            }
+
+            List<Future<Void>> probes = probeWorkers.invokeAll(probeTasks.subList(0, batch));
+            for (Future<Void> probe : probes) {
+                awaitWorker(probe);
+            }
+            for (int i = 0; i < batch; i++) {
+                uniquenessSolver.getStatistics().add(probeSolvers[i].getStatistics());
+                probeSolvers[i].getStatistics().reset();
+            }
+
+            boolean committed = false;
+            for (int i = 0; i < batch; i++) {
+                if (!probeResults[i]) {
+                    continue;
+                }
+                if (committed) {
+                    // Probed against a board that no longer exists; check it again in the next batch.
+                    cursor = probeCursors[i];
+                    break;
+                }
+                int position = probePositions[i];
+                int previousValue = puzzleValues[position];
+                state.setValue(position, 0);
+                puzzleValues[position] = 0;
+                if (!isWithinTechniqueCeiling(difficulty)) {
+                    state.setValue(position, previousValue);
+                    puzzleValues[position] = previousValue;
+                    continue;
+                }
+                committed = true;
+                removedCount++;
+                if (removedCount == cellsToRemove && !minimal) {
+                    nextRemovalCursor = probeCursors[i] + 1;
+                    return true;
+                }
+            }
+        }
+
+        nextRemovalCursor = CandidateMasks.CELL_COUNT;
+        return minimal && removedCount >= cellsToRemove;
+    }
+
+    /**
+     * Checks a removal against the band's ceiling, counting removals turned down for needing a harder technique.
+     *
+     * @return {@code false} if the puzzle needs a harder technique than {@link Difficulty#hardestTechnique}; always
+     *         {@code true} for a minimal difficulty, which has no ceiling.
+     */
+    private boolean isWithinTechniqueCeiling(Difficulty difficulty) {
+        if (difficulty.isMinimal() || rateCarvedPuzzle(difficulty.hardestTechnique)) {
+            return true;
+        }
+        generationStatistics.recordRemovalAboveCeiling();
+        return false;
+    }
+
+    /**
+     * Solves the puzzle being carved with techniques up to {@code ceiling} and, when they solve it, records the hardest
+     * technique as the attempt's running difficulty estimate. A puzzle that logic completes has exactly one solution.
+     *
+     * @return {@code true} when the techniques up to {@code ceiling} solve the puzzle.
+     */
+    private boolean rateCarvedPuzzle(Technique ceiling) {
+        long start = System.nanoTime();
+        boolean solved = logicalSolver.solve(puzzleValues, ceiling);
+        attemptRatingNanos += System.nanoTime() - start;
+        if (solved) {
+            carvedHardestTechnique = logicalSolver.getHardestTechnique();
+        }
+        return solved;
+    }
+
+    /**
+     * @return {@code true} if the running estimate of the carved puzzle reaches {@link Difficulty#easiestTechnique}.
+     */
+    private boolean reachesBandFloor(Difficulty difficulty) {
+        return carvedHardestTechnique != null && carvedHardestTechnique.compareTo(difficulty.easiestTechnique) >= 0;
+    }
+
+    /**
+     * Brings a carved puzzle that came out easier than the band into it instead of discarding the whole attempt. First
+     * {@link #extendIntoBand} tries the rest of the removal order; failing that, the last {@value #BAND_RETREAT_DEPTH}
+     * removals are put back and the tail of the removal order is reshuffled and carved again, up to
+     * {@value #MAX_BAND_RETREATS} times. A retreat costs a fraction of a fresh attempt, since the solution grid and
+     * most removals are kept.
+     *
+     * @return {@code true} when the board holds a puzzle within the band with the target clue count.
+     */
+    private boolean liftIntoBand(Difficulty difficulty) throws InterruptedException {
+        for (int retreat = 0; ; retreat++) {
+            if (reachesBandFloor(difficulty) || extendIntoBand(difficulty)) {
+                return true;
+            }
+            if (retreat == MAX_BAND_RETREATS) {
+                return false;
+            }
+
+            int first = nextRemovalCursor;
+            int restored = 0;
+            while (restored < BAND_RETREAT_DEPTH && first > 0) {
+                first--;
+                int position = removalOrder[first];
+                if (puzzleValues[position] == 0) {
+                    puzzleValues[position] = solutionValues[position];
+                    state.setValue(position, solutionValues[position]);
+                    restored++;
+                }
+            }
+            shuffleRemovalOrder(first);
+            carvedHardestTechnique = null;
+            if (!removeNumbersFrom(difficulty, first, difficulty.cellsToRemove - restored)) {
+                return false;
+            }
+            generationStatistics.recordBandRetreat();
+        }
+    }
+
+    /**
+     * Keeps removing clues from the unvisited part of the removal order, under the usual uniqueness and ceiling
+     * checks, until the puzzle reaches the band; then puts earlier clues back, as long as the puzzle stays in the band,
+     * until the clue count is restored. Putting a clue back never breaks uniqueness. The board is left unchanged when
+     * this fails.
+     *
+     * @return {@code true} when the board now holds a puzzle within the band with the target clue count.
+     */
+    private boolean extendIntoBand(Difficulty difficulty) throws InterruptedException {
+        int extraRemovals = 0;
+        int cursor = nextRemovalCursor;
+        for (; cursor < CandidateMasks.CELL_COUNT && !reachesBandFloor(difficulty); cursor++) {
+            if (Thread.currentThread().isInterrupted()) {
+                state.copyValuesTo(puzzleValues);
+                throw new InterruptedException("Puzzle generation was cancelled.");
+            }
+            int position = removalOrder[cursor];
+            puzzleValues[position] = 0;
+            if (uniquenessSolver.isUnique(puzzleValues) && isWithinTechniqueCeiling(difficulty)) {
+                extraRemovals++;
+            } else {
+                puzzleValues[position] = solutionValues[position];
+            }
+        }
+
+        Technique reached = carvedHardestTechnique;
+        for (int restore = 0; restore < cursor && extraRemovals > 0 && reachesBandFloor(difficulty); restore++) {
+            int restored = removalOrder[restore];
+            if (puzzleValues[restored] != 0) {
+                continue;
+            }
+            puzzleValues[restored] = solutionValues[restored];
+            if (rateCarvedPuzzle(difficulty.hardestTechnique) && reachesBandFloor(difficulty)) {
+                reached = carvedHardestTechnique;
+                extraRemovals--;
+            } else {
+                puzzleValues[restored] = 0;
+                carvedHardestTechnique = reached;
+            }
+        }
+        if (extraRemovals > 0 || !reachesBandFloor(difficulty)) {
+            state.copyValuesTo(puzzleValues);
+            return false;
+        }
+        for (int index = 0; index < CandidateMasks.CELL_COUNT; index++) {
+            state.setValue(index, puzzleValues[index]);
+        }
+        generationStatistics.recordBandExtension();
+        return true;
+    }
+
+    /**
+     * Waits for a generation worker task and rethrows its failure as thrown inside the task.
+     */
+    private static <T> T awaitWorker(Future<T> task) throws InterruptedException {
+        try {
+            return task.get();
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof InterruptedException) {
+                throw new InterruptedException("Puzzle generation was cancelled.");
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Removes {@code digit} from the notes of every peer of {@code index}.
+     *
+     * @return Bit {@code i} set for each peer {@code i} that lost the note.
+     */
+    private int pruneNotesAround(int index, int digit) {
+        int digitBit = CandidateMasks.bit(digit);
+        int prunedPeers = 0;
+        for (int i = 0; i < GridGeometry.CLASSIC.getPeerCount(); i++) {
+            int peer = GridGeometry.CLASSIC.peer(index, i);
+            int notes = state.getNoteMask(peer);
+            if ((notes & digitBit) != 0) {
+                state.setNoteMask(peer, notes & ~digitBit);
+                prunedPeers |= 1 << i;
+            }
+        }
+        return prunedPeers;
+    }
+
+    /**
+     * Gives {@code digit} back to the notes of the peers of {@code index} selected by {@code prunedPeers}.
+     */
+    private void restoreNotesAround(int index, int digit, int prunedPeers) {
+        while (prunedPeers != 0) {
+            int peer = GridGeometry.CLASSIC.peer(index, Integer.numberOfTrailingZeros(prunedPeers));
+            state.setNoteMask(peer, state.getNoteMask(peer) | CandidateMasks.bit(digit));
+            prunedPeers &= prunedPeers - 1;
+        }
+    }
+
+    /**
+     * Creates a flat row-major snapshot of the visible board values, the layout expected by the engine classes.
+     */
+    private int[] copyBoardValues() {
+        int[] copy = new int[CandidateMasks.CELL_COUNT];
+        state.copyValuesTo(copy);
+        return copy;
+    }
+
+    /**
+     * Checks if the given coordinates are within the 9x9 grid.
+     */
+    private boolean isValidCoordinate(int row, int col) {
+        return GridGeometry.CLASSIC.isValidCoordinate(row, col);
+    }
+
+    /* ----- Serialization ----- */
+
+    /**
+     * Encodes board state, solution matrix, generation seed and undo history into a self-contained payload that
+     * {@link #fromByteArray} reads back. Grids use {@link PackedBoardCodec}: 41 bytes per grid, 11 bytes per per-cell
+     * flag, and 92 bytes of notes written only when at least one cell has notes. Each move keeps the peer notes it
+     * pruned, so undo still restores them after a round trip. The app wraps this payload in a parcel for saved state.
+     *
+     * @return The encoded board.
+     */
+    @NonNull
+    public byte[] toByteArray() {
+        boolean[] fixed = new boolean[CandidateMasks.CELL_COUNT];
+        boolean[] correct = new boolean[CandidateMasks.CELL_COUNT];
+        int[] noteMasks = new int[CandidateMasks.CELL_COUNT];
+        boolean hasNotes = false;
+        for (int index = 0; index < CandidateMasks.CELL_COUNT; index++) {
+            fixed[index] = state.isFixed(index);
+            correct[index] = state.isCorrect(index);
+            noteMasks[index] = state.getNoteMask(index);
+            hasNotes |= noteMasks[index] != 0;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(SERIAL_FORMAT_VERSION);
+            out.writeUTF(currentDifficulty.name());
+            out.writeBoolean(hasGenerationSeed);
+            if (hasGenerationSeed) {
+                out.writeLong(generationSeed);
+            }
+
+            byte[] packedGrid = new byte[PackedBoardCodec.GRID_BYTES];
+            PackedBoardCodec.packGrid(solutionValues, packedGrid, 0);
+            out.write(packedGrid);
+            PackedBoardCodec.packGrid(copyBoardValues(), packedGrid, 0);
+            out.write(packedGrid);
+            out.write(PackedBoardCodec.packFlags(fixed));
+            out.write(PackedBoardCodec.packFlags(correct));
+            out.writeBoolean(hasNotes);
+            if (hasNotes) {
+                out.write(PackedBoardCodec.packNotes(noteMasks));
+            }
+
+            out.writeInt(movesHistory.size());
+            for (MoveRecord move : movesHistory) {
+                out.writeByte(move.row);
+                out.writeByte(move.col);
+                out.writeByte(move.oldValue);
+                out.writeByte(move.newValue);
+                out.writeInt(move.scoreChange);
+                out.writeBoolean(move.wasError);
+                out.writeInt(move.prunedPeers);
+            }
+        } catch (IOException exception) {
+            // In-memory streams never fail.
+            throw new IllegalStateException(exception);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Rebuilds a board from a payload generated by {@link #toByteArray()}.
+     *
+     * @param payload Encoded board.
+     * @return The decoded board, using the {@link SolverEngine#DEFAULT} engine for later generations.
+     * @throws IllegalArgumentException If the payload was written with another layout, is truncated, or holds
+     *                                  inconsistent data.
+     */
+    @NonNull
+    public static SudokuBoard fromByteArray(@NonNull byte[] payload) {
+        SudokuBoard board = new SudokuBoard();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            int formatVersion = in.readInt();
+            if (formatVersion < UNSEEDED_SERIAL_FORMAT_VERSION || formatVersion > SERIAL_FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported board format " + formatVersion + ".");
+            }
+            board.currentDifficulty = Difficulty.valueOf(in.readUTF());
+            if (formatVersion >= SEEDED_SERIAL_FORMAT_VERSION && in.readBoolean()) {
+                board.generationSeed = in.readLong();
+                board.hasGenerationSeed = true;
+            }
+
+            int[] values = new int[CandidateMasks.CELL_COUNT];
+            boolean[] fixed = new boolean[CandidateMasks.CELL_COUNT];
+            boolean[] correct = new boolean[CandidateMasks.CELL_COUNT];
+            int[] noteMasks = new int[CandidateMasks.CELL_COUNT];
+            PackedBoardCodec.unpackGrid(readBytes(in, PackedBoardCodec.GRID_BYTES), 0, board.solutionValues);
+            PackedBoardCodec.unpackGrid(readBytes(in, PackedBoardCodec.GRID_BYTES), 0, values);
+            PackedBoardCodec.unpackFlags(readBytes(in, PackedBoardCodec.FLAGS_BYTES), fixed);
+            PackedBoardCodec.unpackFlags(readBytes(in, PackedBoardCodec.FLAGS_BYTES), correct);
+            if (in.readBoolean()) {
+                PackedBoardCodec.unpackNotes(readBytes(in, PackedBoardCodec.NOTES_BYTES), noteMasks);
+            }
+
+            for (int index = 0; index < CandidateMasks.CELL_COUNT; index++) {
+                board.state.setValue(index, values[index]);
+                board.state.setFixed(index, fixed[index]);
+                board.state.setCorrect(index, correct[index]);
+                board.state.setNoteMask(index, noteMasks[index]);
+            }
+            board.houseCounts.load(board.state);
+
+            int historySize = in.readInt();
+            if (historySize < 0) {
+                throw new IllegalArgumentException("Negative move history size " + historySize + ".");
+            }
+            for (int i = 0; i < historySize; i++) {
+                board.movesHistory.push(new MoveRecord(in.readUnsignedByte(), in.readUnsignedByte(),
+                        in.readUnsignedByte(), in.readUnsignedByte(), in.readInt(), in.readBoolean(),
+                        formatVersion == SERIAL_FORMAT_VERSION ? in.readInt() : 0));
+            }
+        } catch (IOException exception) {
+            throw new IllegalArgumentException("Truncated board payload.", exception);
+        }
+        return board;
+    }
+
+    @NonNull
+    private static byte[] readBytes(@NonNull DataInputStream in, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.sudoku;
+
+import androidx.annotation.NonNull;
+
+import com.example.sudoku.engine.BoardState;
+import com.example.sudoku.engine.CandidateMasks;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ * Represents a single cell within a Sudoku grid. Each cell contains a numeric value, fixed state, correctness flag, and
+ * user notes.
+ * <p>
+ * A cell is a lightweight view over one index of a {@link BoardState}: cells handed out by {@link SudokuBoard} read and
+ * write the board's flat arrays directly, while standalone cells own a single-cell state.
+ */
+public final class SudokuCell {
+
+    // Fields
+    private final BoardState state; // Storage shared with the owning board, or private to a standalone cell
+    private final int index; // Row-major index of this cell inside the state
+
+    /**
+     * Constructs a new {@code SudokuCell} instance.
+     *
+     * @param value The initial value of the cell.
+     * @param isFixed {@code true} if the cell is fixed, {@code false} otherwise.
+     * @param isCorrect {@code true} if the cell's value is correct, {@code false} otherwise.
+     * @param notes An initial set of notes for the cell, stored as a note mask. If {@code null}, the note mask is left
+     *              empty.
+     */
+    public SudokuCell(int value, boolean isFixed, boolean isCorrect, Set<Integer> notes) {
+        this(new BoardState(1), 0);
+        state.setValue(index, value);
+        state.setFixed(index, isFixed);
+        state.setCorrect(index, isCorrect);
+        setNotes(notes);
+    }
+
+    /**
+     * Convenience constructor to create an empty, non-fixed cell, considered correct by default. The note mask starts
+     * empty.
+     */
+    public SudokuCell() {
+        this(0, false, true, null);
+    }
+
+    /**
+     * Creates a view over the cell at {@code index} of {@code state}; changes go straight to the shared arrays.
+     *
+     * @param state Storage owned by a {@link SudokuBoard}.
+     * @param index Row-major index of the cell.
+     */
+    SudokuCell(@NonNull BoardState state, int index) {
+        this.state = state;
+        this.index = index;
+    }
+
+    // Getter and Setter Methods
+
+    /**
+     * Returns the current value of the cell.
+     *
+     * @return The value of the cell (0 if empty).
+     */
+    public int getValue() {
+        return state.getValue(index);
+    }
+
+    /**
+     * Sets the value of the cell. Package-private: outside the model, values change through
+     * {@link SudokuBoard#setCellValue}, which keeps the board's undo history and house counts in step.
+     *
+     * @param value The new value for the cell.
+     */
+    void setValue(int value) {
+        state.setValue(index, value);
+    }
+
+    /**
+     * Checks if the cell is fixed (not modifiable by the user).
+     *
+     * @return {@code true} if the cell is fixed, {@code false} otherwise.
+     */
+    public boolean isFixed() {
+        return state.isFixed(index);
+    }
+
+    /**
+     * Sets the "fixed" state of the cell. Package-private, since only puzzle setup decides which cells are clues.
+     *
+     * @param fixed {@code true} to make the cell fixed, {@code false} otherwise.
+     */
+    void setFixed(boolean fixed) {
+        state.setFixed(index, fixed);
+    }
+
+    /**
+     * Checks if the current value of the cell is considered correct.
+     *
+     * @return {@code true} if the value is correct, {@code false} otherwise.
+     */
+    public boolean isCorrect() {
+        return state.isCorrect(index);
+    }
+
+    /**
+     * Sets the correctness state of the cell. Package-private, since {@link SudokuBoard#setCellValue} derives it from
+     * the solution.
+     *
+     * @param correct {@code true} if the value is correct, {@code false} otherwise.
+     */
+    void setCorrect(boolean correct) {
+        state.setCorrect(index, correct);
+    }
+
+    /**
+     * Returns the set of notes associated with this cell. The set is built from the note mask on every call; prefer
+     * {@link #getNoteMask()}, {@link #hasNote(int)} or {@link #forEachNote(IntConsumer)} on hot paths.
+     *
+     * @return A read-only {@link Set} containing the notes.
+     */
+    public Set<Integer> getNotes() {
+        Set<Integer> notes = new HashSet<>();
+        forEachNote(notes::add);
+        return Collections.unmodifiableSet(notes);
+    }
+
+    /**
+     * Returns the notes as a mask where bit {@code d - 1} stands for digit {@code d}, without allocating.
+     *
+     * @return The note mask of this cell.
+     */
+    public int getNoteMask() {
+        return state.getNoteMask(index);
+    }
+
+    /**
+     * Replaces the notes with a mask where bit {@code d - 1} stands for digit {@code d}. Bits above digit 9 are
+     * dropped.
+     *
+     * @param mask The new note mask.
+     */
+    public void setNoteMask(int mask) {
+        state.setNoteMask(index, mask);
+    }
+
+    /**
+     * @return {@code true} if the cell has at least one note.
+     */
+    public boolean hasNotes() {
+        return state.getNoteMask(index) != 0;
+    }
+
+    /**
+     * @param note A digit from 1 to 9.
+     * @return {@code true} if the note is set; digits outside 1-9 never are.
+     */
+    public boolean hasNote(int note) {
+        return note >= 1 && note <= 9 && (state.getNoteMask(index) & CandidateMasks.bit(note)) != 0;
+    }
+
+    /**
+     * Passes every note to {@code action} in ascending order, without allocating.
+     *
+     * @param action Receives each noted digit.
+     */
+    public void forEachNote(@NonNull IntConsumer action) {
+        int mask = state.getNoteMask(index);
+        while (mask != 0) {
+            action.accept(Integer.numberOfTrailingZeros(mask) + 1);
+            mask &= mask - 1;
+        }
+    }
+
+    /**
+     * Sets the set of notes for this cell. Values outside 1-9 are ignored.
+     *
+     * @param notes The new set of notes.
+     */
+    public void setNotes(Set<Integer> notes) {
+        int mask = 0;
+        if (notes != null) {
+            for (int note : notes) {
+                if (note >= 1 && note <= 9) {
+                    mask |= CandidateMasks.bit(note);
+                }
+            }
+        }
+        state.setNoteMask(index, mask);
+    }
+
+    // Business Logic
+
+    /**
+     * Adds a note to the cell, if the cell is not fixed and the note is a valid number (1-9).
+     *
+     * @param note The note to add.
+     */
+    public void addNote(int note) {
+        if (!isFixed() && note >= 1 && note <= 9) {
+            state.setNoteMask(index, state.getNoteMask(index) | CandidateMasks.bit(note));
+        }
+    }
+
+    /**
+     * Removes a specified note from the cell.
+     *
+     * @param note The note to remove.
+     */
+    public void removeNote(int note) {
+        if (note >= 1 && note <= 9) {
+            state.setNoteMask(index, state.getNoteMask(index) & ~CandidateMasks.bit(note));
+        }
+    }
+
+    /**
+     * Adds the note if it is missing and removes it otherwise. Like {@link #addNote(int)}, it never adds a note to a
+     * fixed cell.
+     *
+     * @param note The note to toggle.
+     * @return {@code true} if the note is set afterwards.
+     */
+    public boolean toggleNote(int note) {
+        if (hasNote(note)) {
+            removeNote(note);
+            return false;
+        }
+        addNote(note);
+        return hasNote(note);
+    }
+
+    /**
+     * Removes all notes from the cell.
+     */
+    public void clearNotes() {
+        state.setNoteMask(index, 0);
+    }
+
+    /**
+     * Resets the cell to its initial state for user input: value to 0, correctness state to {@code true}, and clears all
+     * notes. This operation is only performed if the cell is not fixed. Package-private: like {@link #setValue(int)},
+     * it bypasses the board's undo history and house counts.
+     */
+    void resetUserEntry() {
+        if (!isFixed()) {
+            setValue(0);
+            setCorrect(true); // An empty cell is considered correct until an incorrect value is entered
+            clearNotes();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.sudoku.engine;
+
+/**
+ * Backtracking solver built on {@link CandidateMasks}. Before branching, every node fills naked singles (empty cells
+ * with exactly one candidate) until none are left, then branches on the empty cell with the fewest candidates (minimum
+ * remaining values). Forced placements are kept on a trail so they can be undone without allocating.
+ */
+public final class BitmaskSolver implements SudokuSolver {
+
+    private final CandidateMasks masks = new CandidateMasks();
+    private final SearchStatistics statistics = new SearchStatistics();
+    // Cells filled by propagation, in placement order; each search level owns the segment it pushed.
+    private final int[] trail = new int[CandidateMasks.CELL_COUNT];
+    private int trailSize;
+    private int solutionCount;
+    private int solutionLimit;
+    private int[] solutionTarget;
+
+    @Override
+    public boolean solve(int[] cells) throws InterruptedException {
+        return run(cells, 1, cells) > 0;
+    }
+
+    @Override
+    public int countSolutions(int[] cells, int limit) throws InterruptedException {
+        return run(cells, limit, null);
+    }
+
+    @Override
+    public SearchStatistics getStatistics() {
+        return statistics;
+    }
+
+    private int run(int[] cells, int limit, int[] target) throws InterruptedException {
+        statistics.recordSearch();
+        solutionCount = 0;
+        if (!masks.load(cells) || limit <= 0) {
+            return 0;
+        }
+        solutionLimit = limit;
+        solutionTarget = target;
+        trailSize = 0;
+        try {
+            search();
+        } finally {
+            solutionTarget = null;
+        }
+        return solutionCount;
+    }
+
+    private void search() throws InterruptedException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException("Solution counting was cancelled.");
+        }
+        statistics.recordNode();
+
+        int trailStart = trailSize;
+        int bestIndex;
+        int bestCandidates;
+        boolean placedSingle;
+        do {
+            placedSingle = false;
+            bestIndex = -1;
+            bestCandidates = 0;
+            int bestCount = Integer.MAX_VALUE;
+            for (int index = 0; index < CandidateMasks.CELL_COUNT; index++) {
+                if (masks.get(index) != 0) {
+                    continue;
+                }
+                int candidates = masks.candidates(index);
+                if (candidates == 0) {
+                    // Dead end: an empty cell has no legal digit left.
+                    undoTrail(trailStart);
+                    return;
+                }
+                if ((candidates & (candidates - 1)) == 0) {
+                    masks.place(index, Integer.numberOfTrailingZeros(candidates) + 1);
+                    trail[trailSize++] = index;
+                    statistics.recordForcedPlacement();
+                    placedSingle = true;
+                    continue;
+                }
+                int count = Integer.bitCount(candidates);
+                if (count < bestCount) {
+                    bestIndex = index;
+                    bestCandidates = candidates;
+                    bestCount = count;
+                }
+            }
+        } while (placedSingle);
+
+        if (bestIndex < 0) {
+            if (solutionCount == 0 && solutionTarget != null) {
+                masks.copyValuesTo(solutionTarget);
+            }
+            solutionCount++;
+            undoTrail(trailStart);
+            return;
+        }
+
+        int candidates = bestCandidates;
+        while (candidates != 0) {
+            int digitBit = candidates & -candidates;
+            candidates ^= digitBit;
+            masks.place(bestIndex, Integer.numberOfTrailingZeros(digitBit) + 1);
+            search();
+            masks.unplace(bestIndex);
+            if (solutionCount >= solutionLimit) {
+                break;
+            }
+        }
+        undoTrail(trailStart);
+    }
+
+    private void undoTrail(int trailStart) {
+        while (trailSize > trailStart) {
+            masks.unplace(trail[--trailSize]);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.sudoku.engine;
+
+import androidx.annotation.Nullable;
+
+/**
+ * State derived from one position of a game by {@link BoardAnalyzer}: which cells clash with a peer, how many of each
+ * digit are still to be placed, whether the grid is complete and solved, and the next hint.
+ * <p>
+ * Instances are immutable and safe to publish from a background thread.
+ */
+public final class BoardAnalysis {
+
+    private final long[] conflicts;
+    private final int conflictCount;
+    private final int[] remainingCounts;
+    private final int filledCount;
+    private final boolean valid;
+    private final boolean solved;
+    @Nullable
+    private final Hint hint;
+
+    BoardAnalysis(long[] conflicts, int conflictCount, int[] remainingCounts, int filledCount, boolean valid,
+            boolean solved, @Nullable Hint hint) {
+        this.conflicts = conflicts;
+        this.conflictCount = conflictCount;
+        this.remainingCounts = remainingCounts;
+        this.filledCount = filledCount;
+        this.valid = valid;
+        this.solved = solved;
+        this.hint = hint;
+    }
+
+    /**
+     * @param index Row-major cell index.
+     * @return {@code true} when another cell of the same row, column or box shows the same digit.
+     */
+    public boolean isConflicting(int index) {
+        return (conflicts[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * @return Number of cells taking part in a duplicate.
+     */
+    public int getConflictCount() {
+        return conflictCount;
+    }
+
+    /**
+     * @param digit A digit from 1 to 9.
+     * @return How many more times {@code digit} has to be placed, never below {@code 0}.
+     */
+    public int getRemainingCount(int digit) {
+        return remainingCounts[digit - 1];
+    }
+
+    /**
+     * @return Number of cells holding a digit.
+     */
+    public int getFilledCount() {
+        return filledCount;
+    }
+
+    /**
+     * @return {@code true} when every cell holds a digit.
+     */
+    public boolean isFull() {
+        return filledCount == CandidateMasks.CELL_COUNT;
+    }
+
+    /**
+     * @return {@code true} when no digit appears twice in a row, column or box.
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * @return {@code true} when every cell holds its solution digit.
+     */
+    public boolean isSolved() {
+        return solved;
+    }
+
+    /**
+     * @return Next move suggested by {@link HintEngine}, or {@code null} once the grid is solved.
+     */
+    @Nullable
+    public Hint getHint() {
+        return hint;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.sudoku.engine;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Computes a {@link BoardAnalysis} from a copy of the grid, so a game can derive conflicts, remaining digits and the
+ * next hint off the UI thread and publish the result in one piece. The analysis recounts the houses with a
+ * {@link HouseCounts} and asks a {@link HintEngine} for the next move; both are reused between calls.
+ * <p>
+ * Instances are mutable and not thread-safe; give each background worker its own.
+ */
+public final class BoardAnalyzer {
+
+    private static final int CELL_COUNT = CandidateMasks.CELL_COUNT;
+
+    private final HouseCounts houseCounts = new HouseCounts();
+    private final HintEngine hintEngine = new HintEngine();
+
+    /**
+     * @param values   Row-major grid as the player sees it, 0 for empty cells. The array is not modified.
+     * @param solution Row-major solution of the same puzzle.
+     * @return The analysis of {@code values}.
+     */
+    @NonNull
+    public BoardAnalysis analyze(@NonNull int[] values, @NonNull int[] solution) {
+        houseCounts.load(values);
+
+        long[] conflicts = new long[(CELL_COUNT + 63) >>> 6];
+        int conflictCount = 0;
+        boolean solved = houseCounts.isFull();
+        for (int index = 0; index < CELL_COUNT; index++) {
+            if (houseCounts.isConflicting(index, values[index])) {
+                conflicts[index >>> 6] |= 1L << index;
+                conflictCount++;
+            }
+            solved &= values[index] == solution[index];
+        }
+
+        int[] remainingCounts = new int[CandidateMasks.SIZE];
+        for (int digit = 1; digit <= CandidateMasks.SIZE; digit++) {
+            remainingCounts[digit - 1] = Math.max(0, CandidateMasks.SIZE - houseCounts.getDigitCount(digit));
+        }
+
+        return new BoardAnalysis(conflicts, conflictCount, remainingCounts, houseCounts.getFilledCount(),
+                houseCounts.isValid(), solved, solved ? null : hintEngine.findHint(values, solution));
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.sudoku.engine;
+
+import java.util.Arrays;
+
+/**
+ * Struct-of-arrays storage for the player-facing state of a grid: one {@code byte} value per cell, a bitset of fixed
+ * cells, a bitset of correct cells and a 9-bit note mask per cell stored in a {@code short}.
+ * <p>
+ * A 9x9 grid has 81 cells, one more than fits in a single {@code long}, so each bitset spans two words; bit
+ * {@code index & 63} of word {@code index >>> 6} belongs to cell {@code index}. Copying a whole state is four
+ * {@link System#arraycopy} calls and never allocates.
+ * <p>
+ * Every write also marks its cell in a bitset of dirty cells, which {@link #drainDirtyCells(long[])} hands out and
+ * resets, so a consumer such as a snapshot only has to look at the cells written since it last drained them.
+ * <p>
+ * Cells are addressed by their row-major index. Instances are mutable and not thread-safe.
+ */
+public final class BoardState {
+
+    private final int cellCount;
+    private final byte[] values;
+    private final long[] fixed;
+    private final long[] correct;
+    private final short[] noteMasks;
+    private final long[] dirty;
+
+    /**
+     * Creates the state of an empty 9x9 grid.
+     */
+    public BoardState() {
+        this(CandidateMasks.CELL_COUNT);
+    }
+
+    /**
+     * Creates the state of {@code cellCount} empty cells.
+     */
+    public BoardState(int cellCount) {
+        this.cellCount = cellCount;
+        this.values = new byte[cellCount];
+        this.fixed = new long[(cellCount + 63) >>> 6];
+        this.correct = new long[fixed.length];
+        this.noteMasks = new short[cellCount];
+        this.dirty = new long[fixed.length];
+        clear();
+    }
+
+    /**
+     * Empties every cell: no value, not fixed, correct and without notes.
+     */
+    public void clear() {
+        Arrays.fill(values, (byte) 0);
+        Arrays.fill(fixed, 0L);
+        // Empty cells count as correct until an incorrect value is entered.
+        Arrays.fill(correct, -1L);
+        Arrays.fill(noteMasks, (short) 0);
+        markAllDirty();
+    }
+
+    /**
+     * Overwrites this state with {@code other}, which must have the same cell count.
+     */
+    public void copyFrom(BoardState other) {
+        if (other.cellCount != cellCount) {
+            throw new IllegalArgumentException("Cannot copy " + other.cellCount + " cells into " + cellCount + ".");
+        }
+        System.arraycopy(other.values, 0, values, 0, cellCount);
+        System.arraycopy(other.fixed, 0, fixed, 0, fixed.length);
+        System.arraycopy(other.correct, 0, correct, 0, correct.length);
+        System.arraycopy(other.noteMasks, 0, noteMasks, 0, cellCount);
+        markAllDirty();
+    }
+
+    /**
+     * Moves the set of cells written since the previous call into {@code target} and starts a new, empty set.
+     *
+     * @param target Receives the dirty cells as a bitset of {@code (cellCount + 63) / 64} words.
+     */
+    public void drainDirtyCells(long[] target) {
+        System.arraycopy(dirty, 0, target, 0, dirty.length);
+        Arrays.fill(dirty, 0L);
+    }
+
+    /**
+     * Copies every value into {@code target} in row-major order.
+     */
+    public void copyValuesTo(int[] target) {
+        for (int index = 0; index < cellCount; index++) {
+            target[index] = values[index];
+        }
+    }
+
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    public int getValue(int index) {
+        return values[index];
+    }
+
+    public void setValue(int index, int value) {
+        values[index] = (byte) value;
+        dirty[index >>> 6] |= 1L << index;
+    }
+
+    public boolean isFixed(int index) {
+        return (fixed[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public void setFixed(int index, boolean isFixed) {
+        setBit(fixed, index, isFixed);
+        dirty[index >>> 6] |= 1L << index;
+    }
+
+    public boolean isCorrect(int index) {
+        return (correct[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public void setCorrect(int index, boolean isCorrect) {
+        setBit(correct, index, isCorrect);
+        dirty[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * @return The notes of the cell as a mask where bit {@code d - 1} stands for digit {@code d}.
+     */
+    public int getNoteMask(int index) {
+        return noteMasks[index];
+    }
+
+    public void setNoteMask(int index, int mask) {
+        noteMasks[index] = (short) (mask & CandidateMasks.ALL_DIGITS);
+        dirty[index >>> 6] |= 1L << index;
+    }
+
+    private void markAllDirty() {
+        Arrays.fill(dirty, -1L);
+        // Bits past the last cell stay clear so consumers can iterate the set without bounds checks.
+        if ((cellCount & 63) != 0) {
+            dirty[dirty.length - 1] = (1L << cellCount) - 1;
+        }
+    }
+
+    private static void setBit(long[] words, int index, boolean set) {
+        // Shifts on long only use the low six bits of the distance, so 1L << index selects the bit within the word.
+        if (set) {
+            words[index >>> 6] |= 1L << index;
+        } else {
+            words[index >>> 6] &= ~(1L << index);
+        }
+    }
+}
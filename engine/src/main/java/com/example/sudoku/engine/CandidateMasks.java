@@ -0,0 +1,159 @@
+package com.example.sudoku.engine;
+
+import java.util.Arrays;
+
+/**
+ * Tracks the digits already used by every row, column and 3x3 box of a 9x9 grid as 9-bit masks. Bit {@code d - 1} of a
+ * house mask is set when digit {@code d} is placed somewhere in that house, so candidate lookup, placement and removal
+ * are constant-time bit operations instead of 27-cell rescans.
+ * <p>
+ * Cells are addressed by their row-major index ({@code row * 9 + col}). Instances are mutable scratch structures and
+ * are not thread-safe.
+ */
+public final class CandidateMasks {
+
+    public static final int SIZE = 9;
+    public static final int CELL_COUNT = SIZE * SIZE;
+    public static final int ALL_DIGITS = (1 << SIZE) - 1;
+
+    private static final int[] ROW_OF = new int[CELL_COUNT];
+    private static final int[] COL_OF = new int[CELL_COUNT];
+    private static final int[] BOX_OF = new int[CELL_COUNT];
+
+    static {
+        for (int index = 0; index < CELL_COUNT; index++) {
+            int row = index / SIZE;
+            int col = index % SIZE;
+            ROW_OF[index] = row;
+            COL_OF[index] = col;
+            BOX_OF[index] = (row / 3) * 3 + col / 3;
+        }
+    }
+
+    private final int[] cells = new int[CELL_COUNT];
+    private final int[] rowMasks = new int[SIZE];
+    private final int[] colMasks = new int[SIZE];
+    private final int[] boxMasks = new int[SIZE];
+
+    /**
+     * Empties every cell and house mask.
+     */
+    public void clear() {
+        Arrays.fill(cells, 0);
+        Arrays.fill(rowMasks, 0);
+        Arrays.fill(colMasks, 0);
+        Arrays.fill(boxMasks, 0);
+    }
+
+    /**
+     * Replaces the tracked grid with the provided row-major values.
+     *
+     * @param values 81 values where {@code 0} marks an empty cell.
+     * @return {@code false} if two equal digits share a house; the conflicting digit is left out of the grid.
+     */
+    public boolean load(int[] values) {
+        clear();
+        boolean valid = true;
+        for (int index = 0; index < CELL_COUNT; index++) {
+            int digit = values[index];
+            if (digit == 0) {
+                continue;
+            }
+            if (canPlace(index, digit)) {
+                place(index, digit);
+            } else {
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * @return The digit at {@code index}, or {@code 0} when the cell is empty.
+     */
+    public int get(int index) {
+        return cells[index];
+    }
+
+    /**
+     * Returns the digits that can still be placed at {@code index} without breaking a rule.
+     *
+     * @param index Row-major cell index.
+     * @return A 9-bit candidate mask, or {@code 0} when the cell is already filled.
+     */
+    public int candidates(int index) {
+        if (cells[index] != 0) {
+            return 0;
+        }
+        return ~(rowMasks[ROW_OF[index]] | colMasks[COL_OF[index]] | boxMasks[BOX_OF[index]]) & ALL_DIGITS;
+    }
+
+    /**
+     * @return {@code true} if {@code digit} is a candidate for the empty cell at {@code index}.
+     */
+    public boolean canPlace(int index, int digit) {
+        return (candidates(index) & bit(digit)) != 0;
+    }
+
+    /**
+     * Writes {@code digit} into an empty cell and marks it as used in the cell's row, column and box. Callers are
+     * expected to check {@link #canPlace(int, int)} first.
+     */
+    public void place(int index, int digit) {
+        int digitBit = bit(digit);
+        cells[index] = digit;
+        rowMasks[ROW_OF[index]] |= digitBit;
+        colMasks[COL_OF[index]] |= digitBit;
+        boxMasks[BOX_OF[index]] |= digitBit;
+    }
+
+    /**
+     * Clears the cell at {@code index} and releases its digit in the cell's row, column and box.
+     */
+    public void unplace(int index) {
+        int digit = cells[index];
+        if (digit == 0) {
+            return;
+        }
+        int digitBit = bit(digit);
+        cells[index] = 0;
+        rowMasks[ROW_OF[index]] &= ~digitBit;
+        colMasks[COL_OF[index]] &= ~digitBit;
+        boxMasks[BOX_OF[index]] &= ~digitBit;
+    }
+
+    /**
+     * Copies the tracked values into {@code target} in row-major order.
+     */
+    public void copyValuesTo(int[] target) {
+        System.arraycopy(cells, 0, target, 0, CELL_COUNT);
+    }
+
+    /**
+     * @return The mask bit representing {@code digit} (1-9).
+     */
+    public static int bit(int digit) {
+        return 1 << (digit - 1);
+    }
+
+    /**
+     * @return The row (0-8) of a row-major cell index.
+     */
+    public static int rowOf(int index) {
+        return ROW_OF[index];
+    }
+
+    /**
+     * @return The column (0-8) of a row-major cell index.
+     */
+    public static int colOf(int index) {
+        return COL_OF[index];
+    }
+
+    /**
+     * @return The 3x3 box (0-8, row-major) of a row-major cell index.
+     */
+    public static int boxOf(int index) {
+        return BOX_OF[index];
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.sudoku.engine;
+
+/**
+ * Exact-cover solver for 9x9 Sudoku based on Knuth's Algorithm X with dancing links.
+ * <p>
+ * The 729x324 cover matrix (one row per cell/digit pair, one column per cell, row-digit, column-digit and box-digit
+ * constraint) is built once per instance and stored in flat {@code int} arrays. Each query selects the rows of the
+ * givens, searches, and then restores the matrix, so repeated uniqueness checks do not allocate.
+ * <p>
+ * Instances are mutable and not thread-safe; use one solver per worker thread.
+ */
+public final class DancingLinksSolver implements SudokuSolver {
+
+    private static final int CELL_COUNT = CandidateMasks.CELL_COUNT;
+    private static final int COLUMN_COUNT = 4 * CELL_COUNT;
+    private static final int ROW_COUNT = CELL_COUNT * 9;
+    private static final int NODES_PER_ROW = 4;
+    private static final int ROOT = 0;
+    private static final int FIRST_ROW_NODE = COLUMN_COUNT + 1;
+    private static final int NODE_COUNT = FIRST_ROW_NODE + ROW_COUNT * NODES_PER_ROW;
+
+    private final int[] left = new int[NODE_COUNT];
+    private final int[] right = new int[NODE_COUNT];
+    private final int[] up = new int[NODE_COUNT];
+    private final int[] down = new int[NODE_COUNT];
+    private final int[] column = new int[NODE_COUNT];
+    private final int[] columnSize = new int[COLUMN_COUNT + 1];
+    private final boolean[] columnCovered = new boolean[COLUMN_COUNT + 1];
+    private final int[] givenRows = new int[CELL_COUNT];
+    private final int[] searchRows = new int[CELL_COUNT];
+    private final SearchStatistics statistics = new SearchStatistics();
+
+    private int solutionCount;
+    private int solutionLimit;
+    private int[] solutionTarget;
+    private boolean cancelled;
+
+    /**
+     * Builds the full Sudoku cover matrix.
+     */
+    public DancingLinksSolver() {
+        for (int header = ROOT; header <= COLUMN_COUNT; header++) {
+            left[header] = header == ROOT ? COLUMN_COUNT : header - 1;
+            right[header] = header == COLUMN_COUNT ? ROOT : header + 1;
+            up[header] = header;
+            down[header] = header;
+            column[header] = header;
+        }
+
+        for (int row = 0; row < ROW_COUNT; row++) {
+            int cell = row / 9;
+            int digit = row % 9;
+            int first = rowNode(row);
+            appendToColumn(first, 1 + cell);
+            appendToColumn(first + 1, 1 + CELL_COUNT + CandidateMasks.rowOf(cell) * 9 + digit);
+            appendToColumn(first + 2, 1 + 2 * CELL_COUNT + CandidateMasks.colOf(cell) * 9 + digit);
+            appendToColumn(first + 3, 1 + 3 * CELL_COUNT + CandidateMasks.boxOf(cell) * 9 + digit);
+            for (int offset = 0; offset < NODES_PER_ROW; offset++) {
+                left[first + offset] = first + (offset + NODES_PER_ROW - 1) % NODES_PER_ROW;
+                right[first + offset] = first + (offset + 1) % NODES_PER_ROW;
+            }
+        }
+    }
+
+    @Override
+    public boolean solve(int[] cells) throws InterruptedException {
+        return run(cells, 1, cells) > 0;
+    }
+
+    @Override
+    public int countSolutions(int[] cells, int limit) throws InterruptedException {
+        return run(cells, limit, null);
+    }
+
+    @Override
+    public SearchStatistics getStatistics() {
+        return statistics;
+    }
+
+    private int run(int[] cells, int limit, int[] target) throws InterruptedException {
+        statistics.recordSearch();
+        solutionCount = 0;
+        solutionLimit = limit;
+        solutionTarget = target;
+        cancelled = false;
+
+        int selectedGivens = 0;
+        boolean consistent = true;
+        for (int cell = 0; cell < CELL_COUNT && consistent; cell++) {
+            int digit = cells[cell];
+            if (digit == 0) {
+                continue;
+            }
+            int first = rowNode(cell * 9 + digit - 1);
+            for (int offset = 0; offset < NODES_PER_ROW; offset++) {
+                if (columnCovered[column[first + offset]]) {
+                    consistent = false;
+                }
+            }
+            if (consistent) {
+                selectRow(first);
+                givenRows[selectedGivens++] = first;
+            }
+        }
+
+        if (consistent && limit > 0) {
+            search(0);
+        }
+
+        for (int index = selectedGivens - 1; index >= 0; index--) {
+            deselectRow(givenRows[index]);
+        }
+        solutionTarget = null;
+
+        if (cancelled) {
+            throw new InterruptedException("Solution counting was cancelled.");
+        }
+        return solutionCount;
+    }
+
+    /**
+     * Algorithm X: branch on the column with the fewest remaining rows until the limit is reached.
+     */
+    private void search(int depth) {
+        if (Thread.currentThread().isInterrupted()) {
+            cancelled = true;
+            return;
+        }
+        statistics.recordNode();
+        if (right[ROOT] == ROOT) {
+            if (solutionCount == 0 && solutionTarget != null) {
+                writeSolution(depth);
+            }
+            solutionCount++;
+            return;
+        }
+
+        int chosen = right[ROOT];
+        for (int header = right[chosen]; header != ROOT; header = right[header]) {
+            if (columnSize[header] < columnSize[chosen]) {
+                chosen = header;
+            }
+        }
+        if (columnSize[chosen] == 0) {
+            return;
+        }
+
+        cover(chosen);
+        for (int node = down[chosen]; node != chosen; node = down[node]) {
+            searchRows[depth] = node;
+            for (int peer = right[node]; peer != node; peer = right[peer]) {
+                cover(column[peer]);
+            }
+            search(depth + 1);
+            for (int peer = left[node]; peer != node; peer = left[peer]) {
+                uncover(column[peer]);
+            }
+            if (cancelled || solutionCount >= solutionLimit) {
+                break;
+            }
+        }
+        uncover(chosen);
+    }
+
+    /**
+     * Copies the rows chosen by the search into the target grid; given cells are already filled there.
+     */
+    private void writeSolution(int depth) {
+        for (int level = 0; level < depth; level++) {
+            int row = (searchRows[level] - FIRST_ROW_NODE) / NODES_PER_ROW;
+            solutionTarget[row / 9] = row % 9 + 1;
+        }
+    }
+
+    private void selectRow(int first) {
+        int node = first;
+        do {
+            cover(column[node]);
+            node = right[node];
+        } while (node != first);
+    }
+
+    private void deselectRow(int first) {
+        int node = left[first];
+        while (true) {
+            uncover(column[node]);
+            if (node == first) {
+                break;
+            }
+            node = left[node];
+        }
+    }
+
+    private void cover(int header) {
+        columnCovered[header] = true;
+        right[left[header]] = right[header];
+        left[right[header]] = left[header];
+        for (int row = down[header]; row != header; row = down[row]) {
+            for (int node = right[row]; node != row; node = right[node]) {
+                down[up[node]] = down[node];
+                up[down[node]] = up[node];
+                columnSize[column[node]]--;
+            }
+        }
+    }
+
+    private void uncover(int header) {
+        for (int row = up[header]; row != header; row = up[row]) {
+            for (int node = left[row]; node != row; node = left[node]) {
+                columnSize[column[node]]++;
+                down[up[node]] = node;
+                up[down[node]] = node;
+            }
+        }
+        right[left[header]] = header;
+        left[right[header]] = header;
+        columnCovered[header] = false;
+    }
+
+    private void appendToColumn(int node, int header) {
+        column[node] = header;
+        up[node] = up[header];
+        down[node] = header;
+        down[up[header]] = node;
+        up[header] = node;
+        columnSize[header]++;
+    }
+
+    private static int rowNode(int row) {
+        return FIRST_ROW_NODE + row * NODES_PER_ROW;
+    }
+}
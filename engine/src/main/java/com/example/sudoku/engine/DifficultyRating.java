@@ -0,0 +1,77 @@
+package com.example.sudoku.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of rating a puzzle with {@link LogicalSolver}: whether logic alone solves it, the hardest technique it needs,
+ * a weighted score, and the ordered trace of technique applications.
+ */
+public final class DifficultyRating {
+
+    private final boolean solved;
+    private final int score;
+    private final Technique hardestTechnique;
+    private final int[] techniqueCounts;
+    private final List<Technique> trace;
+
+    DifficultyRating(boolean solved, List<Technique> trace) {
+        this.solved = solved;
+        this.trace = Collections.unmodifiableList(new ArrayList<>(trace));
+        this.techniqueCounts = new int[Technique.values().length];
+        int total = 0;
+        Technique hardest = null;
+        for (Technique technique : trace) {
+            techniqueCounts[technique.ordinal()]++;
+            total += technique.weight;
+            if (hardest == null || technique.compareTo(hardest) > 0) {
+                hardest = technique;
+            }
+        }
+        this.score = total;
+        this.hardestTechnique = hardest;
+    }
+
+    /**
+     * @return {@code true} when the known techniques fill every cell; {@code false} means guessing is required, or the
+     *         puzzle has no solution.
+     */
+    public boolean isSolved() {
+        return solved;
+    }
+
+    /**
+     * @return Sum of {@link Technique#weight} over every application in the trace.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * @return Hardest technique applied, or {@code null} when the grid needed no deduction.
+     */
+    public Technique getHardestTechnique() {
+        return hardestTechnique;
+    }
+
+    /**
+     * @return Number of times {@code technique} was applied.
+     */
+    public int getTechniqueCount(Technique technique) {
+        return techniqueCounts[technique.ordinal()];
+    }
+
+    /**
+     * @return Techniques in the order they were applied.
+     */
+    public List<Technique> getTrace() {
+        return trace;
+    }
+
+    @Override
+    public String toString() {
+        return "DifficultyRating{solved=" + solved + ", score=" + score + ", hardest=" + hardestTechnique
+                + ", steps=" + trace.size() + '}';
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.sudoku.engine;
+
+/**
+ * Mutable counters describing the stages of puzzle generation: how many attempts were made, why attempts were
+ * rejected, and the time spent filling solution grids, carving clues out of them, and rating the result. Counters
+ * accumulate until {@link #reset()} is called.
+ */
+public final class GenerationStatistics {
+
+    private long attempts;
+    private long unreachableCountRejections;
+    private long belowBandRejections;
+    private long removalsAboveCeiling;
+    private long bandExtensions;
+    private long bandRetreats;
+    private long fillNanos;
+    private long carveNanos;
+    private long ratingNanos;
+
+    /**
+     * Clears every counter.
+     */
+    public void reset() {
+        attempts = 0;
+        unreachableCountRejections = 0;
+        belowBandRejections = 0;
+        removalsAboveCeiling = 0;
+        bandExtensions = 0;
+        bandRetreats = 0;
+        fillNanos = 0;
+        carveNanos = 0;
+        ratingNanos = 0;
+    }
+
+    /**
+     * Adds the counters of {@code other} to this instance.
+     */
+    public void add(GenerationStatistics other) {
+        attempts += other.attempts;
+        unreachableCountRejections += other.unreachableCountRejections;
+        belowBandRejections += other.belowBandRejections;
+        removalsAboveCeiling += other.removalsAboveCeiling;
+        bandExtensions += other.bandExtensions;
+        bandRetreats += other.bandRetreats;
+        fillNanos += other.fillNanos;
+        carveNanos += other.carveNanos;
+        ratingNanos += other.ratingNanos;
+    }
+
+    /**
+     * @return An independent copy of the current counters.
+     */
+    public GenerationStatistics copy() {
+        GenerationStatistics copy = new GenerationStatistics();
+        copy.add(this);
+        return copy;
+    }
+
+    /**
+     * Records the start of an attempt.
+     */
+    public void recordAttempt() {
+        attempts++;
+    }
+
+    /**
+     * Records an attempt abandoned because too few removable clues were left to reach the clue count.
+     */
+    public void recordUnreachableCount() {
+        unreachableCountRejections++;
+    }
+
+    /**
+     * Records an attempt that reached the clue count but was easier than the difficulty band.
+     */
+    public void recordBelowBand() {
+        belowBandRejections++;
+    }
+
+    /**
+     * Records a clue kept because removing it would need a technique harder than the band allows.
+     */
+    public void recordRemovalAboveCeiling() {
+        removalsAboveCeiling++;
+    }
+
+    /**
+     * Records a carve that came out easier than the band and reached it by removing further clues and putting earlier
+     * ones back.
+     */
+    public void recordBandExtension() {
+        bandExtensions++;
+    }
+
+    /**
+     * Records a carve that came out easier than the band and was partly undone and carved again.
+     */
+    public void recordBandRetreat() {
+        bandRetreats++;
+    }
+
+    /**
+     * Adds time spent filling a solution grid.
+     */
+    public void addFillNanos(long nanos) {
+        fillNanos += nanos;
+    }
+
+    /**
+     * Adds time spent removing clues and checking uniqueness, excluding rating.
+     */
+    public void addCarveNanos(long nanos) {
+        carveNanos += nanos;
+    }
+
+    /**
+     * Adds time spent rating candidate puzzles with {@link LogicalSolver}.
+     */
+    public void addRatingNanos(long nanos) {
+        ratingNanos += nanos;
+    }
+
+    /**
+     * @return Number of attempts started.
+     */
+    public long getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * @return Attempts abandoned early because the clue count could no longer be reached.
+     */
+    public long getUnreachableCountRejections() {
+        return unreachableCountRejections;
+    }
+
+    /**
+     * @return Attempts rejected because the carved puzzle was easier than the difficulty band.
+     */
+    public long getBelowBandRejections() {
+        return belowBandRejections;
+    }
+
+    /**
+     * @return Unique removals turned down because they exceeded the band's hardest technique.
+     */
+    public long getRemovalsAboveCeiling() {
+        return removalsAboveCeiling;
+    }
+
+    /**
+     * @return Carves that reached the band by removing further clues and putting earlier ones back.
+     */
+    public long getBandExtensions() {
+        return bandExtensions;
+    }
+
+    /**
+     * @return Partial re-carves of puzzles that came out easier than the band.
+     */
+    public long getBandRetreats() {
+        return bandRetreats;
+    }
+
+    /**
+     * @return Share of attempts rejected for any reason, or {@code 0} before the first attempt.
+     */
+    public double getRejectRate() {
+        return attempts == 0 ? 0 : (double) (unreachableCountRejections + belowBandRejections) / attempts;
+    }
+
+    /**
+     * @return Nanoseconds spent filling solution grids.
+     */
+    public long getFillNanos() {
+        return fillNanos;
+    }
+
+    /**
+     * @return Nanoseconds spent removing clues and checking uniqueness.
+     */
+    public long getCarveNanos() {
+        return carveNanos;
+    }
+
+    /**
+     * @return Nanoseconds spent rating candidate puzzles.
+     */
+    public long getRatingNanos() {
+        return ratingNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "GenerationStatistics{attempts=" + attempts + ", unreachableCount=" + unreachableCountRejections
+                + ", belowBand=" + belowBandRejections + ", removalsAboveCeiling=" + removalsAboveCeiling
+                + ", bandExtensions=" + bandExtensions + ", bandRetreats=" + bandRetreats + ", fillNanos=" + fillNanos
+                + ", carveNanos=" + carveNanos + ", ratingNanos=" + ratingNanos + '}';
+    }
+}
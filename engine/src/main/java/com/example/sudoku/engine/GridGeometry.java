@@ -0,0 +1,190 @@
+package com.example.sudoku.engine;
+
+/**
+ * Shape of a square Sudoku grid built from {@code boxSize x boxSize} boxes: 4x4 for box size 2, the classic 9x9 for
+ * 3, 16x16 for 4 and 25x25 for 5. Digits run from 1 to {@link #getSize()}, and a candidate set is an {@code int} mask
+ * with bit {@code d - 1} for digit {@code d}, which holds the 25 digits of the largest grid.
+ * <p>
+ * Cells are addressed by their row-major index. The house and peer tables are computed once per box size and shared;
+ * instances are immutable and thread-safe.
+ */
+public final class GridGeometry {
+
+    public static final int MIN_BOX_SIZE = 2;
+    public static final int MAX_BOX_SIZE = 5;
+
+    private static final GridGeometry[] INSTANCES = new GridGeometry[MAX_BOX_SIZE + 1];
+
+    static {
+        for (int boxSize = MIN_BOX_SIZE; boxSize <= MAX_BOX_SIZE; boxSize++) {
+            INSTANCES[boxSize] = new GridGeometry(boxSize);
+        }
+    }
+
+    /**
+     * The 9x9 grid used by {@link CandidateMasks} and the game.
+     */
+    public static final GridGeometry CLASSIC = of(3);
+
+    final int boxSize;
+    final int size;
+    final int cellCount;
+    final int allDigits;
+    final int[] rowOf;
+    final int[] colOf;
+    final int[] boxOf;
+    // Houses [0, size) are rows, [size, 2 * size) columns and [2 * size, 3 * size) boxes, each in row-major order.
+    final int[][] houses;
+    // The 3 houses of every cell, in row, column, box order.
+    final int[][] housesOf;
+    final int[][] peers;
+
+    private GridGeometry(int boxSize) {
+        this.boxSize = boxSize;
+        this.size = boxSize * boxSize;
+        this.cellCount = size * size;
+        this.allDigits = (1 << size) - 1;
+        this.rowOf = new int[cellCount];
+        this.colOf = new int[cellCount];
+        this.boxOf = new int[cellCount];
+        this.houses = new int[3 * size][size];
+        this.housesOf = new int[cellCount][3];
+
+        int[] boxFill = new int[size];
+        for (int index = 0; index < cellCount; index++) {
+            int row = index / size;
+            int col = index % size;
+            int box = (row / boxSize) * boxSize + col / boxSize;
+            rowOf[index] = row;
+            colOf[index] = col;
+            boxOf[index] = box;
+            houses[row][col] = index;
+            houses[size + col][row] = index;
+            houses[2 * size + box][boxFill[box]++] = index;
+            housesOf[index][0] = row;
+            housesOf[index][1] = size + col;
+            housesOf[index][2] = 2 * size + box;
+        }
+
+        // Row and column peers, plus the box cells outside both lines.
+        int peerCount = 2 * (size - 1) + (boxSize - 1) * (boxSize - 1);
+        this.peers = new int[cellCount][peerCount];
+        for (int index = 0; index < cellCount; index++) {
+            int count = 0;
+            for (int other = 0; other < cellCount; other++) {
+                if (other != index && (rowOf[other] == rowOf[index] || colOf[other] == colOf[index]
+                        || boxOf[other] == boxOf[index])) {
+                    peers[index][count++] = other;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param boxSize Side of one box, from {@value #MIN_BOX_SIZE} to {@value #MAX_BOX_SIZE}.
+     * @return The shared geometry for that box size.
+     * @throws IllegalArgumentException If the box size is out of range.
+     */
+    public static GridGeometry of(int boxSize) {
+        if (boxSize < MIN_BOX_SIZE || boxSize > MAX_BOX_SIZE) {
+            throw new IllegalArgumentException("Unsupported box size: " + boxSize);
+        }
+        return INSTANCES[boxSize];
+    }
+
+    /**
+     * @return Side of one box.
+     */
+    public int getBoxSize() {
+        return boxSize;
+    }
+
+    /**
+     * @return Side of the grid, which is also the number of digits and of cells per house.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return Number of cells in the grid.
+     */
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    /**
+     * @return Candidate mask with every digit set.
+     */
+    public int getAllDigits() {
+        return allDigits;
+    }
+
+    /**
+     * @return Number of rows, columns and boxes together.
+     */
+    public int getHouseCount() {
+        return houses.length;
+    }
+
+    /**
+     * @return Row-major index of the {@code i}-th cell of {@code house}.
+     */
+    public int houseCell(int house, int i) {
+        return houses[house][i];
+    }
+
+    /**
+     * @return Number of cells sharing a house with any one cell.
+     */
+    public int getPeerCount() {
+        return peers[0].length;
+    }
+
+    /**
+     * @return Row-major index of the {@code i}-th peer of the cell at {@code index}.
+     */
+    public int peer(int index, int i) {
+        return peers[index][i];
+    }
+
+    /**
+     * @return Row-major cell index of ({@code row}, {@code col}).
+     */
+    public int indexOf(int row, int col) {
+        return row * size + col;
+    }
+
+    /**
+     * @return The row of a row-major cell index.
+     */
+    public int rowOf(int index) {
+        return rowOf[index];
+    }
+
+    /**
+     * @return The column of a row-major cell index.
+     */
+    public int colOf(int index) {
+        return colOf[index];
+    }
+
+    /**
+     * @return The box (row-major) of a row-major cell index.
+     */
+    public int boxOf(int index) {
+        return boxOf[index];
+    }
+
+    /**
+     * @return {@code true} when the row and column are inside the grid.
+     */
+    public boolean isValidCoordinate(int row, int col) {
+        return row >= 0 && row < size && col >= 0 && col < size;
+    }
+
+    @Override
+    public String toString() {
+        return "GridGeometry{" + size + 'x' + size + '}';
+    }
+}
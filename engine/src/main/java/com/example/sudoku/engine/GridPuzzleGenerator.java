@@ -0,0 +1,78 @@
+package com.example.sudoku.engine;
+
+import java.util.Random;
+
+/**
+ * Generates unique puzzles on any {@link GridGeometry} with a {@link GridSolver}: a random solution grid is filled,
+ * then clues are removed in a shuffled order as long as the puzzle keeps exactly one solution. This is the clue-count
+ * half of {@code SudokuBoard} generation without the technique band, which {@link LogicalSolver} only rates on 9x9.
+ * <p>
+ * Instances reuse their buffers between puzzles and are not thread-safe.
+ */
+public final class GridPuzzleGenerator {
+
+    // Search nodes one uniqueness check may visit before its clue is kept as undecided. Decided checks on a 16x16 grid
+    // rarely need more than a few dozen nodes, while the odd sparse grid needs millions.
+    private static final long UNIQUENESS_NODE_BUDGET = 64;
+
+    private final GridGeometry geometry;
+    private final GridSolver solver;
+    private final Random random;
+    private final int[] removalOrder;
+
+    /**
+     * @param geometry Shape of the generated grids.
+     * @param random   Source of the solution grid and the removal order; pass a seeded instance for reproducible
+     *                 puzzles.
+     */
+    public GridPuzzleGenerator(GridGeometry geometry, Random random) {
+        this.geometry = geometry;
+        this.solver = new GridSolver(geometry);
+        this.random = random;
+        this.removalOrder = new int[geometry.cellCount];
+    }
+
+    /**
+     * Generates one puzzle.
+     *
+     * @param cellsToRemove Number of clues to remove from the solution grid.
+     * @param givens        Receives the puzzle, {@code 0} for removed cells.
+     * @param solution      Receives the complete solution grid.
+     * @return {@code false} when the removal order ran out before {@code cellsToRemove} clues could be removed; the
+     *         givens then hold the unique puzzle carved so far.
+     * @throws InterruptedException If the calling thread is interrupted while generating.
+     */
+    public boolean generate(int cellsToRemove, int[] givens, int[] solution) throws InterruptedException {
+        solver.fill(solution, random);
+        System.arraycopy(solution, 0, givens, 0, geometry.cellCount);
+
+        for (int index = 0; index < geometry.cellCount; index++) {
+            removalOrder[index] = index;
+        }
+        for (int last = geometry.cellCount - 1; last > 0; last--) {
+            int swap = random.nextInt(last + 1);
+            int position = removalOrder[last];
+            removalOrder[last] = removalOrder[swap];
+            removalOrder[swap] = position;
+        }
+
+        int removedCount = 0;
+        for (int cursor = 0; cursor < geometry.cellCount && removedCount < cellsToRemove; cursor++) {
+            int position = removalOrder[cursor];
+            givens[position] = 0;
+            if (solver.countSolutions(givens, 2, UNIQUENESS_NODE_BUDGET) == 1) {
+                removedCount++;
+            } else {
+                givens[position] = solution[position];
+            }
+        }
+        return removedCount == cellsToRemove;
+    }
+
+    /**
+     * @return The solver used for filling and uniqueness checks, with its accumulated statistics.
+     */
+    public GridSolver getSolver() {
+        return solver;
+    }
+}
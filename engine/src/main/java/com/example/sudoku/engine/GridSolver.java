@@ -0,0 +1,324 @@
+package com.example.sudoku.engine;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Constraint-propagation solver for any {@link GridGeometry}, from 4x4 up to 25x25. Every cell keeps an {@code int}
+ * candidate mask. A placement removes its digit from the cell's peers, and a peer left with one candidate is placed in
+ * turn (naked singles). After that, each house is scanned with two running masks for digits that fit in only one of
+ * its cells (hidden singles). Only when both rules are exhausted does the search branch, on the cell with the fewest
+ * candidates. Each search level copies the candidate masks into its own preallocated array, so backtracking needs no
+ * undo log.
+ * <p>
+ * {@link BitmaskSolver} stays the 9x9 engine: on the classic grid plain naked singles are cheaper than the house scans.
+ * On 16x16 and larger grids backtracking without hidden singles explodes, which is what this solver is for.
+ * <p>
+ * Instances are mutable and not thread-safe.
+ */
+public final class GridSolver {
+
+    /**
+     * Returned by {@link #countSolutions(int[], int, long)} when the search ran out of nodes before it could decide.
+     */
+    public static final int UNDECIDED = -1;
+
+    private final GridGeometry geometry;
+    private final SearchStatistics statistics = new SearchStatistics();
+    // Candidate masks per search depth; level 0 holds the givens after propagation.
+    private final int[][] levels;
+    // Cells that became single-candidate and still have to be removed from their peers. A cell is queued at most once
+    // as a given and once when propagation narrows it, hence twice the cell count.
+    private final int[] queue;
+    private int queueSize;
+    private int solutionCount;
+    private int solutionLimit;
+    private long nodesLeft;
+    private int[] solutionTarget;
+    private Random digitOrder;
+
+    /**
+     * @param geometry Shape of the grids this solver accepts.
+     */
+    public GridSolver(GridGeometry geometry) {
+        this.geometry = geometry;
+        this.levels = new int[geometry.cellCount + 1][];
+        this.queue = new int[2 * geometry.cellCount];
+    }
+
+    /**
+     * @return Shape of the grids this solver accepts.
+     */
+    public GridGeometry getGeometry() {
+        return geometry;
+    }
+
+    /**
+     * Solves the grid in place.
+     *
+     * @param cells Row-major values, {@code 0} for empty cells; empty cells receive the first solution found.
+     * @return {@code true} if a solution was written, {@code false} if the grid has none (the array is left untouched).
+     * @throws InterruptedException If the calling thread is interrupted while searching.
+     */
+    public boolean solve(int[] cells) throws InterruptedException {
+        return run(cells, 1, cells, null, Long.MAX_VALUE) > 0;
+    }
+
+    /**
+     * Counts the solutions of the grid, stopping as soon as {@code limit} solutions were found.
+     *
+     * @param cells Row-major values, {@code 0} for empty cells. The array is not modified.
+     * @param limit Upper bound on the returned count; {@code 2} is enough to decide uniqueness.
+     * @return The number of solutions found, capped at {@code limit}. Grids whose givens break a rule have none.
+     * @throws InterruptedException If the calling thread is interrupted while searching.
+     */
+    public int countSolutions(int[] cells, int limit) throws InterruptedException {
+        return run(cells, limit, null, null, Long.MAX_VALUE);
+    }
+
+    /**
+     * Counts solutions like {@link #countSolutions(int[], int)}, but gives up after visiting {@code nodeBudget} search
+     * nodes. Sparse 16x16 and 25x25 grids occasionally need millions of nodes to decide; callers that can treat such a
+     * grid as unusable bound their worst case with this overload.
+     *
+     * @return The number of solutions found, capped at {@code limit}, or {@link #UNDECIDED} when the budget ran out.
+     * @throws InterruptedException If the calling thread is interrupted while searching.
+     */
+    public int countSolutions(int[] cells, int limit, long nodeBudget) throws InterruptedException {
+        return run(cells, limit, null, null, nodeBudget);
+    }
+
+    /**
+     * @return {@code true} when the grid has exactly one solution.
+     * @throws InterruptedException If the calling thread is interrupted while searching.
+     */
+    public boolean isUnique(int[] cells) throws InterruptedException {
+        return countSolutions(cells, 2) == 1;
+    }
+
+    /**
+     * Writes a random complete solution grid into {@code target}. Branches try their digits in an order drawn from
+     * {@code random}, so a seeded instance reproduces the grid.
+     *
+     * @param target Array of at least {@link GridGeometry#getCellCount()} elements; its contents are overwritten.
+     * @return {@code true} once the grid is complete.
+     * @throws InterruptedException If the calling thread is interrupted while searching.
+     */
+    public boolean fill(int[] target, Random random) throws InterruptedException {
+        Arrays.fill(target, 0, geometry.cellCount, 0);
+        return run(target, 1, target, random, Long.MAX_VALUE) > 0;
+    }
+
+    /**
+     * Returns the counters accumulated by this solver. The returned instance is live: it keeps growing with every query
+     * until it is reset.
+     *
+     * @return Search statistics owned by this solver.
+     */
+    public SearchStatistics getStatistics() {
+        return statistics;
+    }
+
+    private int run(int[] cells, int limit, int[] target, Random random, long nodeBudget)
+            throws InterruptedException {
+        statistics.recordSearch();
+        solutionCount = 0;
+        if (limit <= 0) {
+            return 0;
+        }
+        int[] root = level(0);
+        Arrays.fill(root, geometry.allDigits);
+        queueSize = 0;
+        for (int index = 0; index < geometry.cellCount; index++) {
+            int digit = cells[index];
+            if (digit == 0) {
+                continue;
+            }
+            if (digit < 1 || digit > geometry.size || !assign(root, index, 1 << (digit - 1))) {
+                return 0;
+            }
+        }
+        if (!propagate(root)) {
+            return 0;
+        }
+
+        solutionLimit = limit;
+        nodesLeft = nodeBudget;
+        solutionTarget = target;
+        digitOrder = random;
+        try {
+            search(0);
+        } finally {
+            solutionTarget = null;
+            digitOrder = null;
+        }
+        return nodesLeft < 0 ? UNDECIDED : solutionCount;
+    }
+
+    private void search(int depth) throws InterruptedException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException("Solution counting was cancelled.");
+        }
+        statistics.recordNode();
+        if (--nodesLeft < 0) {
+            return;
+        }
+
+        int[] candidates = levels[depth];
+        int bestIndex = -1;
+        int bestCount = Integer.MAX_VALUE;
+        for (int index = 0; index < geometry.cellCount; index++) {
+            int count = Integer.bitCount(candidates[index]);
+            if (count > 1 && count < bestCount) {
+                bestIndex = index;
+                bestCount = count;
+                if (count == 2) {
+                    break;
+                }
+            }
+        }
+
+        if (bestIndex < 0) {
+            if (solutionCount == 0 && solutionTarget != null) {
+                for (int index = 0; index < geometry.cellCount; index++) {
+                    solutionTarget[index] = Integer.numberOfTrailingZeros(candidates[index]) + 1;
+                }
+            }
+            solutionCount++;
+            return;
+        }
+
+        int[] next = level(depth + 1);
+        int remaining = candidates[bestIndex];
+        while (remaining != 0) {
+            int digitBit = digitOrder == null ? remaining & -remaining : randomBit(remaining);
+            remaining ^= digitBit;
+            System.arraycopy(candidates, 0, next, 0, geometry.cellCount);
+            queueSize = 0;
+            if (assign(next, bestIndex, digitBit) && propagate(next)) {
+                search(depth + 1);
+                if (solutionCount >= solutionLimit || nodesLeft < 0) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Narrows the cell at {@code index} to {@code digitBit} and queues it for elimination from its peers.
+     *
+     * @return {@code false} if the digit is no longer a candidate of the cell.
+     */
+    private boolean assign(int[] candidates, int index, int digitBit) {
+        if ((candidates[index] & digitBit) == 0) {
+            return false;
+        }
+        candidates[index] = digitBit;
+        queue[queueSize++] = index;
+        return true;
+    }
+
+    /**
+     * Applies naked and hidden singles until neither makes progress.
+     *
+     * @return {@code false} on a contradiction: a cell without candidates, or a digit with no cell left in a house.
+     */
+    private boolean propagate(int[] candidates) {
+        do {
+            if (!eliminateQueued(candidates)) {
+                queueSize = 0;
+                return false;
+            }
+            if (!placeHiddenSingles(candidates)) {
+                queueSize = 0;
+                return false;
+            }
+        } while (queueSize > 0);
+        return true;
+    }
+
+    private boolean eliminateQueued(int[] candidates) {
+        while (queueSize > 0) {
+            int index = queue[--queueSize];
+            int digitBit = candidates[index];
+            for (int peer : geometry.peers[index]) {
+                int mask = candidates[peer];
+                if ((mask & digitBit) == 0) {
+                    continue;
+                }
+                mask &= ~digitBit;
+                if (mask == 0) {
+                    return false;
+                }
+                candidates[peer] = mask;
+                if ((mask & (mask - 1)) == 0) {
+                    queue[queueSize++] = peer;
+                    statistics.recordForcedPlacement();
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Queues every cell that is the only place left for a digit in one of its houses. {@code once} collects the digits
+     * seen in at least one cell of the house and {@code twice} those seen in two or more.
+     */
+    private boolean placeHiddenSingles(int[] candidates) {
+        for (int[] house : geometry.houses) {
+            int once = 0;
+            int twice = 0;
+            for (int index : house) {
+                int mask = candidates[index];
+                twice |= once & mask;
+                once |= mask;
+            }
+            if (once != geometry.allDigits) {
+                return false;
+            }
+            int hidden = once & ~twice;
+            while (hidden != 0) {
+                int digitBit = hidden & -hidden;
+                hidden ^= digitBit;
+                boolean placed = false;
+                for (int index : house) {
+                    int mask = candidates[index];
+                    if ((mask & digitBit) == 0) {
+                        continue;
+                    }
+                    if (mask != digitBit) {
+                        candidates[index] = digitBit;
+                        queue[queueSize++] = index;
+                        statistics.recordForcedPlacement();
+                    }
+                    placed = true;
+                    break;
+                }
+                if (!placed) {
+                    // The only cell for this digit was just narrowed to another hidden digit of the house.
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return One set bit of {@code mask}, chosen uniformly with {@link #digitOrder}.
+     */
+    private int randomBit(int mask) {
+        for (int skip = digitOrder.nextInt(Integer.bitCount(mask)); skip > 0; skip--) {
+            mask &= mask - 1;
+        }
+        return mask & -mask;
+    }
+
+    private int[] level(int depth) {
+        int[] level = levels[depth];
+        if (level == null) {
+            level = new int[geometry.cellCount];
+            levels[depth] = level;
+        }
+        return level;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.sudoku.engine;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Next move suggested by {@link HintEngine}: a digit to place in a cell, the technique that justifies it, and the cells
+ * and candidates a player has to look at to see why. Candidate eliminations that had to come first (a locked pair, an
+ * X-Wing) are folded into the same hint, so it always ends in a placement.
+ * <p>
+ * A hint can also point at a mistake: a user entry that disagrees with the solution, which has to be fixed before any
+ * deduction from the grid can be trusted.
+ * <p>
+ * Instances are immutable and safe to hand to another thread.
+ */
+public final class Hint {
+
+    private final int cell;
+    private final int digit;
+    @Nullable
+    private final Technique technique;
+    private final boolean mistake;
+    private final int[] patternCells;
+    private final int[] eliminationCells;
+    private final int[] eliminationMasks;
+
+    Hint(int cell, int digit, @Nullable Technique technique, boolean mistake, int[] patternCells,
+            int[] eliminationCells, int[] eliminationMasks) {
+        this.cell = cell;
+        this.digit = digit;
+        this.technique = technique;
+        this.mistake = mistake;
+        this.patternCells = patternCells;
+        this.eliminationCells = eliminationCells;
+        this.eliminationMasks = eliminationMasks;
+    }
+
+    /**
+     * @return Row-major index of the cell the hint is about.
+     */
+    public int getCell() {
+        return cell;
+    }
+
+    /**
+     * @return Digit that belongs in {@link #getCell()}.
+     */
+    public int getDigit() {
+        return digit;
+    }
+
+    /**
+     * @return Hardest technique needed to reach the placement, or {@code null} for mistakes and for placements beyond
+     *         the techniques of {@link LogicalSolver}, which are revealed from the solution instead.
+     */
+    @Nullable
+    public Technique getTechnique() {
+        return technique;
+    }
+
+    /**
+     * @return {@code true} when {@link #getCell()} holds a wrong user entry that should be replaced by
+     *         {@link #getDigit()}.
+     */
+    public boolean isMistake() {
+        return mistake;
+    }
+
+    /**
+     * @return Number of cells forming the patterns behind the hint, the placed cell included.
+     */
+    public int getPatternCellCount() {
+        return patternCells.length;
+    }
+
+    /**
+     * @return Row-major index of the {@code i}-th pattern cell, in ascending order.
+     */
+    public int getPatternCell(int i) {
+        return patternCells[i];
+    }
+
+    /**
+     * @return Number of cells that lose candidates on the way to the placement.
+     */
+    public int getEliminationCount() {
+        return eliminationCells.length;
+    }
+
+    /**
+     * @return Row-major index of the {@code i}-th cell losing candidates, in ascending order.
+     */
+    public int getEliminationCell(int i) {
+        return eliminationCells[i];
+    }
+
+    /**
+     * @return 9-bit mask of the candidates removed from {@link #getEliminationCell(int) elimination cell} {@code i}.
+     */
+    public int getEliminationMask(int i) {
+        return eliminationMasks[i];
+    }
+
+    @Override
+    public String toString() {
+        return "Hint{cell=" + cell + ", digit=" + digit + ", technique=" + technique + ", mistake=" + mistake + '}';
+    }
+}
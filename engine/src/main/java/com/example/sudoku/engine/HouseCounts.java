@@ -0,0 +1,172 @@
+package com.example.sudoku.engine;
+
+import java.util.Arrays;
+
+/**
+ * How often each digit appears in each row, column and box of a 9x9 grid, kept up to date one cell change at a time.
+ * A change touches the three houses of its cell, so validity, fullness, whether a cell clashes with a peer and which
+ * digits a cell can still take are constant-time reads instead of board rescans.
+ * <p>
+ * Duplicates are tallied as the placements beyond the first of a digit in a house, summed over all houses; the grid
+ * breaks no rule exactly when that tally is zero.
+ * <p>
+ * Instances are mutable and not thread-safe.
+ */
+public final class HouseCounts {
+
+    private static final int SIZE = CandidateMasks.SIZE;
+    private static final int[][] HOUSES_OF = GridGeometry.CLASSIC.housesOf;
+
+    // Slot house * 9 + digit - 1 holds the number of cells of that house showing that digit.
+    private final byte[] counts = new byte[3 * SIZE * SIZE];
+    // Bit d - 1 of a house mask is set while digit d appears at least once in that house.
+    private final int[] houseMasks = new int[3 * SIZE];
+    private int filledCount;
+    private int duplicateCount;
+
+    /**
+     * Forgets every digit.
+     */
+    public void clear() {
+        Arrays.fill(counts, (byte) 0);
+        Arrays.fill(houseMasks, 0);
+        filledCount = 0;
+        duplicateCount = 0;
+    }
+
+    /**
+     * Recounts every house from the values of {@code state}.
+     */
+    public void load(BoardState state) {
+        clear();
+        for (int index = 0; index < CandidateMasks.CELL_COUNT; index++) {
+            add(index, state.getValue(index));
+        }
+    }
+
+    /**
+     * Recounts every house from a row-major grid of 81 values, 0 for empty cells.
+     */
+    public void load(int[] values) {
+        clear();
+        for (int index = 0; index < CandidateMasks.CELL_COUNT; index++) {
+            add(index, values[index]);
+        }
+    }
+
+    /**
+     * Overwrites these counts with {@code other}.
+     */
+    public void copyFrom(HouseCounts other) {
+        System.arraycopy(other.counts, 0, counts, 0, counts.length);
+        System.arraycopy(other.houseMasks, 0, houseMasks, 0, houseMasks.length);
+        filledCount = other.filledCount;
+        duplicateCount = other.duplicateCount;
+    }
+
+    /**
+     * Records that the cell at {@code index} went from {@code oldValue} to {@code newValue}, either of which may be
+     * {@code 0} for an empty cell.
+     */
+    public void change(int index, int oldValue, int newValue) {
+        remove(index, oldValue);
+        add(index, newValue);
+    }
+
+    /**
+     * @return {@code true} when no digit appears twice in a row, column or box.
+     */
+    public boolean isValid() {
+        return duplicateCount == 0;
+    }
+
+    /**
+     * @return {@code true} when every cell holds a digit.
+     */
+    public boolean isFull() {
+        return filledCount == CandidateMasks.CELL_COUNT;
+    }
+
+    /**
+     * @return Number of cells holding a digit.
+     */
+    public int getFilledCount() {
+        return filledCount;
+    }
+
+    /**
+     * @return Placements beyond the first of a digit in a house, summed over all 27 houses.
+     */
+    public int getDuplicateCount() {
+        return duplicateCount;
+    }
+
+    /**
+     * @param digit A digit from 1 to 9.
+     * @return Number of cells showing {@code digit}, duplicates included.
+     */
+    public int getDigitCount(int digit) {
+        int count = 0;
+        for (int row = 0; row < SIZE; row++) {
+            count += counts[row * SIZE + digit - 1];
+        }
+        return count;
+    }
+
+    /**
+     * @param index Row-major cell index.
+     * @param value Digit shown in that cell, or {@code 0}.
+     * @return {@code true} when another cell of the same row, column or box shows the same digit.
+     */
+    public boolean isConflicting(int index, int value) {
+        if (value == 0) {
+            return false;
+        }
+        for (int house : HOUSES_OF[index]) {
+            if (counts[house * SIZE + value - 1] > 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the digits shown nowhere in the row, column and box of the cell at {@code index}. For an empty cell these
+     * are the pencil marks a player could still justify; the three house masks make it a constant-time read.
+     *
+     * @param index Row-major cell index.
+     * @return A 9-bit candidate mask; a filled cell's own digit counts as shown.
+     */
+    public int candidates(int index) {
+        int[] houses = HOUSES_OF[index];
+        return ~(houseMasks[houses[0]] | houseMasks[houses[1]] | houseMasks[houses[2]]) & CandidateMasks.ALL_DIGITS;
+    }
+
+    private void add(int index, int value) {
+        if (value == 0) {
+            return;
+        }
+        filledCount++;
+        for (int house : HOUSES_OF[index]) {
+            if (counts[house * SIZE + value - 1]++ > 0) {
+                duplicateCount++;
+            } else {
+                houseMasks[house] |= CandidateMasks.bit(value);
+            }
+        }
+    }
+
+    private void remove(int index, int value) {
+        if (value == 0) {
+            return;
+        }
+        filledCount--;
+        for (int house : HOUSES_OF[index]) {
+            if (--counts[house * SIZE + value - 1] > 0) {
+                duplicateCount--;
+            } else {
+                houseMasks[house] &= ~CandidateMasks.bit(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,552 @@
+package com.example.sudoku.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Solves puzzles the way a person does, with the ranked {@link Technique techniques} instead of search, and rates them
+ * by what it needed. At every step the easiest technique that makes progress is applied, so the trace and the
+ * hardest technique describe the simplest known path through the puzzle.
+ * <p>
+ * Candidates are kept as 9-bit masks per cell (bit {@code d - 1} for digit {@code d}) and every technique is a scan
+ * over the 27 houses or the 81 cells, so rating a generated puzzle takes well under a millisecond. Puzzles that need
+ * techniques beyond {@link Technique#XY_WING} are reported as unsolved rather than guessed.
+ * <p>
+ * Instances are mutable and not thread-safe.
+ */
+public final class LogicalSolver {
+
+    private static final int SIZE = CandidateMasks.SIZE;
+    private static final int CELL_COUNT = CandidateMasks.CELL_COUNT;
+    private static final int BOX_HOUSE_OFFSET = 2 * SIZE;
+    private static final Technique HARDEST = Technique.XY_WING;
+
+    // Houses 0-8 are rows, 9-17 columns and 18-26 boxes; each lists its cells in row-major order.
+    private static final int[][] HOUSES = GridGeometry.CLASSIC.houses;
+    private static final int[][] PEERS = GridGeometry.CLASSIC.peers;
+
+    private final int[] values = new int[CELL_COUNT];
+    private final int[] candidates = new int[CELL_COUNT];
+    private final LogicalStep step = new LogicalStep();
+    private final List<Technique> trace = new ArrayList<>();
+    // Per-line position masks of one digit, reused by the fish searches.
+    private final int[] linePositions = new int[SIZE];
+    private int filledCount;
+    private boolean contradiction;
+    // Summary of the last solve(int[], Technique).
+    private Technique hardestTechnique;
+    private int score;
+
+    /**
+     * Solves {@code cells} with logic only and rates the path taken. The input is not modified.
+     *
+     * @param cells Row-major grid of 81 values, 0 for empty cells.
+     * @return The rating; {@link DifficultyRating#isSolved()} is {@code false} if the techniques get stuck or the
+     *         givens contradict each other.
+     */
+    public DifficultyRating rate(int[] cells) {
+        trace.clear();
+        load(cells);
+        while (!contradiction && filledCount < CELL_COUNT && findNextStep(step, HARDEST)) {
+            apply(step);
+            trace.add(step.getTechnique());
+        }
+        return new DifficultyRating(!contradiction && filledCount == CELL_COUNT, trace);
+    }
+
+    /**
+     * Solves {@code cells} with techniques up to {@code ceiling} and keeps only the hardest technique and the score,
+     * so puzzle generation can check every removal without allocating. Hidden singles are placed a sweep of the houses
+     * at a time instead of one per step; the set of cells they fill before anything harder is needed is the same, so
+     * the result matches {@link #rate(int[])}. The input is not modified.
+     *
+     * @param cells   Row-major grid of 81 values, 0 for empty cells.
+     * @param ceiling Hardest technique allowed.
+     * @return {@code true} when the allowed techniques fill every cell.
+     */
+    public boolean solve(int[] cells, Technique ceiling) {
+        hardestTechnique = null;
+        score = 0;
+        load(cells);
+        while (!contradiction && filledCount < CELL_COUNT) {
+            int placed = placeHiddenSingles();
+            if (placed > 0) {
+                score += placed * Technique.HIDDEN_SINGLE.weight;
+                if (hardestTechnique == null) {
+                    hardestTechnique = Technique.HIDDEN_SINGLE;
+                }
+                continue;
+            }
+            if (!findNextStep(step, ceiling)) {
+                break;
+            }
+            apply(step);
+            Technique technique = step.getTechnique();
+            score += technique.weight;
+            if (hardestTechnique == null || technique.compareTo(hardestTechnique) > 0) {
+                hardestTechnique = technique;
+            }
+        }
+        return !contradiction && filledCount == CELL_COUNT;
+    }
+
+    /**
+     * @return Hardest technique applied by the last {@link #solve(int[], Technique)}, or {@code null} if it needed no
+     *         deduction.
+     */
+    public Technique getHardestTechnique() {
+        return hardestTechnique;
+    }
+
+    /**
+     * @return Sum of the technique weights applied by the last {@link #solve(int[], Technique)}.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Replaces the solver state with {@code cells} and derives every candidate from the placed digits.
+     *
+     * @param cells Row-major grid of 81 values, 0 for empty cells.
+     * @return {@code false} if two placed digits share a house.
+     */
+    public boolean load(int[] cells) {
+        contradiction = false;
+        filledCount = 0;
+        for (int index = 0; index < CELL_COUNT; index++) {
+            values[index] = 0;
+            candidates[index] = CandidateMasks.ALL_DIGITS;
+        }
+        for (int index = 0; index < CELL_COUNT; index++) {
+            int digit = cells[index];
+            if (digit != 0) {
+                if ((candidates[index] & CandidateMasks.bit(digit)) == 0) {
+                    contradiction = true;
+                }
+                place(index, digit);
+            }
+        }
+        return !contradiction;
+    }
+
+    /**
+     * Finds the easiest deduction available in the current state without applying it.
+     *
+     * @param target Step receiving the deduction.
+     * @return {@code false} when no known technique makes progress.
+     */
+    public boolean findNextStep(LogicalStep target) {
+        return findNextStep(target, HARDEST);
+    }
+
+    /**
+     * Applies a step found by {@link #findNextStep(LogicalStep)} to the current state.
+     */
+    public void apply(LogicalStep found) {
+        if (found.isPlacement()) {
+            place(found.getCell(), found.getDigit());
+            return;
+        }
+        for (int i = 0; i < found.getEliminationCount(); i++) {
+            int index = found.getEliminationCell(i);
+            candidates[index] &= ~found.getEliminationMask(i);
+            if (values[index] == 0 && candidates[index] == 0) {
+                contradiction = true;
+            }
+        }
+    }
+
+    /**
+     * @return Digit placed at {@code index}, or 0.
+     */
+    public int getValue(int index) {
+        return values[index];
+    }
+
+    /**
+     * @return 9-bit candidate mask of {@code index}; 0 for filled cells.
+     */
+    public int getCandidates(int index) {
+        return candidates[index];
+    }
+
+    /**
+     * @return {@code true} when every cell is filled.
+     */
+    public boolean isSolved() {
+        return filledCount == CELL_COUNT;
+    }
+
+    private boolean findNextStep(LogicalStep target, Technique ceiling) {
+        int limit = ceiling.ordinal();
+        return findHiddenSingle(target)
+                || (limit >= Technique.NAKED_SINGLE.ordinal() && findNakedSingle(target))
+                || (limit >= Technique.LOCKED_CANDIDATES.ordinal() && findLockedCandidates(target))
+                || (limit >= Technique.NAKED_PAIR.ordinal() && findNakedPair(target))
+                || (limit >= Technique.HIDDEN_PAIR.ordinal() && findHiddenPair(target))
+                || (limit >= Technique.X_WING.ordinal() && findFish(target, 2, Technique.X_WING))
+                || (limit >= Technique.SWORDFISH.ordinal() && findFish(target, 3, Technique.SWORDFISH))
+                || (limit >= Technique.XY_WING.ordinal() && findXyWing(target));
+    }
+
+    private void place(int index, int digit) {
+        int bit = CandidateMasks.bit(digit);
+        values[index] = digit;
+        candidates[index] = 0;
+        filledCount++;
+        for (int peer : PEERS[index]) {
+            if ((candidates[peer] & bit) != 0) {
+                candidates[peer] &= ~bit;
+                if (values[peer] == 0 && candidates[peer] == 0) {
+                    contradiction = true;
+                }
+            }
+        }
+    }
+
+    private boolean findHiddenSingle(LogicalStep target) {
+        for (int[] house : HOUSES) {
+            int once = 0;
+            int more = 0;
+            for (int index : house) {
+                int mask = candidates[index];
+                more |= once & mask;
+                once |= mask;
+            }
+            int singles = once & ~more;
+            if (singles == 0) {
+                continue;
+            }
+            int bit = Integer.lowestOneBit(singles);
+            for (int index : house) {
+                if ((candidates[index] & bit) != 0) {
+                    target.setPlacement(Technique.HIDDEN_SINGLE, index, Integer.numberOfTrailingZeros(bit) + 1);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Places the first hidden single of every house in one sweep.
+     *
+     * @return Number of cells placed.
+     */
+    private int placeHiddenSingles() {
+        int placed = 0;
+        for (int[] house : HOUSES) {
+            int once = 0;
+            int more = 0;
+            for (int index : house) {
+                int mask = candidates[index];
+                more |= once & mask;
+                once |= mask;
+            }
+            int singles = once & ~more;
+            if (singles == 0) {
+                continue;
+            }
+            int bit = Integer.lowestOneBit(singles);
+            for (int index : house) {
+                if ((candidates[index] & bit) != 0) {
+                    place(index, Integer.numberOfTrailingZeros(bit) + 1);
+                    placed++;
+                    break;
+                }
+            }
+            if (contradiction) {
+                break;
+            }
+        }
+        return placed;
+    }
+
+    private boolean findNakedSingle(LogicalStep target) {
+        for (int index = 0; index < CELL_COUNT; index++) {
+            int mask = candidates[index];
+            if (values[index] == 0 && Integer.bitCount(mask) == 1) {
+                target.setPlacement(Technique.NAKED_SINGLE, index, Integer.numberOfTrailingZeros(mask) + 1);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Pointing: a digit of a box confined to one line is removed from the rest of that line. Claiming: a digit of a
+     * line confined to one box is removed from the rest of that box.
+     */
+    private boolean findLockedCandidates(LogicalStep target) {
+        for (int box = 0; box < SIZE; box++) {
+            int[] boxCells = HOUSES[BOX_HOUSE_OFFSET + box];
+            for (int digit = 1; digit <= SIZE; digit++) {
+                int bit = CandidateMasks.bit(digit);
+                int rows = 0;
+                int cols = 0;
+                for (int index : boxCells) {
+                    if ((candidates[index] & bit) != 0) {
+                        rows |= 1 << CandidateMasks.rowOf(index);
+                        cols |= 1 << CandidateMasks.colOf(index);
+                    }
+                }
+                if (Integer.bitCount(rows) == 1
+                        && eliminateOutsideBox(target, HOUSES[Integer.numberOfTrailingZeros(rows)], box, bit)) {
+                    addPatternCells(target, boxCells, bit);
+                    return true;
+                }
+                if (Integer.bitCount(cols) == 1
+                        && eliminateOutsideBox(target, HOUSES[SIZE + Integer.numberOfTrailingZeros(cols)], box, bit)) {
+                    addPatternCells(target, boxCells, bit);
+                    return true;
+                }
+            }
+        }
+
+        for (int line = 0; line < BOX_HOUSE_OFFSET; line++) {
+            int[] lineCells = HOUSES[line];
+            for (int digit = 1; digit <= SIZE; digit++) {
+                int bit = CandidateMasks.bit(digit);
+                int boxes = 0;
+                for (int index : lineCells) {
+                    if ((candidates[index] & bit) != 0) {
+                        boxes |= 1 << CandidateMasks.boxOf(index);
+                    }
+                }
+                if (Integer.bitCount(boxes) != 1) {
+                    continue;
+                }
+                target.reset(Technique.LOCKED_CANDIDATES);
+                for (int index : HOUSES[BOX_HOUSE_OFFSET + Integer.numberOfTrailingZeros(boxes)]) {
+                    if (!isInHouse(index, line)) {
+                        target.addElimination(index, candidates[index] & bit);
+                    }
+                }
+                if (target.getEliminationCount() > 0) {
+                    addPatternCells(target, lineCells, bit);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean eliminateOutsideBox(LogicalStep target, int[] lineCells, int box, int bit) {
+        target.reset(Technique.LOCKED_CANDIDATES);
+        for (int index : lineCells) {
+            if (CandidateMasks.boxOf(index) != box) {
+                target.addElimination(index, candidates[index] & bit);
+            }
+        }
+        return target.getEliminationCount() > 0;
+    }
+
+    private boolean findNakedPair(LogicalStep target) {
+        for (int[] house : HOUSES) {
+            for (int i = 0; i < SIZE; i++) {
+                int first = house[i];
+                int pair = candidates[first];
+                if (Integer.bitCount(pair) != 2) {
+                    continue;
+                }
+                for (int j = i + 1; j < SIZE; j++) {
+                    int second = house[j];
+                    if (candidates[second] != pair) {
+                        continue;
+                    }
+                    target.reset(Technique.NAKED_PAIR);
+                    for (int index : house) {
+                        if (index != first && index != second) {
+                            target.addElimination(index, candidates[index] & pair);
+                        }
+                    }
+                    if (target.getEliminationCount() > 0) {
+                        target.addPatternCell(first);
+                        target.addPatternCell(second);
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean findHiddenPair(LogicalStep target) {
+        int[] positions = linePositions;
+        for (int[] house : HOUSES) {
+            for (int digit = 1; digit <= SIZE; digit++) {
+                int bit = CandidateMasks.bit(digit);
+                int slots = 0;
+                for (int slot = 0; slot < SIZE; slot++) {
+                    if ((candidates[house[slot]] & bit) != 0) {
+                        slots |= 1 << slot;
+                    }
+                }
+                positions[digit - 1] = slots;
+            }
+            for (int first = 0; first < SIZE; first++) {
+                int slots = positions[first];
+                if (Integer.bitCount(slots) != 2) {
+                    continue;
+                }
+                for (int second = first + 1; second < SIZE; second++) {
+                    if (positions[second] != slots) {
+                        continue;
+                    }
+                    int pair = (1 << first) | (1 << second);
+                    int firstCell = house[Integer.numberOfTrailingZeros(slots)];
+                    int secondCell = house[31 - Integer.numberOfLeadingZeros(slots)];
+                    target.reset(Technique.HIDDEN_PAIR);
+                    target.addElimination(firstCell, candidates[firstCell] & ~pair);
+                    target.addElimination(secondCell, candidates[secondCell] & ~pair);
+                    if (target.getEliminationCount() > 0) {
+                        target.addPatternCell(firstCell);
+                        target.addPatternCell(secondCell);
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Basic fish of {@code size} lines: when a digit's positions in {@code size} rows all fall into the same
+     * {@code size} columns, it is removed from those columns in every other row (and likewise with rows and columns
+     * swapped).
+     */
+    private boolean findFish(LogicalStep target, int size, Technique technique) {
+        for (int digit = 1; digit <= SIZE; digit++) {
+            int bit = CandidateMasks.bit(digit);
+            for (int orientation = 0; orientation < 2; orientation++) {
+                boolean byRows = orientation == 0;
+                for (int line = 0; line < SIZE; line++) {
+                    int positions = 0;
+                    for (int offset = 0; offset < SIZE; offset++) {
+                        if ((candidates[cellAt(byRows, line, offset)] & bit) != 0) {
+                            positions |= 1 << offset;
+                        }
+                    }
+                    int count = Integer.bitCount(positions);
+                    linePositions[line] = count >= 2 && count <= size ? positions : 0;
+                }
+                if (findFishFrom(target, technique, size, byRows, bit, 0, 0, 0, 0)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean findFishFrom(LogicalStep target, Technique technique, int size, boolean byRows, int bit,
+            int firstLine, int chosen, int chosenLines, int cover) {
+        if (chosen == size) {
+            if (Integer.bitCount(cover) != size) {
+                return false;
+            }
+            target.reset(technique);
+            for (int line = 0; line < SIZE; line++) {
+                if ((chosenLines & (1 << line)) != 0) {
+                    continue;
+                }
+                for (int offset = 0; offset < SIZE; offset++) {
+                    if ((cover & (1 << offset)) != 0) {
+                        int index = cellAt(byRows, line, offset);
+                        target.addElimination(index, candidates[index] & bit);
+                    }
+                }
+            }
+            if (target.getEliminationCount() == 0) {
+                return false;
+            }
+            for (int line = 0; line < SIZE; line++) {
+                if ((chosenLines & (1 << line)) != 0) {
+                    for (int offset = 0; offset < SIZE; offset++) {
+                        int index = cellAt(byRows, line, offset);
+                        if ((candidates[index] & bit) != 0) {
+                            target.addPatternCell(index);
+                        }
+                    }
+                }
+            }
+            return true;
+        }
+        for (int line = firstLine; line < SIZE; line++) {
+            int positions = linePositions[line];
+            if (positions == 0) {
+                continue;
+            }
+            int union = cover | positions;
+            if (Integer.bitCount(union) > size) {
+                continue;
+            }
+            if (findFishFrom(target, technique, size, byRows, bit, line + 1, chosen + 1, chosenLines | (1 << line),
+                    union)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A bivalue pivot {@code {a, b}} sees pincers {@code {a, c}} and {@code {b, c}}; whichever value the pivot takes,
+     * one pincer becomes {@code c}, so {@code c} is removed from every cell that sees both pincers.
+     */
+    private boolean findXyWing(LogicalStep target) {
+        for (int pivot = 0; pivot < CELL_COUNT; pivot++) {
+            int pivotMask = candidates[pivot];
+            if (Integer.bitCount(pivotMask) != 2) {
+                continue;
+            }
+            for (int first : PEERS[pivot]) {
+                int firstMask = candidates[first];
+                if (Integer.bitCount(firstMask) != 2 || Integer.bitCount(firstMask & pivotMask) != 1) {
+                    continue;
+                }
+                int shared = firstMask & ~pivotMask;
+                int secondMask = (pivotMask & ~firstMask) | shared;
+                for (int second : PEERS[pivot]) {
+                    if (second == first || candidates[second] != secondMask || sees(first, second)) {
+                        continue;
+                    }
+                    target.reset(Technique.XY_WING);
+                    for (int index : PEERS[first]) {
+                        if (index != pivot && index != second && sees(index, second)) {
+                            target.addElimination(index, candidates[index] & shared);
+                        }
+                    }
+                    if (target.getEliminationCount() > 0) {
+                        target.addPatternCell(pivot);
+                        target.addPatternCell(first);
+                        target.addPatternCell(second);
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private void addPatternCells(LogicalStep target, int[] house, int bit) {
+        for (int index : house) {
+            if ((candidates[index] & bit) != 0) {
+                target.addPatternCell(index);
+            }
+        }
+    }
+
+    private static int cellAt(boolean byRows, int line, int offset) {
+        return byRows ? line * SIZE + offset : offset * SIZE + line;
+    }
+
+    private static boolean isInHouse(int index, int house) {
+        return house < SIZE ? CandidateMasks.rowOf(index) == house : CandidateMasks.colOf(index) == house - SIZE;
+    }
+
+    private static boolean sees(int first, int second) {
+        return CandidateMasks.rowOf(first) == CandidateMasks.rowOf(second)
+                || CandidateMasks.colOf(first) == CandidateMasks.colOf(second)
+                || CandidateMasks.boxOf(first) == CandidateMasks.boxOf(second);
+    }
+}
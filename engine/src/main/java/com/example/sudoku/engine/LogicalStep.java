@@ -0,0 +1,116 @@
+package com.example.sudoku.engine;
+
+/**
+ * One deduction found by {@link LogicalSolver}: either a placement of a digit in a cell, or a set of candidate
+ * eliminations. The cells forming the pattern (the pair, the fish lines, the wing) are listed separately so the step
+ * can be explained or highlighted.
+ * <p>
+ * Instances are reused by the solver between steps; copy what you need before asking for the next one.
+ */
+public final class LogicalStep {
+
+    private Technique technique;
+    private int cell = -1;
+    private int digit;
+    private final int[] eliminationMasks = new int[CandidateMasks.CELL_COUNT];
+    private final int[] eliminationCells = new int[CandidateMasks.CELL_COUNT];
+    private int eliminationCount;
+    private final int[] patternCells = new int[CandidateMasks.CELL_COUNT];
+    private int patternCount;
+
+    /**
+     * @return Technique that produced this step.
+     */
+    public Technique getTechnique() {
+        return technique;
+    }
+
+    /**
+     * @return {@code true} when the step places {@link #getDigit()} in {@link #getCell()}; otherwise it only removes
+     *         candidates.
+     */
+    public boolean isPlacement() {
+        return cell >= 0;
+    }
+
+    /**
+     * @return Row-major index of the placed cell, or {@code -1} for elimination steps.
+     */
+    public int getCell() {
+        return cell;
+    }
+
+    /**
+     * @return Placed digit, or {@code 0} for elimination steps.
+     */
+    public int getDigit() {
+        return digit;
+    }
+
+    /**
+     * @return Number of cells losing candidates.
+     */
+    public int getEliminationCount() {
+        return eliminationCount;
+    }
+
+    /**
+     * @return Row-major index of the {@code i}-th cell losing candidates.
+     */
+    public int getEliminationCell(int i) {
+        return eliminationCells[i];
+    }
+
+    /**
+     * @return 9-bit mask of the candidates removed from {@link #getEliminationCell(int) elimination cell} {@code i}.
+     */
+    public int getEliminationMask(int i) {
+        return eliminationMasks[eliminationCells[i]];
+    }
+
+    /**
+     * @return Number of cells forming the pattern that justifies the step.
+     */
+    public int getPatternCellCount() {
+        return patternCount;
+    }
+
+    /**
+     * @return Row-major index of the {@code i}-th pattern cell.
+     */
+    public int getPatternCell(int i) {
+        return patternCells[i];
+    }
+
+    void reset(Technique technique) {
+        this.technique = technique;
+        cell = -1;
+        digit = 0;
+        for (int i = 0; i < eliminationCount; i++) {
+            eliminationMasks[eliminationCells[i]] = 0;
+        }
+        eliminationCount = 0;
+        patternCount = 0;
+    }
+
+    void setPlacement(Technique technique, int cell, int digit) {
+        reset(technique);
+        this.cell = cell;
+        this.digit = digit;
+        addPatternCell(cell);
+    }
+
+    void addElimination(int index, int mask) {
+        if (mask == 0) {
+            return;
+        }
+        if (eliminationMasks[index] == 0) {
+            eliminationCells[eliminationCount++] = index;
+        }
+        eliminationMasks[index] |= mask;
+    }
+
+    void addPatternCell(int index) {
+        patternCells[patternCount++] = index;
+    }
+}
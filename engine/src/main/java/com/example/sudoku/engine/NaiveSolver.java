@@ -0,0 +1,103 @@
+package com.example.sudoku.engine;
+
+/**
+ * Reference solver that fills empty cells in row-major order and validates every candidate by rescanning the cell's
+ * row, column and 3x3 box. It mirrors the original board search and is only meant as a baseline for the faster
+ * engines.
+ */
+public final class NaiveSolver implements SudokuSolver {
+
+    private final int[] grid = new int[CandidateMasks.CELL_COUNT];
+    private final SearchStatistics statistics = new SearchStatistics();
+    private int solutionCount;
+    private int solutionLimit;
+    private int[] solutionTarget;
+
+    @Override
+    public boolean solve(int[] cells) throws InterruptedException {
+        return run(cells, 1, cells) > 0;
+    }
+
+    @Override
+    public int countSolutions(int[] cells, int limit) throws InterruptedException {
+        return run(cells, limit, null);
+    }
+
+    @Override
+    public SearchStatistics getStatistics() {
+        return statistics;
+    }
+
+    private int run(int[] cells, int limit, int[] target) throws InterruptedException {
+        statistics.recordSearch();
+        System.arraycopy(cells, 0, grid, 0, CandidateMasks.CELL_COUNT);
+        for (int index = 0; index < CandidateMasks.CELL_COUNT; index++) {
+            int digit = grid[index];
+            if (digit != 0) {
+                grid[index] = 0;
+                boolean safe = isSafe(index, digit);
+                grid[index] = digit;
+                if (!safe) {
+                    return 0;
+                }
+            }
+        }
+
+        solutionCount = 0;
+        solutionLimit = limit;
+        solutionTarget = target;
+        if (limit > 0) {
+            search(0);
+        }
+        solutionTarget = null;
+        return solutionCount;
+    }
+
+    private void search(int startIndex) throws InterruptedException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException("Solution counting was cancelled.");
+        }
+        statistics.recordNode();
+        for (int index = startIndex; index < CandidateMasks.CELL_COUNT; index++) {
+            if (grid[index] == 0) {
+                for (int digit = 1; digit <= 9; digit++) {
+                    if (isSafe(index, digit)) {
+                        grid[index] = digit;
+                        search(index + 1);
+                        grid[index] = 0;
+                        if (solutionCount >= solutionLimit) {
+                            return;
+                        }
+                    }
+                }
+                return;
+            }
+        }
+
+        // A full traversal means one complete solution was found.
+        if (solutionCount == 0 && solutionTarget != null) {
+            System.arraycopy(grid, 0, solutionTarget, 0, CandidateMasks.CELL_COUNT);
+        }
+        solutionCount++;
+    }
+
+    private boolean isSafe(int index, int digit) {
+        int row = CandidateMasks.rowOf(index);
+        int col = CandidateMasks.colOf(index);
+        for (int offset = 0; offset < 9; offset++) {
+            if (grid[row * 9 + offset] == digit || grid[offset * 9 + col] == digit) {
+                return false;
+            }
+        }
+        int startRow = row - row % 3;
+        int startCol = col - col % 3;
+        for (int rOffset = 0; rOffset < 3; rOffset++) {
+            for (int cOffset = 0; cOffset < 3; cOffset++) {
+                if (grid[(startRow + rOffset) * 9 + startCol + cOffset] == digit) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
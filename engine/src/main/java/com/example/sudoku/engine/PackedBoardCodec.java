@@ -0,0 +1,205 @@
+package com.example.sudoku.engine;
+
+/**
+ * Compact binary encodings for 9x9 grids, used wherever boards are cached, persisted or transferred.
+ * <ul>
+ * <li>Grid: 4 bits per cell (0 for empty, 1-9 for digits), two cells per byte with the even cell in the low nibble, so
+ * 81 cells fit in {@value #GRID_BYTES} bytes instead of 81 ints.</li>
+ * <li>Puzzle: the givens grid followed by the solution grid, {@value #PUZZLE_BYTES} bytes.</li>
+ * <li>Seeded puzzle: a puzzle followed by a presence byte (1 when a generation seed follows, 0 otherwise) and the
+ * 8-byte big-endian seed, {@value #SEEDED_PUZZLE_BYTES} bytes.</li>
+ * <li>Notes: the 9-bit note mask of every cell, bit-packed back to back into {@value #NOTES_BYTES} bytes.</li>
+ * <li>Flags: one bit per cell, {@value #FLAGS_BYTES} bytes.</li>
+ * </ul>
+ * Cells are addressed by their row-major index. Decoding rejects out-of-range values with an
+ * {@link IllegalArgumentException}, so corrupted payloads fail fast instead of producing an inconsistent board.
+ */
+public final class PackedBoardCodec {
+
+    private static final int CELL_COUNT = CandidateMasks.CELL_COUNT;
+
+    public static final int GRID_BYTES = (CELL_COUNT + 1) / 2;
+    public static final int PUZZLE_BYTES = 2 * GRID_BYTES;
+    public static final int SEEDED_PUZZLE_BYTES = PUZZLE_BYTES + 1 + Long.BYTES;
+    public static final int NOTES_BYTES = (CELL_COUNT * CandidateMasks.SIZE + 7) / 8;
+    public static final int FLAGS_BYTES = (CELL_COUNT + 7) / 8;
+
+    private PackedBoardCodec() {
+    }
+
+    /**
+     * Packs 81 row-major digits into {@value #GRID_BYTES} bytes starting at {@code offset}.
+     */
+    public static void packGrid(int[] cells, byte[] target, int offset) {
+        for (int index = 0; index < GRID_BYTES; index++) {
+            int low = cells[2 * index];
+            int high = 2 * index + 1 < CELL_COUNT ? cells[2 * index + 1] : 0;
+            target[offset + index] = (byte) (low | high << 4);
+        }
+    }
+
+    /**
+     * Unpacks a grid written by {@link #packGrid(int[], byte[], int)}.
+     *
+     * @throws IllegalArgumentException If the payload is too short or a cell holds a value outside 0-9.
+     */
+    public static void unpackGrid(byte[] source, int offset, int[] target) {
+        if (source == null || offset < 0 || source.length - offset < GRID_BYTES) {
+            throw new IllegalArgumentException("Expected " + GRID_BYTES + " packed bytes.");
+        }
+        for (int index = 0; index < CELL_COUNT; index++) {
+            int packed = source[offset + index / 2];
+            int value = (index & 1) == 0 ? packed & 0x0F : (packed >> 4) & 0x0F;
+            if (value > 9) {
+                throw new IllegalArgumentException("Packed cell " + index + " holds " + value + ".");
+            }
+            target[index] = value;
+        }
+    }
+
+    /**
+     * Packs a puzzle as its givens grid followed by its solution grid.
+     *
+     * @return A new array of {@value #PUZZLE_BYTES} bytes.
+     */
+    public static byte[] packPuzzle(int[] givens, int[] solution) {
+        byte[] packed = new byte[PUZZLE_BYTES];
+        packGrid(givens, packed, 0);
+        packGrid(solution, packed, GRID_BYTES);
+        return packed;
+    }
+
+    /**
+     * Unpacks a puzzle written by {@link #packPuzzle(int[], int[])}.
+     *
+     * @throws IllegalArgumentException If the payload has the wrong size or holds out-of-range cells.
+     */
+    public static void unpackPuzzle(byte[] packed, int[] givens, int[] solution) {
+        requireLength(packed, PUZZLE_BYTES);
+        unpackGrid(packed, 0, givens);
+        unpackGrid(packed, GRID_BYTES, solution);
+    }
+
+    /**
+     * Packs a puzzle together with the seed it was generated from.
+     *
+     * @param hasSeed {@code false} for puzzles without a known seed; {@code seed} is then ignored.
+     * @return A new array of {@value #SEEDED_PUZZLE_BYTES} bytes.
+     */
+    public static byte[] packSeededPuzzle(int[] givens, int[] solution, boolean hasSeed, long seed) {
+        byte[] packed = new byte[SEEDED_PUZZLE_BYTES];
+        packGrid(givens, packed, 0);
+        packGrid(solution, packed, GRID_BYTES);
+        if (hasSeed) {
+            packed[PUZZLE_BYTES] = 1;
+            for (int i = 0; i < Long.BYTES; i++) {
+                packed[PUZZLE_BYTES + 1 + i] = (byte) (seed >>> (Long.SIZE - Byte.SIZE * (i + 1)));
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Unpacks a puzzle written by {@link #packSeededPuzzle(int[], int[], boolean, long)}.
+     *
+     * @return {@code true} when the payload carries a seed, which {@link #readPuzzleSeed(byte[])} then returns.
+     * @throws IllegalArgumentException If the payload has the wrong size, holds out-of-range cells or an unknown
+     *                                  presence byte.
+     */
+    public static boolean unpackSeededPuzzle(byte[] packed, int[] givens, int[] solution) {
+        requireLength(packed, SEEDED_PUZZLE_BYTES);
+        int presence = packed[PUZZLE_BYTES];
+        if (presence != 0 && presence != 1) {
+            throw new IllegalArgumentException("Unknown seed presence byte " + presence + ".");
+        }
+        unpackGrid(packed, 0, givens);
+        unpackGrid(packed, GRID_BYTES, solution);
+        return presence == 1;
+    }
+
+    /**
+     * @return The seed stored in a payload for which {@link #unpackSeededPuzzle(byte[], int[], int[])} returned
+     *         {@code true}.
+     */
+    public static long readPuzzleSeed(byte[] packed) {
+        requireLength(packed, SEEDED_PUZZLE_BYTES);
+        long seed = 0L;
+        for (int i = 0; i < Long.BYTES; i++) {
+            seed = seed << Byte.SIZE | (packed[PUZZLE_BYTES + 1 + i] & 0xFF);
+        }
+        return seed;
+    }
+
+    /**
+     * Packs the 9-bit note mask of every cell into {@value #NOTES_BYTES} bytes.
+     *
+     * @return A new packed array.
+     */
+    public static byte[] packNotes(int[] noteMasks) {
+        byte[] packed = new byte[NOTES_BYTES];
+        for (int index = 0; index < CELL_COUNT; index++) {
+            int mask = noteMasks[index] & CandidateMasks.ALL_DIGITS;
+            int bitOffset = index * CandidateMasks.SIZE;
+            for (int bit = 0; bit < CandidateMasks.SIZE; bit++) {
+                if ((mask & (1 << bit)) != 0) {
+                    int position = bitOffset + bit;
+                    packed[position >> 3] |= (byte) (1 << (position & 7));
+                }
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Unpacks note masks written by {@link #packNotes(int[])}.
+     *
+     * @throws IllegalArgumentException If the payload has the wrong size.
+     */
+    public static void unpackNotes(byte[] packed, int[] noteMasks) {
+        requireLength(packed, NOTES_BYTES);
+        for (int index = 0; index < CELL_COUNT; index++) {
+            int bitOffset = index * CandidateMasks.SIZE;
+            int mask = 0;
+            for (int bit = 0; bit < CandidateMasks.SIZE; bit++) {
+                int position = bitOffset + bit;
+                if ((packed[position >> 3] & (1 << (position & 7))) != 0) {
+                    mask |= 1 << bit;
+                }
+            }
+            noteMasks[index] = mask;
+        }
+    }
+
+    /**
+     * Packs one flag per cell into {@value #FLAGS_BYTES} bytes.
+     *
+     * @return A new packed array.
+     */
+    public static byte[] packFlags(boolean[] flags) {
+        byte[] packed = new byte[FLAGS_BYTES];
+        for (int index = 0; index < CELL_COUNT; index++) {
+            if (flags[index]) {
+                packed[index >> 3] |= (byte) (1 << (index & 7));
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Unpacks flags written by {@link #packFlags(boolean[])}.
+     *
+     * @throws IllegalArgumentException If the payload has the wrong size.
+     */
+    public static void unpackFlags(byte[] packed, boolean[] flags) {
+        requireLength(packed, FLAGS_BYTES);
+        for (int index = 0; index < CELL_COUNT; index++) {
+            flags[index] = (packed[index >> 3] & (1 << (index & 7))) != 0;
+        }
+    }
+
+    private static void requireLength(byte[] packed, int expectedLength) {
+        if (packed == null || packed.length != expectedLength) {
+            throw new IllegalArgumentException("Expected " + expectedLength + " packed bytes.");
+        }
+    }
+}
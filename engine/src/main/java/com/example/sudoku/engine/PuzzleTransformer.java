@@ -0,0 +1,136 @@
+package com.example.sudoku.engine;
+
+import java.util.Random;
+
+/**
+ * Derives new puzzles from an existing one through symmetries of the Sudoku rules: relabeling the digits, permuting
+ * bands and the rows inside each band, permuting stacks and the columns inside each stack, and transposing. Rotations
+ * and reflections are compositions of these. Every such transformation maps valid grids to valid grids and solutions to
+ * solutions, so a puzzle with a unique solution stays unique and keeps its clue count, at the cost of a few array
+ * passes instead of a search.
+ * <p>
+ * One puzzle has up to 9! * 6^8 * 2 (about 1.2 * 10^12) transformed variants. Grids are flat row-major arrays of 81
+ * values with 0 for empty cells, as everywhere in the engine.
+ * <p>
+ * Instances are mutable and not thread-safe; a transformation performs no heap allocation.
+ */
+public final class PuzzleTransformer {
+
+    private static final int BOX_SIZE = 3;
+
+    private final Random random;
+    // sourceCell[target] is the cell whose value moves to target under the current transformation.
+    private final int[] sourceCell = new int[CandidateMasks.CELL_COUNT];
+    // digitMap[digit] is the new label of digit; digitMap[0] stays 0 so empty cells remain empty.
+    private final int[] digitMap = new int[CandidateMasks.SIZE + 1];
+    private final int[] rowOrder = new int[CandidateMasks.SIZE];
+    private final int[] columnOrder = new int[CandidateMasks.SIZE];
+    private final int[] groupOrder = new int[BOX_SIZE];
+    private final int[] scratch = new int[CandidateMasks.CELL_COUNT];
+
+    /**
+     * @param random Source of the transformations; pass a seeded instance for reproducible variants.
+     */
+    public PuzzleTransformer(Random random) {
+        this.random = random;
+        reset();
+    }
+
+    /**
+     * Restores the identity transformation.
+     */
+    public void reset() {
+        for (int index = 0; index < CandidateMasks.CELL_COUNT; index++) {
+            sourceCell[index] = index;
+        }
+        for (int digit = 0; digit <= CandidateMasks.SIZE; digit++) {
+            digitMap[digit] = digit;
+        }
+    }
+
+    /**
+     * Picks a new random transformation, uniformly over digit relabelings, band, row, stack and column orders, and
+     * transposition.
+     */
+    public void shuffle() {
+        shuffleLines(rowOrder);
+        shuffleLines(columnOrder);
+        boolean transpose = random.nextBoolean();
+        for (int row = 0; row < CandidateMasks.SIZE; row++) {
+            for (int col = 0; col < CandidateMasks.SIZE; col++) {
+                int sourceRow = rowOrder[row];
+                int sourceCol = columnOrder[col];
+                sourceCell[row * CandidateMasks.SIZE + col] = transpose
+                        ? sourceCol * CandidateMasks.SIZE + sourceRow
+                        : sourceRow * CandidateMasks.SIZE + sourceCol;
+            }
+        }
+
+        for (int digit = 1; digit <= CandidateMasks.SIZE; digit++) {
+            digitMap[digit] = digit;
+        }
+        for (int last = CandidateMasks.SIZE; last > 1; last--) {
+            int swap = 1 + random.nextInt(last);
+            int digit = digitMap[last];
+            digitMap[last] = digitMap[swap];
+            digitMap[swap] = digit;
+        }
+    }
+
+    /**
+     * Applies the current transformation to {@code grid} in place.
+     *
+     * @param grid Row-major grid of at least 81 values between 0 and 9.
+     */
+    public void apply(int[] grid) {
+        for (int index = 0; index < CandidateMasks.CELL_COUNT; index++) {
+            scratch[index] = digitMap[grid[sourceCell[index]]];
+        }
+        System.arraycopy(scratch, 0, grid, 0, CandidateMasks.CELL_COUNT);
+    }
+
+    /**
+     * Picks a new transformation and applies it to a puzzle and its solution, keeping them consistent.
+     *
+     * @param givens   Row-major clues, 0 for empty cells; transformed in place.
+     * @param solution Row-major complete solution of {@code givens}; transformed in place.
+     */
+    public void transform(int[] givens, int[] solution) {
+        shuffle();
+        apply(givens);
+        apply(solution);
+    }
+
+    /**
+     * Fills {@code order} with a random line order that keeps lines inside their band (or stack): the groups of three
+     * are permuted, then the lines inside each group.
+     */
+    private void shuffleLines(int[] order) {
+        shuffle(groupOrder);
+        for (int group = 0; group < BOX_SIZE; group++) {
+            int base = group * BOX_SIZE;
+            int sourceBase = groupOrder[group] * BOX_SIZE;
+            for (int line = 0; line < BOX_SIZE; line++) {
+                order[base + line] = sourceBase + line;
+            }
+            for (int last = BOX_SIZE - 1; last > 0; last--) {
+                int swap = random.nextInt(last + 1);
+                int value = order[base + last];
+                order[base + last] = order[base + swap];
+                order[base + swap] = value;
+            }
+        }
+    }
+
+    private void shuffle(int[] values) {
+        for (int index = 0; index < values.length; index++) {
+            values[index] = index;
+        }
+        for (int last = values.length - 1; last > 0; last--) {
+            int swap = random.nextInt(last + 1);
+            int value = values[last];
+            values[last] = values[swap];
+            values[swap] = value;
+        }
+    }
+}
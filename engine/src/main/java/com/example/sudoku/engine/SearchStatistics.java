@@ -0,0 +1,85 @@
+package com.example.sudoku.engine;
+
+/**
+ * Mutable counters describing the work done by a {@link SudokuSolver}, used to compare how much each engine shrinks
+ * the search tree. Counters accumulate across queries until {@link #reset()} is called.
+ */
+public final class SearchStatistics {
+
+    private long searches;
+    private long nodes;
+    private long forcedPlacements;
+
+    /**
+     * Clears every counter.
+     */
+    public void reset() {
+        searches = 0;
+        nodes = 0;
+        forcedPlacements = 0;
+    }
+
+    /**
+     * Adds the counters of {@code other} to this instance.
+     */
+    public void add(SearchStatistics other) {
+        searches += other.searches;
+        nodes += other.nodes;
+        forcedPlacements += other.forcedPlacements;
+    }
+
+    /**
+     * @return An independent copy of the current counters.
+     */
+    public SearchStatistics copy() {
+        SearchStatistics copy = new SearchStatistics();
+        copy.add(this);
+        return copy;
+    }
+
+    void recordSearch() {
+        searches++;
+    }
+
+    void recordNode() {
+        nodes++;
+    }
+
+    void recordForcedPlacement() {
+        forcedPlacements++;
+    }
+
+    /**
+     * @return Number of solve/count queries.
+     */
+    public long getSearches() {
+        return searches;
+    }
+
+    /**
+     * @return Number of search-tree nodes visited, i.e. recursive search calls.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * @return Number of cells filled by constraint propagation instead of branching.
+     */
+    public long getForcedPlacements() {
+        return forcedPlacements;
+    }
+
+    /**
+     * @return Average number of nodes per query, or {@code 0} before the first query.
+     */
+    public double getNodesPerSearch() {
+        return searches == 0 ? 0 : (double) nodes / searches;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchStatistics{searches=" + searches + ", nodes=" + nodes + ", forcedPlacements="
+                + forcedPlacements + '}';
+    }
+}
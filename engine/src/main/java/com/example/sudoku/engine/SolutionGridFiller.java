@@ -0,0 +1,69 @@
+package com.example.sudoku.engine;
+
+import java.util.Random;
+
+/**
+ * Fills {@link CandidateMasks} with a random complete solution by backtracking in row-major order.
+ * <p>
+ * The digits tried at each cell are shuffled in place with Fisher-Yates into a preallocated {@code int} stack that
+ * holds one 9-digit slot per recursion level, so a fill performs no heap allocation once the filler exists.
+ * <p>
+ * Instances are mutable and not thread-safe.
+ */
+public final class SolutionGridFiller {
+
+    private final Random random;
+    // Slot [index * 9, index * 9 + 9) holds the shuffled digit order for the cell at that index.
+    private final int[] digitOrder = new int[CandidateMasks.CELL_COUNT * CandidateMasks.SIZE];
+
+    /**
+     * @param random Source of the digit order; pass a seeded instance for reproducible grids.
+     */
+    public SolutionGridFiller(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * Clears {@code masks} and fills every cell with a random valid solution.
+     *
+     * @return {@code true} once the grid is complete.
+     */
+    public boolean fill(CandidateMasks masks) {
+        masks.clear();
+        return fillFrom(masks, 0);
+    }
+
+    private boolean fillFrom(CandidateMasks masks, int index) {
+        if (index == CandidateMasks.CELL_COUNT) {
+            return true;
+        }
+
+        int candidates = masks.candidates(index);
+        if (candidates == 0) {
+            return false;
+        }
+
+        int base = index * CandidateMasks.SIZE;
+        for (int digit = 1; digit <= CandidateMasks.SIZE; digit++) {
+            digitOrder[base + digit - 1] = digit;
+        }
+        for (int last = CandidateMasks.SIZE - 1; last > 0; last--) {
+            int swap = random.nextInt(last + 1);
+            int digit = digitOrder[base + last];
+            digitOrder[base + last] = digitOrder[base + swap];
+            digitOrder[base + swap] = digit;
+        }
+
+        for (int offset = 0; offset < CandidateMasks.SIZE; offset++) {
+            int digit = digitOrder[base + offset];
+            if ((candidates & CandidateMasks.bit(digit)) != 0) {
+                masks.place(index, digit);
+                if (fillFrom(masks, index + 1)) {
+                    return true;
+                }
+                masks.unplace(index);
+            }
+        }
+        return false;
+    }
+}
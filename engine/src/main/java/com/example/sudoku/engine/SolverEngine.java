@@ -0,0 +1,54 @@
+package com.example.sudoku.engine;
+
+/**
+ * Available {@link SudokuSolver} implementations, used to pick an engine through configuration.
+ */
+public enum SolverEngine {
+    /**
+     * Row-major backtracking with full row, column and box rescans. Slow; kept as a reference for comparisons.
+     */
+    NAIVE,
+    /**
+     * Backtracking over {@link CandidateMasks} that branches on the most constrained cell. Small memory footprint and
+     * the fastest engine for puzzle generation.
+     */
+    BITMASK,
+    /**
+     * Algorithm X with dancing links over a prebuilt exact-cover matrix. Shines on sparse grids, but every query pays
+     * to select the rows of all givens.
+     */
+    DANCING_LINKS;
+
+    /**
+     * Engine used when no explicit configuration is provided.
+     */
+    public static final SolverEngine DEFAULT = BITMASK;
+
+    /**
+     * Resolves an engine from its configured name.
+     *
+     * @param name Enum constant name, typically read from configuration.
+     * @return The matching engine, or {@link #DEFAULT} when the name is missing or unknown.
+     */
+    public static SolverEngine fromName(String name) {
+        if (name != null) {
+            for (SolverEngine engine : values()) {
+                if (engine.name().equals(name)) {
+                    return engine;
+                }
+            }
+        }
+        return DEFAULT;
+    }
+
+    /**
+     * @return A new solver instance for this engine. Solvers are not thread-safe, so each worker needs its own.
+     */
+    public SudokuSolver create() {
+        return switch (this) {
+        case NAIVE -> new NaiveSolver();
+        case BITMASK -> new BitmaskSolver();
+        case DANCING_LINKS -> new DancingLinksSolver();
+        };
+    }
+}
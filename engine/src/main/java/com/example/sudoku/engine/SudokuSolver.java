@@ -0,0 +1,45 @@
+package com.example.sudoku.engine;
+
+/**
+ * Common contract for the interchangeable Sudoku solving engines.
+ * <p>
+ * Grids are passed as 81 row-major values where {@code 0} marks an empty cell. Implementations keep reusable scratch
+ * state, so they are not thread-safe: create one solver per thread (see {@link SolverEngine#create()}).
+ */
+public interface SudokuSolver {
+
+    /**
+     * Solves the grid in place.
+     *
+     * @param cells 81 row-major values; empty cells are filled with the first solution found.
+     * @return {@code true} if a solution was written, {@code false} if the grid has none (the array is left untouched).
+     * @throws InterruptedException If the calling thread is interrupted while searching.
+     */
+    boolean solve(int[] cells) throws InterruptedException;
+
+    /**
+     * Counts the solutions of the grid, stopping as soon as {@code limit} solutions were found.
+     *
+     * @param cells 81 row-major values. The array is not modified.
+     * @param limit Upper bound on the returned count; {@code 2} is enough to decide uniqueness.
+     * @return The number of solutions found, capped at {@code limit}. Grids whose givens break a rule have none.
+     * @throws InterruptedException If the calling thread is interrupted while searching.
+     */
+    int countSolutions(int[] cells, int limit) throws InterruptedException;
+
+    /**
+     * Returns the counters accumulated by this solver. The returned instance is live: it keeps growing with every query
+     * until it is reset.
+     *
+     * @return Search statistics owned by this solver.
+     */
+    SearchStatistics getStatistics();
+
+    /**
+     * @return {@code true} when the grid has exactly one solution.
+     * @throws InterruptedException If the calling thread is interrupted while searching.
+     */
+    default boolean isUnique(int[] cells) throws InterruptedException {
+        return countSolutions(cells, 2) == 1;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.sudoku.engine;
+
+/**
+ * Human solving techniques known to {@link LogicalSolver}, declared from easiest to hardest. The solver always applies
+ * the easiest technique that makes progress, and the weight of each application adds to a puzzle's
+ * {@link DifficultyRating#getScore() score}.
+ */
+public enum Technique {
+    /** The only cell of a house that can still hold a digit. */
+    HIDDEN_SINGLE(1),
+    /** A cell with a single remaining candidate. */
+    NAKED_SINGLE(2),
+    /** A digit confined to one line inside a box, or to one box inside a line (pointing and claiming). */
+    LOCKED_CANDIDATES(5),
+    /** Two cells of a house restricted to the same two digits. */
+    NAKED_PAIR(8),
+    /** Two digits of a house restricted to the same two cells. */
+    HIDDEN_PAIR(10),
+    /** A digit restricted to the same two columns in two rows, or the same two rows in two columns. */
+    X_WING(14),
+    /** The three-line generalization of {@link #X_WING}. */
+    SWORDFISH(20),
+    /** The shortest XY-chain: a bivalue pivot and two bivalue pincers that share a digit. */
+    XY_WING(24);
+
+    public final int weight;
+
+    Technique(int weight) {
+        this.weight = weight;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.sudoku;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for immutable board snapshots and their changed-cell sets.
+ */
+public class BoardSnapshotTest {
+
+    /**
+     * A first snapshot marks every cell; a move or a note marks only the cells it touched and leaves the earlier
+     * snapshot as it was.
+     */
+    @Test
+    public void snapshot_marksOnlyChangedCells() throws Exception {
+        SudokuBoard board = new SudokuBoard();
+        board.generateNewPuzzle(SudokuBoard.Difficulty.MEDIUM, 3L);
+        int[] solution = new int[81];
+        board.copySolutionTo(solution);
+        int index = 0;
+        while (board.getCell(index / 9, index % 9).isFixed()) {
+            index++;
+        }
+        int row = index / 9;
+        int col = index % 9;
+        // Any other open cell outside the row, searched from the end so the index stays on the grid.
+        int other = 80;
+        while (other >= 0 && (other / 9 == row || board.getCell(other / 9, other % 9).isFixed())) {
+            other--;
+        }
+        assertTrue(other >= 0);
+
+        BoardSnapshot initial = board.snapshot(null);
+        board.setCellValue(row, col, solution[index], 0, false);
+        BoardSnapshot afterMove = board.snapshot(initial);
+        board.getCell(other / 9, other % 9).addNote(4);
+        BoardSnapshot afterNote = board.snapshot(afterMove);
+
+        assertEquals(BoardSnapshot.NO_BASE_VERSION, initial.getBaseVersion());
+        assertEquals(81, initial.getChangedCount());
+        assertEquals(initial.getVersion(), afterMove.getBaseVersion());
+        assertEquals(1, afterMove.getChangedCount());
+        assertTrue(afterMove.isChanged(index));
+        assertEquals(index, afterMove.nextChangedCell(0));
+        assertEquals(-1, afterMove.nextChangedCell(index + 1));
+        assertEquals(solution[index], afterMove.getValue(row, col));
+        assertFalse(afterMove.isFixed(row, col));
+        assertTrue(afterMove.isCorrect(row, col));
+        assertEquals(0, initial.getValue(row, col));
+
+        assertEquals(1, afterNote.getChangedCount());
+        assertEquals(other, afterNote.nextChangedCell(0));
+        assertEquals(1 << 3, afterNote.getNoteMask(other / 9, other % 9));
+        assertEquals(solution[index], afterNote.getValue(row, col));
+        assertEquals(0, afterMove.getNoteMask(other / 9, other % 9));
+    }
+
+    /**
+     * With note removal on, a placement marks the placed cell and the peers that lost a note, and undo marks the same
+     * cells again; cells written back to what the previous snapshot showed are not marked.
+     */
+    @Test
+    public void snapshot_marksPrunedPeersAndSkipsRewrittenCells() throws Exception {
+        SudokuBoard board = new SudokuBoard();
+        board.generateNewPuzzle(SudokuBoard.Difficulty.MEDIUM, 3L);
+        board.setAutoRemoveNotes(true);
+        int[] solution = new int[81];
+        board.copySolutionTo(solution);
+        int index = 0;
+        while (board.getCell(index / 9, index % 9).isFixed()) {
+            index++;
+        }
+        // Another open cell of the same box, which the placement prunes, and one far away, which it leaves alone.
+        int boxRow = index / 27 * 3;
+        int boxCol = index % 9 / 3 * 3;
+        int peer = -1;
+        for (int cell = 0; cell < 9 && peer < 0; cell++) {
+            int candidate = (boxRow + cell / 3) * 9 + boxCol + cell % 3;
+            if (candidate != index && !board.getCell(candidate / 9, candidate % 9).isFixed()) {
+                peer = candidate;
+            }
+        }
+        assertTrue(peer >= 0);
+        int stranger = 80;
+        while (stranger / 9 == index / 9 || stranger % 9 == index % 9
+                || (stranger / 27 == index / 27 && stranger % 9 / 3 == index % 9 / 3)
+                || board.getCell(stranger / 9, stranger % 9).isFixed()) {
+            stranger--;
+        }
+        board.getCell(stranger / 9, stranger % 9).addNote(solution[index]);
+        board.getCell(peer / 9, peer % 9).addNote(solution[index]);
+        BoardSnapshot initial = board.snapshot(null);
+
+        board.setCellValue(index / 9, index % 9, solution[index], 0, false);
+        BoardSnapshot afterMove = board.snapshot(initial);
+        board.undoMove();
+        BoardSnapshot afterUndo = board.snapshot(afterMove);
+        board.getCell(peer / 9, peer % 9).removeNote(solution[index]);
+        board.getCell(peer / 9, peer % 9).addNote(solution[index]);
+        BoardSnapshot unchanged = board.snapshot(afterUndo);
+
+        assertEquals(2, afterMove.getChangedCount());
+        assertTrue(afterMove.isChanged(peer));
+        assertFalse(afterMove.isChanged(stranger));
+        assertEquals(2, afterUndo.getChangedCount());
+        assertEquals(1 << (solution[index] - 1), afterUndo.getNoteMask(peer / 9, peer % 9));
+        assertEquals(0, unchanged.getChangedCount());
+        assertEquals(-1, unchanged.nextChangedCell(0));
+    }
+}
@@ -0,0 +1,552 @@
+package com.example.sudoku;
+
+import com.example.sudoku.engine.CandidateMasks;
+import com.example.sudoku.engine.DifficultyRating;
+import com.example.sudoku.engine.GenerationStatistics;
+import com.example.sudoku.engine.SolverEngine;
+import com.example.sudoku.engine.SudokuSolver;
+import com.example.sudoku.engine.Technique;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Behavioral tests for {@link SudokuBoard} editing, validation and generation contracts.
+ */
+public class SudokuBoardTest {
+
+    private static final int[][] SOLUTION = new int[][] {
+            { 5, 3, 4, 6, 7, 8, 9, 1, 2 },
+            { 6, 7, 2, 1, 9, 5, 3, 4, 8 },
+            { 1, 9, 8, 3, 4, 2, 5, 6, 7 },
+            { 8, 5, 9, 7, 6, 1, 4, 2, 3 },
+            { 4, 2, 6, 8, 5, 3, 7, 9, 1 },
+            { 7, 1, 3, 9, 2, 4, 8, 5, 6 },
+            { 9, 6, 1, 5, 3, 7, 2, 8, 4 },
+            { 2, 8, 7, 4, 1, 9, 6, 3, 5 },
+            { 3, 4, 5, 2, 8, 6, 1, 7, 9 }
+    };
+
+    /**
+     * Ensures undo restores both value and correctness metadata of the edited cell.
+     */
+    @Test
+    public void setCellValueAndUndo_restorePreviousValueAndCorrectness() throws Exception {
+        SudokuBoard board = createBoardWithOpenCells(SudokuBoard.Difficulty.EASY, new int[][] { { 0, 0 } });
+
+        board.setCellValue(0, 0, SOLUTION[0][0], 10, false);
+
+        SudokuCell updatedCell = board.getCell(0, 0);
+        assertEquals(SOLUTION[0][0], updatedCell.getValue());
+        assertTrue(updatedCell.isCorrect());
+
+        SudokuBoard.MoveRecord undoneMove = board.undoMove();
+
+        assertNotNull(undoneMove);
+        assertEquals(10, undoneMove.getScoreChange());
+        assertFalse(undoneMove.wasError());
+        assertEquals(0, board.getCell(0, 0).getValue());
+        assertTrue(board.getCell(0, 0).isCorrect());
+    }
+
+    /**
+     * With auto-removal on, a placement strips its digit from peer notes only, and undo gives back exactly those notes,
+     * also after a round trip through the byte payload.
+     */
+    @Test
+    public void setCellValue_autoRemovesPeerNotesAndUndoRestoresThem() throws Exception {
+        SudokuBoard board = createBoardWithOpenCells(SudokuBoard.Difficulty.EASY,
+                new int[][] { { 0, 0 }, { 0, 8 }, { 8, 0 }, { 4, 4 } });
+        board.setAutoRemoveNotes(true);
+        board.getCell(0, 8).addNote(2);
+        board.getCell(0, 8).addNote(5);
+        board.getCell(8, 0).addNote(5);
+        board.getCell(8, 0).addNote(7);
+        board.getCell(4, 4).addNote(5);
+        // Row 0 lacks 2 and 5, but column 0 still shows 2.
+        assertEquals(CandidateMasks.bit(5), board.getCandidateMask(0, 0));
+
+        board.setCellValue(0, 0, 5, 0, false);
+
+        assertEquals(CandidateMasks.bit(2), board.getCell(0, 8).getNoteMask());
+        assertEquals(CandidateMasks.bit(7), board.getCell(8, 0).getNoteMask());
+        assertEquals(CandidateMasks.bit(5), board.getCell(4, 4).getNoteMask());
+        assertEquals(0, board.getCandidateMask(0, 0));
+        assertEquals(CandidateMasks.bit(2), board.getCandidateMask(0, 8));
+
+        SudokuBoard restored = SudokuBoard.fromByteArray(board.toByteArray());
+        board.setAutoRemoveNotes(false);
+        board.undoMove();
+        restored.undoMove();
+
+        for (SudokuBoard undone : new SudokuBoard[] { board, restored }) {
+            assertEquals(CandidateMasks.bit(2) | CandidateMasks.bit(5), undone.getCell(0, 8).getNoteMask());
+            assertEquals(CandidateMasks.bit(5) | CandidateMasks.bit(7), undone.getCell(8, 0).getNoteMask());
+            assertEquals(CandidateMasks.bit(5), undone.getCell(4, 4).getNoteMask());
+        }
+
+        board.setCellValue(0, 0, 5, 0, false);
+
+        assertEquals(CandidateMasks.bit(2) | CandidateMasks.bit(5), board.getCell(0, 8).getNoteMask());
+    }
+
+    /**
+     * Payloads of the previous format, which are identical to the current one while the move history is empty, still
+     * load.
+     */
+    @Test
+    public void fromByteArray_readsPreviousFormatVersion() throws Exception {
+        SudokuBoard board = createBoardWithOpenCells(SudokuBoard.Difficulty.EASY, new int[][] { { 0, 0 } });
+        byte[] payload = board.toByteArray();
+        payload[3] = 4;
+
+        SudokuBoard restored = SudokuBoard.fromByteArray(payload);
+
+        assertEquals(SudokuBoard.Difficulty.EASY, restored.getCurrentDifficulty());
+        assertEquals(0, restored.getCell(0, 0).getValue());
+    }
+
+    /**
+     * Verifies rule-based validation catches duplicates independently from solution checks.
+     */
+    @Test
+    public void isCurrentBoardStateValidAccordingToRules_detectsDuplicates() throws Exception {
+        SudokuBoard board = createBoardWithOpenCells(SudokuBoard.Difficulty.MEDIUM, new int[][] { { 0, 0 }, { 0, 1 } });
+        board.setCellValue(0, 0, 1, 0, true);
+        board.setCellValue(0, 1, 1, 0, true);
+
+        assertFalse(board.isCurrentBoardStateValidAccordingToRules());
+    }
+
+    /**
+     * Conflicts, validity and fullness follow every move and undo without a rescan, and survive copies and decoding.
+     */
+    @Test
+    public void isCellInConflict_tracksMovesAndUndo() throws Exception {
+        SudokuBoard board = createBoardWithOpenCells(SudokuBoard.Difficulty.MEDIUM, new int[][] { { 0, 0 }, { 4, 4 } });
+        assertFalse(board.isBoardFull());
+        assertTrue(board.isCurrentBoardStateValidAccordingToRules());
+
+        // 3 is already given at (0, 1), so both cells of row 0 clash, as does the given 3 in the top-left box.
+        board.setCellValue(0, 0, 3, 0, true);
+
+        assertTrue(board.isCellInConflict(0, 0));
+        assertTrue(board.isCellInConflict(0, 1));
+        assertFalse(board.isCellInConflict(0, 2));
+        assertFalse(board.isCurrentBoardStateValidAccordingToRules());
+        SudokuBoard copy = board.copy();
+        SudokuBoard decoded = SudokuBoard.fromByteArray(board.toByteArray());
+        assertTrue(copy.isCellInConflict(0, 1));
+        assertFalse(decoded.isCurrentBoardStateValidAccordingToRules());
+
+        board.setCellValue(0, 0, SOLUTION[0][0], 0, false);
+        board.setCellValue(4, 4, SOLUTION[4][4], 0, false);
+
+        assertFalse(board.isCellInConflict(0, 1));
+        assertTrue(board.isCurrentBoardStateValidAccordingToRules());
+        assertTrue(board.isBoardFull());
+
+        board.undoMove();
+        board.undoMove();
+
+        assertTrue(board.isCellInConflict(0, 0));
+        assertFalse(board.isBoardFull());
+        assertFalse(board.isCellInConflict(9, 0));
+    }
+
+    /**
+     * Verifies generated puzzles match clue counts and remain rule-valid for each difficulty.
+     */
+    @Test(timeout = 30000)
+    public void generateNewPuzzle_createsExpectedNumberOfFixedAndEditableCells() throws Exception {
+        for (SudokuBoard.Difficulty difficulty : SudokuBoard.Difficulty.values()) {
+            SudokuBoard board = new SudokuBoard();
+
+            board.generateNewPuzzle(difficulty);
+
+            int emptyCells = 0;
+            int fixedCells = 0;
+            int filledEditableCells = 0;
+            for (int row = 0; row < 9; row++) {
+                for (int col = 0; col < 9; col++) {
+                    SudokuCell cell = board.getCell(row, col);
+                    if (cell.getValue() == 0) {
+                        emptyCells++;
+                        assertFalse(cell.isFixed());
+                    } else if (cell.isFixed()) {
+                        fixedCells++;
+                    } else {
+                        filledEditableCells++;
+                    }
+                }
+            }
+
+            assertEquals(difficulty, board.getCurrentDifficulty());
+            if (difficulty.isMinimal()) {
+                assertTrue(emptyCells >= difficulty.cellsToRemove);
+            } else {
+                assertEquals(difficulty.cellsToRemove, emptyCells);
+            }
+            assertEquals(81 - emptyCells, fixedCells);
+            assertEquals(0, filledEditableCells);
+            assertFalse(board.isBoardFull());
+            assertTrue(board.isCurrentBoardStateValidAccordingToRules());
+            assertTrue(board.areAllUserCellsCorrect());
+        }
+    }
+
+    /**
+     * Every generated puzzle needs a hardest technique within its difficulty band, and the stage statistics account
+     * for the attempts. Seeds make the attempt counts deterministic; about one HARD attempt in five is rejected.
+     */
+    @Test(timeout = 60000)
+    public void generateNewPuzzle_staysWithinTechniqueBandAndReportsStages() throws Exception {
+        SudokuBoard board = new SudokuBoard();
+        for (SudokuBoard.Difficulty difficulty : SudokuBoard.Difficulty.values()) {
+            if (difficulty.isMinimal()) {
+                continue;
+            }
+            long attempts = 0;
+            for (long seed = 0; seed < 40; seed++) {
+                board.generateNewPuzzle(difficulty, seed);
+
+                DifficultyRating rating = board.rateCurrentPuzzle();
+                GenerationStatistics stages = board.getLastGenerationStageStatistics();
+                assertTrue(rating.isSolved());
+                assertTrue(rating.getHardestTechnique().compareTo(difficulty.easiestTechnique) >= 0);
+                assertTrue(rating.getHardestTechnique().compareTo(difficulty.hardestTechnique) <= 0);
+                assertEquals(stages.getAttempts() - 1,
+                        stages.getUnreachableCountRejections() + stages.getBelowBandRejections());
+                assertTrue(stages.getFillNanos() > 0);
+                assertTrue(stages.getCarveNanos() > 0);
+                assertTrue(stages.getRatingNanos() > 0);
+                attempts += stages.getAttempts();
+            }
+            assertTrue(difficulty + " took " + attempts + " attempts", attempts < 70);
+        }
+    }
+
+    /**
+     * Each banded difficulty starts above the previous band's ceiling, so a harder difficulty can never be rated like
+     * an easier one.
+     */
+    @Test
+    public void difficultyBands_haveIncreasingDisjointFloors() {
+        SudokuBoard.Difficulty previous = null;
+        for (SudokuBoard.Difficulty difficulty : SudokuBoard.Difficulty.values()) {
+            if (difficulty.isMinimal()) {
+                continue;
+            }
+            assertTrue(difficulty.easiestTechnique.compareTo(difficulty.hardestTechnique) <= 0);
+            if (previous != null) {
+                assertTrue(difficulty + " overlaps " + previous,
+                        difficulty.easiestTechnique.compareTo(previous.hardestTechnique) > 0);
+            }
+            previous = difficulty;
+        }
+    }
+
+    /**
+     * EXPERT puzzles are minimal: they keep at most 25 clues, stay unique, and lose uniqueness when any single clue is
+     * removed.
+     */
+    @Test(timeout = 60000)
+    public void generateNewPuzzle_expertLeavesOnlyEssentialClues() throws Exception {
+        SudokuBoard board = new SudokuBoard();
+        SudokuSolver solver = SolverEngine.DEFAULT.create();
+        int[] givens = new int[81];
+        for (long seed = 0; seed < 20; seed++) {
+            board.generateNewPuzzle(SudokuBoard.Difficulty.EXPERT, seed);
+            board.copyGivensTo(givens);
+
+            int clues = 0;
+            assertTrue(solver.isUnique(givens));
+            for (int index = 0; index < givens.length; index++) {
+                int value = givens[index];
+                if (value == 0) {
+                    continue;
+                }
+                clues++;
+                givens[index] = 0;
+                assertEquals(2, solver.countSolutions(givens, 2));
+                givens[index] = value;
+            }
+            assertTrue(clues >= 17 && clues <= 81 - SudokuBoard.Difficulty.EXPERT.cellsToRemove);
+            assertEquals(0, board.getLastGenerationStageStatistics().getRatingNanos());
+        }
+    }
+
+    /**
+     * Racing attempts on worker threads still yields a complete, rule-valid puzzle of the requested difficulty.
+     */
+    @Test(timeout = 30000)
+    public void generateNewPuzzle_inParallelAdoptsAWinningAttempt() throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(4);
+        try {
+            SudokuBoard board = new SudokuBoard();
+            board.setParallelGeneration(workers, 4);
+
+            board.generateNewPuzzle(SudokuBoard.Difficulty.HARD);
+
+            int fixedCells = 0;
+            for (int row = 0; row < 9; row++) {
+                for (int col = 0; col < 9; col++) {
+                    SudokuCell cell = board.getCell(row, col);
+                    if (cell.isFixed()) {
+                        fixedCells++;
+                        assertTrue(board.isMoveCorrect(row, col, cell.getValue()));
+                    }
+                }
+            }
+            assertEquals(81 - SudokuBoard.Difficulty.HARD.cellsToRemove, fixedCells);
+            assertTrue(board.isCurrentBoardStateValidAccordingToRules());
+            assertTrue(board.getLastGenerationStatistics().getSearches() > 0);
+            assertTrue(board.getLastGenerationStageStatistics().getAttempts() > 0);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Interrupting the generating thread cancels every racing attempt instead of leaving workers busy.
+     */
+    @Test(timeout = 30000)
+    public void generateNewPuzzle_inParallelCancelsRacersWhenInterrupted() throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(4);
+        SudokuBoard board = new SudokuBoard();
+        board.setParallelGeneration(workers, 4);
+
+        Thread.currentThread().interrupt();
+        try {
+            board.generateNewPuzzle(SudokuBoard.Difficulty.HARD);
+            fail("An interrupted generation must not complete.");
+        } catch (InterruptedException expected) {
+            // Expected.
+        } finally {
+            Thread.interrupted();
+        }
+
+        workers.shutdown();
+        assertTrue(workers.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Speculative batches of removal probes carve exactly the puzzle the one-at-a-time path carves from the same seed.
+     */
+    @Test(timeout = 30000)
+    public void generateNewPuzzle_withSpeculativeRemovalMatchesSequentialOutput() throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(4);
+        try {
+            for (SudokuBoard.Difficulty difficulty : SudokuBoard.Difficulty.values()) {
+                for (long seed = 0; seed < 5; seed++) {
+                    SudokuBoard sequential = new SudokuBoard(SolverEngine.DEFAULT, new Random(seed));
+                    SudokuBoard speculative = new SudokuBoard(SolverEngine.DEFAULT, new Random(seed));
+                    speculative.setSpeculativeRemoval(workers, 4);
+
+                    sequential.generateNewPuzzle(difficulty);
+                    speculative.generateNewPuzzle(difficulty);
+
+                    assertArrayEquals(sequential.toPackedPuzzle(), speculative.toPackedPuzzle());
+                }
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * A seed reproduces the same puzzle on any board and solver engine, and the reported seed replays an unseeded run.
+     */
+    @Test(timeout = 30000)
+    public void generateNewPuzzle_withSeedIsReproducible() throws Exception {
+        SudokuBoard bitmask = new SudokuBoard(SolverEngine.BITMASK);
+        SudokuBoard dancingLinks = new SudokuBoard(SolverEngine.DANCING_LINKS);
+
+        bitmask.generateNewPuzzle(SudokuBoard.Difficulty.HARD, 1234L);
+        dancingLinks.generateNewPuzzle(SudokuBoard.Difficulty.HARD, 1234L);
+
+        assertArrayEquals(bitmask.toPackedPuzzle(), dancingLinks.toPackedPuzzle());
+        assertEquals(1234L, bitmask.getGenerationSeed());
+
+        SudokuBoard unseeded = new SudokuBoard();
+        unseeded.generateNewPuzzle(SudokuBoard.Difficulty.MEDIUM);
+        SudokuBoard replay = new SudokuBoard();
+        replay.generateNewPuzzle(SudokuBoard.Difficulty.MEDIUM, unseeded.getGenerationSeed());
+
+        assertArrayEquals(unseeded.toPackedPuzzle(), replay.toPackedPuzzle());
+    }
+
+    /**
+     * A packed puzzle carries its seed, so a board rebuilt from a pool or disk record can still be replayed.
+     */
+    @Test(timeout = 30000)
+    public void fromPackedPuzzle_restoresGenerationSeed() throws Exception {
+        SudokuBoard generated = new SudokuBoard();
+        generated.generateNewPuzzle(SudokuBoard.Difficulty.EASY, 42L);
+
+        int[] givens = new int[81];
+        int[] solution = new int[81];
+        generated.copyGivensTo(givens);
+        generated.copySolutionTo(solution);
+
+        SudokuBoard rebuilt = SudokuBoard.fromPackedPuzzle(SudokuBoard.Difficulty.EASY, generated.toPackedPuzzle());
+        SudokuBoard unseeded = SudokuBoard.fromPackedPuzzle(SudokuBoard.Difficulty.EASY,
+                SudokuBoard.fromPuzzle(SudokuBoard.Difficulty.EASY, givens, solution).toPackedPuzzle());
+
+        assertTrue(rebuilt.hasGenerationSeed());
+        assertEquals(42L, rebuilt.getGenerationSeed());
+        assertArrayEquals(generated.toPackedPuzzle(), rebuilt.toPackedPuzzle());
+        assertFalse(unseeded.hasGenerationSeed());
+    }
+
+    /**
+     * The winner of a parallel race reports a seed that replays its puzzle on a single thread.
+     */
+    @Test(timeout = 30000)
+    public void generateNewPuzzle_inParallelReportsReplayableSeed() throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(4);
+        try {
+            for (int run = 0; run < 5; run++) {
+                SudokuBoard raced = new SudokuBoard();
+                raced.setParallelGeneration(workers, 4);
+                raced.generateNewPuzzle(SudokuBoard.Difficulty.HARD);
+
+                SudokuBoard replay = new SudokuBoard();
+                replay.generateNewPuzzle(SudokuBoard.Difficulty.HARD, raced.getGenerationSeed());
+
+                assertArrayEquals(raced.toPackedPuzzle(), replay.toPackedPuzzle());
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Stored puzzles carry no seed, and the byte payload keeps the seed of generated ones.
+     */
+    @Test(timeout = 30000)
+    public void generationSeed_survivesSerializationAndIsAbsentForStoredPuzzles() throws Exception {
+        SudokuBoard stored = createBoardWithOpenCells(SudokuBoard.Difficulty.EASY, new int[][] { { 0, 0 } });
+        assertFalse(stored.hasGenerationSeed());
+        assertFalse(SudokuBoard.fromByteArray(stored.toByteArray()).hasGenerationSeed());
+        try {
+            stored.getGenerationSeed();
+            fail("Stored puzzles have no seed.");
+        } catch (IllegalStateException expected) {
+            // Expected.
+        }
+
+        SudokuBoard generated = new SudokuBoard();
+        generated.generateNewPuzzle(SudokuBoard.Difficulty.EASY, -7L);
+
+        SudokuBoard restored = SudokuBoard.fromByteArray(generated.toByteArray());
+        assertTrue(restored.hasGenerationSeed());
+        assertEquals(-7L, restored.getGenerationSeed());
+        assertEquals(-7L, generated.copy().getGenerationSeed());
+    }
+
+    /**
+     * Stored puzzles are rebuilt with fixed givens, and givens that contradict the solution are rejected.
+     */
+    @Test
+    public void fromPuzzle_rebuildsGivensAndRejectsMismatchedSolution() {
+        int[] solution = new int[81];
+        for (int index = 0; index < 81; index++) {
+            solution[index] = SOLUTION[index / 9][index % 9];
+        }
+        int[] givens = solution.clone();
+        givens[0] = 0;
+
+        SudokuBoard board = SudokuBoard.fromPuzzle(SudokuBoard.Difficulty.HARD, givens, solution);
+
+        assertEquals(SudokuBoard.Difficulty.HARD, board.getCurrentDifficulty());
+        assertFalse(board.getCell(0, 0).isFixed());
+        assertTrue(board.getCell(0, 1).isFixed());
+        assertTrue(board.isMoveCorrect(0, 0, SOLUTION[0][0]));
+
+        givens[1] = SOLUTION[0][2];
+        try {
+            SudokuBoard.fromPuzzle(SudokuBoard.Difficulty.HARD, givens, solution);
+            fail("Mismatched givens must be rejected.");
+        } catch (IllegalArgumentException expected) {
+            // Expected.
+        }
+    }
+
+    /**
+     * The byte payload restores values, flags, notes and undo history, and rejects truncated input.
+     */
+    @Test
+    public void toByteArray_roundTripsPlayedBoardAndRejectsTruncatedPayload() {
+        SudokuBoard board = createBoardWithOpenCells(SudokuBoard.Difficulty.EASY, new int[][] { { 0, 0 }, { 4, 4 } });
+        int wrongValue = SOLUTION[0][0] % 9 + 1;
+        board.setCellValue(0, 0, wrongValue, -5, true);
+        board.getCell(4, 4).addNote(3);
+        board.getCell(4, 4).addNote(7);
+
+        byte[] payload = board.toByteArray();
+        SudokuBoard restored = SudokuBoard.fromByteArray(payload);
+
+        assertEquals(SudokuBoard.Difficulty.EASY, restored.getCurrentDifficulty());
+        assertEquals(wrongValue, restored.getCell(0, 0).getValue());
+        assertFalse(restored.getCell(0, 0).isCorrect());
+        assertFalse(restored.getCell(4, 4).isFixed());
+        assertTrue(restored.getCell(1, 1).isFixed());
+        assertEquals(board.getCell(4, 4).getNoteMask(), restored.getCell(4, 4).getNoteMask());
+        assertEquals(1, restored.countUserErrors());
+
+        SudokuBoard.MoveRecord undone = restored.undoMove();
+        assertNotNull(undone);
+        assertEquals(-5, undone.getScoreChange());
+        assertTrue(undone.wasError());
+        assertEquals(0, restored.getCell(0, 0).getValue());
+
+        try {
+            SudokuBoard.fromByteArray(Arrays.copyOf(payload, payload.length - 1));
+            fail("Truncated payloads must be rejected.");
+        } catch (IllegalArgumentException expected) {
+            // Expected.
+        }
+    }
+
+    /**
+     * Rating looks at the givens only: user entries neither count as deductions nor change the result.
+     */
+    @Test
+    public void rateCurrentPuzzle_ratesGivensIgnoringUserEntries() {
+        SudokuBoard board = createBoardWithOpenCells(SudokuBoard.Difficulty.EASY, new int[][] { { 0, 0 }, { 4, 4 } });
+
+        DifficultyRating before = board.rateCurrentPuzzle();
+        board.setCellValue(0, 0, SOLUTION[0][0], 0, true);
+        DifficultyRating after = board.rateCurrentPuzzle();
+
+        assertTrue(before.isSolved());
+        assertEquals(2, before.getTrace().size());
+        assertEquals(Technique.HIDDEN_SINGLE, before.getHardestTechnique());
+        assertEquals(before.getTrace(), after.getTrace());
+    }
+
+    private SudokuBoard createBoardWithOpenCells(SudokuBoard.Difficulty difficulty, int[][] openCells) {
+        int[] solution = new int[81];
+        for (int row = 0; row < 9; row++) {
+            System.arraycopy(SOLUTION[row], 0, solution, row * 9, 9);
+        }
+        int[] givens = solution.clone();
+        for (int[] openCell : openCells) {
+            givens[openCell[0] * 9 + openCell[1]] = 0;
+        }
+        return SudokuBoard.fromPuzzle(difficulty, givens, solution);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.sudoku;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Unit tests for {@link SudokuCell} value-object behavior.
+ */
+public class SudokuCellTest {
+
+    /**
+     * Notes are intentionally exposed as an immutable view to avoid external mutation of cell state.
+     */
+    @Test
+    public void getNotes_returnsUnmodifiableView() {
+        SudokuCell cell = new SudokuCell();
+        cell.addNote(3);
+
+        Set<Integer> notes = cell.getNotes();
+
+        assertEquals(1, notes.size());
+        try {
+            notes.add(9);
+            fail("Expected notes view to be immutable");
+        } catch (UnsupportedOperationException expected) {
+            assertEquals(1, cell.getNotes().size());
+        }
+    }
+
+    /**
+     * Toggling flips one bit of the note mask, iteration walks the digits in ascending order, and fixed cells never
+     * gain notes.
+     */
+    @Test
+    public void toggleNote_flipsMaskBitsAndIteratesInOrder() {
+        SudokuCell cell = new SudokuCell();
+
+        assertTrue(cell.toggleNote(7));
+        assertTrue(cell.toggleNote(2));
+        assertFalse(cell.toggleNote(7));
+        assertTrue(cell.toggleNote(9));
+        assertFalse(cell.toggleNote(10));
+
+        assertEquals(0b1_0000_0010, cell.getNoteMask());
+        assertTrue(cell.hasNote(2));
+        assertFalse(cell.hasNote(7));
+        List<Integer> visited = new ArrayList<>();
+        cell.forEachNote(visited::add);
+        assertEquals(Arrays.asList(2, 9), visited);
+
+        cell.setNoteMask(0xFFFF);
+        assertEquals(9, cell.getNotes().size());
+        cell.clearNotes();
+        assertFalse(cell.hasNotes());
+
+        SudokuCell fixed = new SudokuCell(5, true, true, null);
+        assertFalse(fixed.toggleNote(3));
+        assertFalse(fixed.hasNotes());
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.sudoku.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for the derived state published after each move.
+ */
+public class BoardAnalyzerTest {
+
+    private static final String SOLUTION =
+            "534678912672195348198342567859761423426853791713924856961537284287419635345286179";
+
+    /**
+     * A duplicate marks every cell it clashes with as conflicting, counts toward its digit, and makes the hint point at
+     * the wrong entry; the solved grid has no conflicts, nothing remaining and no hint.
+     */
+    @Test
+    public void analyze_reportsConflictsRemainingDigitsAndCompletion() {
+        BoardAnalyzer analyzer = new BoardAnalyzer();
+        int[] solution = parse(SOLUTION);
+        int[] values = solution.clone();
+        values[0] = 0;
+        values[1] = 0;
+        values[10] = 5;
+
+        BoardAnalysis played = analyzer.analyze(values, solution);
+        BoardAnalysis solved = analyzer.analyze(solution, solution);
+
+        // The extra 5 clashes with the 5 of its row and of its column.
+        assertTrue(played.isConflicting(10));
+        assertTrue(played.isConflicting(14));
+        assertTrue(played.isConflicting(28));
+        assertFalse(played.isConflicting(1));
+        assertEquals(3, played.getConflictCount());
+        assertFalse(played.isValid());
+        assertEquals(79, played.getFilledCount());
+        assertEquals(0, played.getRemainingCount(5));
+        assertEquals(1, played.getRemainingCount(3));
+        assertEquals(1, played.getRemainingCount(7));
+        assertFalse(played.isSolved());
+        assertNotNull(played.getHint());
+        assertTrue(played.getHint().isMistake());
+        assertEquals(10, played.getHint().getCell());
+
+        assertTrue(solved.isFull());
+        assertTrue(solved.isValid());
+        assertTrue(solved.isSolved());
+        assertEquals(0, solved.getConflictCount());
+        assertEquals(0, solved.getRemainingCount(9));
+        assertNull(solved.getHint());
+    }
+
+    private static int[] parse(String grid) {
+        int[] cells = new int[CandidateMasks.CELL_COUNT];
+        for (int index = 0; index < cells.length; index++) {
+            cells[index] = grid.charAt(index) - '0';
+        }
+        return cells;
+    }
+}
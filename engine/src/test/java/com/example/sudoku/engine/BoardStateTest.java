@@ -0,0 +1,81 @@
+package com.example.sudoku.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for the struct-of-arrays board storage.
+ */
+public class BoardStateTest {
+
+    /**
+     * Flags of cells on both sides of the 64-bit word boundary are tracked independently.
+     */
+    @Test
+    public void flags_spanTwoWordsWithoutInterference() {
+        BoardState state = new BoardState();
+
+        state.setFixed(63, true);
+        state.setFixed(64, true);
+        state.setCorrect(80, false);
+
+        assertTrue(state.isFixed(63));
+        assertTrue(state.isFixed(64));
+        assertFalse(state.isFixed(0));
+        assertFalse(state.isFixed(62));
+        assertFalse(state.isCorrect(80));
+        assertTrue(state.isCorrect(16));
+
+        state.setFixed(63, false);
+        assertFalse(state.isFixed(63));
+        assertTrue(state.isFixed(64));
+    }
+
+    /**
+     * Copying transfers every array, after which the two states evolve independently.
+     */
+    @Test
+    public void copyFrom_copiesEveryArrayIndependently() {
+        BoardState source = new BoardState();
+        source.setValue(10, 7);
+        source.setFixed(70, true);
+        source.setCorrect(5, false);
+        source.setNoteMask(40, CandidateMasks.bit(2) | CandidateMasks.bit(9));
+        BoardState copy = new BoardState();
+
+        copy.copyFrom(source);
+        source.clear();
+
+        assertEquals(7, copy.getValue(10));
+        assertTrue(copy.isFixed(70));
+        assertFalse(copy.isCorrect(5));
+        assertEquals(CandidateMasks.bit(2) | CandidateMasks.bit(9), copy.getNoteMask(40));
+        assertEquals(0, source.getValue(10));
+        assertTrue(source.isCorrect(5));
+    }
+
+    /**
+     * A fresh state reports every cell as dirty once; afterwards only written cells are reported, and draining resets
+     * the set.
+     */
+    @Test
+    public void drainDirtyCells_reportsWrittenCellsOnce() {
+        BoardState state = new BoardState();
+        long[] dirty = new long[2];
+
+        state.drainDirtyCells(dirty);
+        assertEquals(81, Long.bitCount(dirty[0]) + Long.bitCount(dirty[1]));
+
+        state.setValue(3, 5);
+        state.setNoteMask(70, 1);
+        state.drainDirtyCells(dirty);
+        assertEquals(1L << 3, dirty[0]);
+        assertEquals(1L << (70 - 64), dirty[1]);
+
+        state.drainDirtyCells(dirty);
+        assertEquals(0L, dirty[0] | dirty[1]);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.sudoku.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for the bitmask occupancy tracking used by generation and solving.
+ */
+public class CandidateMasksTest {
+
+    /**
+     * Placing a digit must remove it from every peer's candidates, and removing it must restore them.
+     */
+    @Test
+    public void placeAndUnplace_updateRowColumnAndBoxCandidates() {
+        CandidateMasks masks = new CandidateMasks();
+        int center = 4 * 9 + 4;
+
+        masks.place(center, 5);
+
+        int digitBit = CandidateMasks.bit(5);
+        assertEquals(0, masks.candidates(center));
+        assertEquals(0, masks.candidates(4 * 9) & digitBit);
+        assertEquals(0, masks.candidates(4) & digitBit);
+        assertEquals(0, masks.candidates(3 * 9 + 3) & digitBit);
+        assertEquals(digitBit, masks.candidates(0) & digitBit);
+
+        masks.unplace(center);
+
+        assertEquals(CandidateMasks.ALL_DIGITS, masks.candidates(center));
+        assertTrue(masks.canPlace(4 * 9, 5));
+    }
+
+    /**
+     * Loading a grid with a duplicated digit in one house must report the conflict.
+     */
+    @Test
+    public void load_reportsRuleConflicts() {
+        int[] values = new int[CandidateMasks.CELL_COUNT];
+        values[0] = 7;
+        values[10] = 7;
+
+        assertFalse(new CandidateMasks().load(values));
+
+        values[10] = 3;
+        assertTrue(new CandidateMasks().load(values));
+    }
+}
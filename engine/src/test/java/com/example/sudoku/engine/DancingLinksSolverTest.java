@@ -0,0 +1,59 @@
+package com.example.sudoku.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests for the exact-cover solution counter.
+ */
+public class DancingLinksSolverTest {
+
+    private static final String UNIQUE_PUZZLE =
+            "530070000600195000098000060800060003400803001700020006060000280000419005000080079";
+
+    /**
+     * A classic single-solution puzzle must be reported as unique, repeatedly, on the same instance.
+     */
+    @Test
+    public void countSolutions_reportsUniquePuzzleAndRestoresMatrixBetweenCalls() throws Exception {
+        DancingLinksSolver solver = new DancingLinksSolver();
+        int[] cells = parse(UNIQUE_PUZZLE);
+
+        assertEquals(1, solver.countSolutions(cells, 2));
+        assertEquals(1, solver.countSolutions(cells, 2));
+        assertEquals(parse(UNIQUE_PUZZLE)[0], cells[0]);
+    }
+
+    /**
+     * Counting stops at the requested limit on grids with many solutions.
+     */
+    @Test
+    public void countSolutions_stopsAtLimit() throws Exception {
+        DancingLinksSolver solver = new DancingLinksSolver();
+
+        assertEquals(2, solver.countSolutions(new int[CandidateMasks.CELL_COUNT], 2));
+        assertEquals(5, solver.countSolutions(new int[CandidateMasks.CELL_COUNT], 5));
+    }
+
+    /**
+     * Givens that already break a rule have no solution, and must not corrupt later queries.
+     */
+    @Test
+    public void countSolutions_returnsZeroForConflictingGivens() throws Exception {
+        DancingLinksSolver solver = new DancingLinksSolver();
+        int[] cells = parse(UNIQUE_PUZZLE);
+        cells[2] = 5;
+
+        assertEquals(0, solver.countSolutions(cells, 2));
+        assertEquals(1, solver.countSolutions(parse(UNIQUE_PUZZLE), 2));
+    }
+
+    private static int[] parse(String puzzle) {
+        int[] cells = new int[CandidateMasks.CELL_COUNT];
+        for (int index = 0; index < cells.length; index++) {
+            cells[index] = puzzle.charAt(index) - '0';
+        }
+        return cells;
+    }
+}
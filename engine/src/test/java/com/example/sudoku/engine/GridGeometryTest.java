@@ -0,0 +1,69 @@
+package com.example.sudoku.engine;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Unit tests for the house and peer tables of every supported grid size.
+ */
+public class GridGeometryTest {
+
+    /**
+     * Every house covers its side in distinct cells, every cell has the expected number of peers, and the classic
+     * geometry agrees with {@link CandidateMasks}.
+     */
+    @Test
+    public void of_buildsHousesAndPeersForEveryBoxSize() {
+        for (int boxSize = GridGeometry.MIN_BOX_SIZE; boxSize <= GridGeometry.MAX_BOX_SIZE; boxSize++) {
+            GridGeometry geometry = GridGeometry.of(boxSize);
+            int size = boxSize * boxSize;
+
+            assertEquals(size * size, geometry.getCellCount());
+            assertEquals(3 * size, geometry.getHouseCount());
+            assertEquals(2 * (size - 1) + (boxSize - 1) * (boxSize - 1), geometry.getPeerCount());
+            for (int house = 0; house < geometry.getHouseCount(); house++) {
+                Set<Integer> cells = new HashSet<>();
+                for (int i = 0; i < size; i++) {
+                    cells.add(geometry.houseCell(house, i));
+                }
+                assertEquals(size, cells.size());
+            }
+            int last = geometry.getCellCount() - 1;
+            assertEquals(geometry.indexOf(size - 1, size - 1), last);
+            assertEquals(size - 1, geometry.boxOf(last));
+            assertTrue(geometry.isValidCoordinate(size - 1, 0));
+            assertFalse(geometry.isValidCoordinate(size, 0));
+        }
+
+        GridGeometry classic = GridGeometry.CLASSIC;
+        assertSame(GridGeometry.of(3), classic);
+        for (int index = 0; index < CandidateMasks.CELL_COUNT; index++) {
+            assertEquals(CandidateMasks.rowOf(index), classic.rowOf(index));
+            assertEquals(CandidateMasks.colOf(index), classic.colOf(index));
+            assertEquals(CandidateMasks.boxOf(index), classic.boxOf(index));
+        }
+    }
+
+    /**
+     * Box sizes outside the supported range are rejected.
+     */
+    @Test
+    public void of_rejectsUnsupportedBoxSizes() {
+        for (int boxSize : new int[] { 1, 6 }) {
+            try {
+                GridGeometry.of(boxSize);
+                fail("Box size " + boxSize + " must be rejected.");
+            } catch (IllegalArgumentException expected) {
+                // Expected.
+            }
+        }
+    }
+}
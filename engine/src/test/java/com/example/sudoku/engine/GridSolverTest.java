@@ -0,0 +1,118 @@
+package com.example.sudoku.engine;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for the constraint-propagation solver and the generator built on it, across grid sizes.
+ */
+public class GridSolverTest {
+
+    private static final String CLASSIC =
+            "530070000600195000098000060800060003400803001700020006060000280000419005000080079";
+    private static final String CLASSIC_SOLUTION =
+            "534678912672195348198342567859761423426853791713924856961537284287419635345286179";
+
+    /**
+     * On the classic grid the solver agrees with the 9x9 engines, and it counts every 4x4 grid.
+     */
+    @Test
+    public void countSolutions_agreesWithKnownCounts() throws Exception {
+        GridSolver classic = new GridSolver(GridGeometry.CLASSIC);
+        int[] puzzle = parse(CLASSIC);
+
+        assertTrue(classic.isUnique(puzzle));
+        assertTrue(classic.solve(puzzle));
+        assertArrayEquals(parse(CLASSIC_SOLUTION), puzzle);
+
+        int[] conflicting = parse(CLASSIC);
+        conflicting[2] = 5;
+        assertEquals(0, classic.countSolutions(conflicting, 2));
+        assertFalse(classic.solve(conflicting));
+
+        GridSolver small = new GridSolver(GridGeometry.of(2));
+        assertEquals(288, small.countSolutions(new int[16], 1000));
+    }
+
+    /**
+     * Filled grids are valid on every size and reproducible from a seed.
+     */
+    @Test(timeout = 30000)
+    public void fill_producesValidSeededGridsForEveryBoxSize() throws Exception {
+        for (int boxSize = GridGeometry.MIN_BOX_SIZE; boxSize <= GridGeometry.MAX_BOX_SIZE; boxSize++) {
+            GridGeometry geometry = GridGeometry.of(boxSize);
+            GridSolver solver = new GridSolver(geometry);
+            int[] first = new int[geometry.getCellCount()];
+            int[] second = new int[geometry.getCellCount()];
+
+            assertTrue(solver.fill(first, new Random(42)));
+            assertTrue(solver.fill(second, new Random(42)));
+
+            assertArrayEquals(first, second);
+            assertValidSolution(geometry, first);
+        }
+    }
+
+    /**
+     * A node budget too small to decide is reported instead of a count.
+     */
+    @Test
+    public void countSolutions_reportsUndecidedWhenTheBudgetRunsOut() throws Exception {
+        GridSolver solver = new GridSolver(GridGeometry.of(4));
+        int[] empty = new int[256];
+
+        assertEquals(GridSolver.UNDECIDED, solver.countSolutions(empty, 2, 1));
+        assertEquals(2, solver.countSolutions(empty, 2));
+    }
+
+    /**
+     * 16x16 puzzles are generated unique, with the requested clue count, well within a second each.
+     */
+    @Test(timeout = 10000)
+    public void generate_carvesUnique16x16Puzzles() throws Exception {
+        GridGeometry geometry = GridGeometry.of(4);
+        GridPuzzleGenerator generator = new GridPuzzleGenerator(geometry, new Random(7));
+        GridSolver checker = new GridSolver(geometry);
+        int[] givens = new int[geometry.getCellCount()];
+        int[] solution = new int[geometry.getCellCount()];
+
+        for (int puzzle = 0; puzzle < 5; puzzle++) {
+            assertTrue(generator.generate(140, givens, solution));
+
+            int clues = 0;
+            for (int index = 0; index < givens.length; index++) {
+                if (givens[index] != 0) {
+                    clues++;
+                    assertEquals(solution[index], givens[index]);
+                }
+            }
+            assertEquals(256 - 140, clues);
+            assertValidSolution(geometry, solution);
+            assertTrue(checker.isUnique(givens));
+        }
+    }
+
+    private static void assertValidSolution(GridGeometry geometry, int[] grid) {
+        for (int house = 0; house < geometry.getHouseCount(); house++) {
+            int seen = 0;
+            for (int i = 0; i < geometry.getSize(); i++) {
+                seen |= 1 << (grid[geometry.houseCell(house, i)] - 1);
+            }
+            assertEquals(geometry.getAllDigits(), seen);
+        }
+    }
+
+    private static int[] parse(String grid) {
+        int[] cells = new int[CandidateMasks.CELL_COUNT];
+        for (int index = 0; index < cells.length; index++) {
+            cells[index] = grid.charAt(index) - '0';
+        }
+        return cells;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.sudoku.engine;
+
+import com.example.sudoku.SudokuBoard;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for next-move hints on played grids.
+ */
+public class HintEngineTest {
+
+    /**
+     * Following the hints from the givens solves every puzzle, each hint places the solution digit in an empty cell,
+     * and no eliminated candidate is part of the solution.
+     */
+    @Test(timeout = 60000)
+    public void findHint_followingHintsSolvesThePuzzle() throws Exception {
+        HintEngine engine = new HintEngine();
+        int[] values = new int[CandidateMasks.CELL_COUNT];
+        int[] solution = new int[CandidateMasks.CELL_COUNT];
+
+        for (long seed = 0; seed < 40; seed++) {
+            SudokuBoard board = new SudokuBoard();
+            board.generateNewPuzzle(seed % 2 == 0 ? SudokuBoard.Difficulty.HARD : SudokuBoard.Difficulty.EXPERT, seed);
+            board.copyGivensTo(values);
+            board.copySolutionTo(solution);
+
+            Hint hint;
+            while ((hint = engine.findHint(values, solution)) != null) {
+                assertFalse(hint.isMistake());
+                assertEquals(0, values[hint.getCell()]);
+                assertEquals(solution[hint.getCell()], hint.getDigit());
+                assertTrue(hint.getPatternCellCount() > 0);
+                for (int i = 0; i < hint.getEliminationCount(); i++) {
+                    int cell = hint.getEliminationCell(i);
+                    assertEquals(0, hint.getEliminationMask(i) & CandidateMasks.bit(solution[cell]));
+                }
+                values[hint.getCell()] = hint.getDigit();
+            }
+            for (int index = 0; index < CandidateMasks.CELL_COUNT; index++) {
+                assertEquals(solution[index], values[index]);
+            }
+        }
+    }
+
+    /**
+     * A wrong entry is reported before any deduction, and a singles-only grid is hinted with a single.
+     */
+    @Test
+    public void findHint_reportsMistakesFirst() throws Exception {
+        SudokuBoard board = new SudokuBoard();
+        board.generateNewPuzzle(SudokuBoard.Difficulty.EASY, 7L);
+        int[] solution = new int[CandidateMasks.CELL_COUNT];
+        board.copySolutionTo(solution);
+        int row = 0;
+        int col = 0;
+        while (board.getCell(row, col).isFixed()) {
+            col++;
+        }
+
+        Hint first = board.findHint();
+        board.setCellValue(row, col, solution[col] % 9 + 1, 0, true);
+        Hint mistake = board.findHint();
+
+        assertNotNull(first);
+        assertTrue(first.getTechnique().compareTo(Technique.NAKED_SINGLE) <= 0);
+        assertNotNull(mistake);
+        assertTrue(mistake.isMistake());
+        assertEquals(col, mistake.getCell());
+        assertEquals(solution[col], mistake.getDigit());
+        assertNull(mistake.getTechnique());
+    }
+}
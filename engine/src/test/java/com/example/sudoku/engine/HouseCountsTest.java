@@ -0,0 +1,86 @@
+package com.example.sudoku.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for the incremental per-house digit counts.
+ */
+public class HouseCountsTest {
+
+    /**
+     * A digit repeated in a row and a box counts once per shared house, and removing it clears the conflict.
+     */
+    @Test
+    public void change_countsDuplicatesPerSharedHouse() {
+        HouseCounts counts = new HouseCounts();
+
+        counts.change(0, 0, 5);
+        counts.change(1, 0, 5);
+
+        // Cells 0 and 1 share row 0 and box 0, but not a column.
+        assertEquals(2, counts.getDuplicateCount());
+        assertEquals(2, counts.getFilledCount());
+        assertTrue(counts.isConflicting(0, 5));
+        assertFalse(counts.isConflicting(9 * 4 + 4, 5));
+        assertFalse(counts.isValid());
+
+        counts.change(1, 5, 6);
+
+        assertEquals(0, counts.getDuplicateCount());
+        assertEquals(2, counts.getFilledCount());
+        assertFalse(counts.isConflicting(0, 5));
+        assertTrue(counts.isValid());
+
+        counts.change(1, 6, 0);
+
+        assertEquals(1, counts.getFilledCount());
+    }
+
+    /**
+     * Candidates exclude digits shown in the cell's row, column or box, and come back once no cell shows them.
+     */
+    @Test
+    public void candidates_followPlacementsInAllThreeHouses() {
+        HouseCounts counts = new HouseCounts();
+        int center = 9 * 4 + 4;
+
+        counts.change(9 * 4, 0, 1);
+        counts.change(4, 0, 2);
+        counts.change(9 * 3 + 3, 0, 3);
+        counts.change(0, 0, 4);
+
+        int shown = CandidateMasks.bit(1) | CandidateMasks.bit(2) | CandidateMasks.bit(3);
+        assertEquals(CandidateMasks.ALL_DIGITS & ~shown, counts.candidates(center));
+
+        counts.change(4, 2, 0);
+
+        assertTrue((counts.candidates(center) & CandidateMasks.bit(2)) != 0);
+    }
+
+    /**
+     * Loading a complete solved grid reports it full and valid.
+     */
+    @Test
+    public void load_countsAFullValidGrid() {
+        String solution = "534678912672195348198342567859761423426853791713924856961537284287419635345286179";
+        BoardState state = new BoardState();
+        for (int index = 0; index < CandidateMasks.CELL_COUNT; index++) {
+            state.setValue(index, solution.charAt(index) - '0');
+        }
+        HouseCounts counts = new HouseCounts();
+
+        counts.load(state);
+
+        assertTrue(counts.isFull());
+        assertTrue(counts.isValid());
+        HouseCounts copy = new HouseCounts();
+        copy.copyFrom(counts);
+        copy.change(0, 5, 0);
+        assertFalse(copy.isFull());
+        assertTrue(counts.isFull());
+    }
+}
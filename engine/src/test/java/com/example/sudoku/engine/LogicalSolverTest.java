@@ -0,0 +1,156 @@
+package com.example.sudoku.engine;
+
+import com.example.sudoku.SudokuBoard;
+
+import org.junit.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for technique-based solving and rating.
+ */
+public class LogicalSolverTest {
+
+    private static final String CLASSIC =
+            "530070000600195000098000060800060003400803001700020006060000280000419005000080079";
+    private static final String CLASSIC_SOLUTION =
+            "534678912672195348198342567859761423426853791713924856961537284287419635345286179";
+    private static final String INKALA =
+            "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+
+    /**
+     * An easy newspaper puzzle is solved by singles alone, and its score is the weighted sum of its trace.
+     */
+    @Test
+    public void rate_solvesEasyPuzzleWithSinglesOnly() {
+        LogicalSolver solver = new LogicalSolver();
+
+        DifficultyRating rating = solver.rate(parse(CLASSIC));
+
+        assertTrue(rating.isSolved());
+        assertTrue(solver.isSolved());
+        assertEquals(51, rating.getTrace().size());
+        assertTrue(rating.getHardestTechnique().compareTo(Technique.NAKED_SINGLE) <= 0);
+        assertEquals(rating.getTechniqueCount(Technique.HIDDEN_SINGLE) * Technique.HIDDEN_SINGLE.weight
+                + rating.getTechniqueCount(Technique.NAKED_SINGLE) * Technique.NAKED_SINGLE.weight, rating.getScore());
+        int[] solved = new int[CandidateMasks.CELL_COUNT];
+        for (int index = 0; index < solved.length; index++) {
+            solved[index] = solver.getValue(index);
+        }
+        assertArrayEquals(parse(CLASSIC_SOLUTION), solved);
+    }
+
+    /**
+     * A puzzle beyond the known techniques is reported unsolved, the input grid is left alone, and a solved grid
+     * needs no deduction at all.
+     */
+    @Test
+    public void rate_reportsPuzzlesNeedingSearchAsUnsolved() {
+        LogicalSolver solver = new LogicalSolver();
+        int[] inkala = parse(INKALA);
+
+        DifficultyRating stuck = solver.rate(inkala);
+        DifficultyRating complete = solver.rate(parse(CLASSIC_SOLUTION));
+
+        assertFalse(stuck.isSolved());
+        assertArrayEquals(parse(INKALA), inkala);
+        assertTrue(complete.isSolved());
+        assertNull(complete.getHardestTechnique());
+        assertEquals(0, complete.getScore());
+    }
+
+    /**
+     * Conflicting givens are rejected on load and rate as unsolved.
+     */
+    @Test
+    public void load_rejectsConflictingGivens() {
+        LogicalSolver solver = new LogicalSolver();
+        int[] cells = parse(CLASSIC);
+        cells[2] = 5;
+
+        assertFalse(solver.load(cells));
+        assertFalse(solver.rate(cells).isSolved());
+    }
+
+    /**
+     * Every placement and elimination on generated hard puzzles agrees with the unique solution, and the techniques
+     * beyond singles are all reached across the sample.
+     */
+    @Test(timeout = 60000)
+    public void findNextStep_deductionsAgreeWithTheSolution() throws Exception {
+        LogicalSolver solver = new LogicalSolver();
+        LogicalStep step = new LogicalStep();
+        Set<Technique> seen = EnumSet.noneOf(Technique.class);
+        int[] givens = new int[CandidateMasks.CELL_COUNT];
+        int[] solution = new int[CandidateMasks.CELL_COUNT];
+
+        for (long seed = 0; seed < 200; seed++) {
+            SudokuBoard board = new SudokuBoard();
+            board.generateNewPuzzle(SudokuBoard.Difficulty.HARD, seed);
+            board.copyGivensTo(givens);
+            board.copySolutionTo(solution);
+
+            assertTrue(solver.load(givens));
+            while (!solver.isSolved() && solver.findNextStep(step)) {
+                seen.add(step.getTechnique());
+                if (step.isPlacement()) {
+                    assertEquals(solution[step.getCell()], step.getDigit());
+                }
+                for (int i = 0; i < step.getEliminationCount(); i++) {
+                    int cell = step.getEliminationCell(i);
+                    assertEquals(0, step.getEliminationMask(i) & CandidateMasks.bit(solution[cell]));
+                }
+                assertTrue(step.getPatternCellCount() > 0);
+                solver.apply(step);
+            }
+            for (int index = 0; index < CandidateMasks.CELL_COUNT; index++) {
+                int value = solver.getValue(index);
+                assertTrue(value == 0 ? (solver.getCandidates(index) & CandidateMasks.bit(solution[index])) != 0
+                        : value == solution[index]);
+            }
+        }
+
+        assertTrue(seen.contains(Technique.LOCKED_CANDIDATES));
+        assertTrue(seen.contains(Technique.NAKED_PAIR));
+        assertTrue(seen.contains(Technique.HIDDEN_PAIR));
+        assertTrue(seen.contains(Technique.X_WING));
+        assertTrue(seen.contains(Technique.XY_WING));
+    }
+
+    /**
+     * The allocation-free solve reports the same hardest technique and score as the full rating, and stops at its
+     * ceiling.
+     */
+    @Test(timeout = 60000)
+    public void solve_matchesRateAndRespectsCeiling() throws Exception {
+        LogicalSolver solver = new LogicalSolver();
+        int[] givens = new int[CandidateMasks.CELL_COUNT];
+
+        for (long seed = 0; seed < 100; seed++) {
+            SudokuBoard board = new SudokuBoard();
+            board.generateNewPuzzle(SudokuBoard.Difficulty.HARD, seed);
+            board.copyGivensTo(givens);
+
+            DifficultyRating rating = solver.rate(givens);
+            assertEquals(rating.isSolved(), solver.solve(givens, Technique.XY_WING));
+            assertEquals(rating.getHardestTechnique(), solver.getHardestTechnique());
+            assertEquals(rating.getScore(), solver.getScore());
+            assertFalse(solver.solve(givens, Technique.HIDDEN_SINGLE));
+        }
+    }
+
+    private static int[] parse(String grid) {
+        int[] cells = new int[CandidateMasks.CELL_COUNT];
+        for (int index = 0; index < cells.length; index++) {
+            cells[index] = grid.charAt(index) - '0';
+        }
+        return cells;
+    }
+}
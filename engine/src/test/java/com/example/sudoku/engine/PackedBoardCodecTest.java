@@ -0,0 +1,124 @@
+package com.example.sudoku.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Unit tests for the packed grid, notes and flag encodings.
+ */
+public class PackedBoardCodecTest {
+
+    private static final String PUZZLE =
+            "530070000600195000098000060800060003400803001700020006060000280000419005000080079";
+    private static final String SOLUTION =
+            "534678912672195348198342567859761423426853791713924856961537284287419635345286179";
+
+    /**
+     * A puzzle packs into 82 bytes and unpacks to the same givens and solution.
+     */
+    @Test
+    public void packPuzzle_roundTripsGivensAndSolution() {
+        byte[] packed = PackedBoardCodec.packPuzzle(parse(PUZZLE), parse(SOLUTION));
+        int[] givens = new int[CandidateMasks.CELL_COUNT];
+        int[] solution = new int[CandidateMasks.CELL_COUNT];
+
+        PackedBoardCodec.unpackPuzzle(packed, givens, solution);
+
+        assertEquals(41, PackedBoardCodec.GRID_BYTES);
+        assertEquals(82, packed.length);
+        assertArrayEquals(parse(PUZZLE), givens);
+        assertArrayEquals(parse(SOLUTION), solution);
+    }
+
+    /**
+     * A seeded puzzle keeps its seed, including the sign bit, and an unseeded one reports no seed.
+     */
+    @Test
+    public void packSeededPuzzle_roundTripsTheSeed() {
+        long seed = 0x8123_4567_89AB_CDEFL;
+        byte[] seeded = PackedBoardCodec.packSeededPuzzle(parse(PUZZLE), parse(SOLUTION), true, seed);
+        byte[] unseeded = PackedBoardCodec.packSeededPuzzle(parse(PUZZLE), parse(SOLUTION), false, seed);
+        int[] givens = new int[CandidateMasks.CELL_COUNT];
+        int[] solution = new int[CandidateMasks.CELL_COUNT];
+
+        assertEquals(91, seeded.length);
+        assertTrue(PackedBoardCodec.unpackSeededPuzzle(seeded, givens, solution));
+        assertEquals(seed, PackedBoardCodec.readPuzzleSeed(seeded));
+        assertArrayEquals(parse(PUZZLE), givens);
+        assertArrayEquals(parse(SOLUTION), solution);
+        assertFalse(PackedBoardCodec.unpackSeededPuzzle(unseeded, givens, solution));
+
+        unseeded[PackedBoardCodec.PUZZLE_BYTES] = 2;
+        try {
+            PackedBoardCodec.unpackSeededPuzzle(unseeded, givens, solution);
+            fail("Unknown presence bytes must be rejected.");
+        } catch (IllegalArgumentException expected) {
+            // Expected.
+        }
+    }
+
+    /**
+     * Every 9-bit note mask and every flag survives a round trip.
+     */
+    @Test
+    public void packNotesAndFlags_roundTripEveryCell() {
+        int[] noteMasks = new int[CandidateMasks.CELL_COUNT];
+        boolean[] flags = new boolean[CandidateMasks.CELL_COUNT];
+        for (int index = 0; index < noteMasks.length; index++) {
+            noteMasks[index] = (index * 37) & CandidateMasks.ALL_DIGITS;
+            flags[index] = index % 3 == 0;
+        }
+        noteMasks[80] = CandidateMasks.ALL_DIGITS;
+        int[] unpackedNotes = new int[CandidateMasks.CELL_COUNT];
+        boolean[] unpackedFlags = new boolean[CandidateMasks.CELL_COUNT];
+
+        byte[] packedNotes = PackedBoardCodec.packNotes(noteMasks);
+        byte[] packedFlags = PackedBoardCodec.packFlags(flags);
+        PackedBoardCodec.unpackNotes(packedNotes, unpackedNotes);
+        PackedBoardCodec.unpackFlags(packedFlags, unpackedFlags);
+
+        assertEquals(92, packedNotes.length);
+        assertEquals(11, packedFlags.length);
+        assertArrayEquals(noteMasks, unpackedNotes);
+        for (int index = 0; index < flags.length; index++) {
+            assertEquals(flags[index], unpackedFlags[index]);
+        }
+    }
+
+    /**
+     * Nibbles above 9 and truncated payloads are rejected rather than decoded.
+     */
+    @Test
+    public void unpack_rejectsCorruptedPayloads() {
+        byte[] packed = PackedBoardCodec.packPuzzle(parse(PUZZLE), parse(SOLUTION));
+        packed[3] = (byte) 0xF0;
+        int[] givens = new int[CandidateMasks.CELL_COUNT];
+        int[] solution = new int[CandidateMasks.CELL_COUNT];
+
+        try {
+            PackedBoardCodec.unpackPuzzle(packed, givens, solution);
+            fail("Out-of-range nibbles must be rejected.");
+        } catch (IllegalArgumentException expected) {
+            // Expected.
+        }
+        try {
+            PackedBoardCodec.unpackGrid(new byte[PackedBoardCodec.GRID_BYTES - 1], 0, givens);
+            fail("Truncated grids must be rejected.");
+        } catch (IllegalArgumentException expected) {
+            // Expected.
+        }
+    }
+
+    private static int[] parse(String grid) {
+        int[] cells = new int[CandidateMasks.CELL_COUNT];
+        for (int index = 0; index < cells.length; index++) {
+            cells[index] = grid.charAt(index) - '0';
+        }
+        return cells;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.sudoku.engine;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for the validity-preserving puzzle transformations.
+ */
+public class PuzzleTransformerTest {
+
+    private static final String PUZZLE =
+            "530070000600195000098000060800060003400803001700020006060000280000419005000080079";
+    private static final String SOLUTION =
+            "534678912672195348198342567859761423426853791713924856961537284287419635345286179";
+
+    /**
+     * Transformed puzzles keep their clue count and unique solution, and the transformed solution solves them.
+     */
+    @Test
+    public void transform_preservesCluesUniquenessAndSolution() throws Exception {
+        PuzzleTransformer transformer = new PuzzleTransformer(new Random(3));
+        SudokuSolver solver = SolverEngine.DEFAULT.create();
+        int clueCount = countClues(parse(PUZZLE));
+
+        for (int round = 0; round < 50; round++) {
+            int[] givens = parse(PUZZLE);
+            int[] solution = parse(SOLUTION);
+
+            transformer.transform(givens, solution);
+
+            assertEquals(clueCount, countClues(givens));
+            assertTrue(new CandidateMasks().load(solution));
+            for (int index = 0; index < CandidateMasks.CELL_COUNT; index++) {
+                assertTrue(givens[index] == 0 || givens[index] == solution[index]);
+            }
+            assertTrue(solver.isUnique(givens));
+            int[] solved = givens.clone();
+            assertTrue(solver.solve(solved));
+            assertArrayEquals(solution, solved);
+        }
+    }
+
+    /**
+     * Successive transformations yield distinct puzzles, while a reset transformer is the identity.
+     */
+    @Test
+    public void shuffle_producesDistinctVariantsAndResetRestoresIdentity() {
+        PuzzleTransformer transformer = new PuzzleTransformer(new Random(11));
+        Set<String> variants = new HashSet<>();
+        for (int round = 0; round < 200; round++) {
+            int[] givens = parse(PUZZLE);
+            transformer.shuffle();
+            transformer.apply(givens);
+            variants.add(Arrays.toString(givens));
+        }
+        assertEquals(200, variants.size());
+
+        int[] givens = parse(PUZZLE);
+        transformer.reset();
+        transformer.apply(givens);
+        assertArrayEquals(parse(PUZZLE), givens);
+    }
+
+    private static int countClues(int[] grid) {
+        int clues = 0;
+        for (int value : grid) {
+            if (value != 0) {
+                clues++;
+            }
+        }
+        return clues;
+    }
+
+    private static int[] parse(String grid) {
+        int[] cells = new int[CandidateMasks.CELL_COUNT];
+        for (int index = 0; index < cells.length; index++) {
+            cells[index] = grid.charAt(index) - '0';
+        }
+        return cells;
+    }
+}
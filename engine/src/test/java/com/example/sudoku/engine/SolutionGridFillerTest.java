@@ -0,0 +1,75 @@
+package com.example.sudoku.engine;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Unit tests for the allocation-free solution filler.
+ */
+public class SolutionGridFillerTest {
+
+    /**
+     * Every fill produces a complete grid that satisfies the rules.
+     */
+    @Test
+    public void fill_producesCompleteValidGrids() {
+        SolutionGridFiller filler = new SolutionGridFiller(new Random(7));
+        CandidateMasks masks = new CandidateMasks();
+        int[] values = new int[CandidateMasks.CELL_COUNT];
+
+        for (int round = 0; round < 20; round++) {
+            assertTrue(filler.fill(masks));
+            masks.copyValuesTo(values);
+            for (int value : values) {
+                assertTrue(value >= 1 && value <= 9);
+            }
+            assertTrue(new CandidateMasks().load(values));
+        }
+    }
+
+    /**
+     * The same seed yields the same grid.
+     */
+    @Test
+    public void fill_isReproducibleForASeed() {
+        CandidateMasks first = new CandidateMasks();
+        CandidateMasks second = new CandidateMasks();
+
+        new SolutionGridFiller(new Random(42)).fill(first);
+        new SolutionGridFiller(new Random(42)).fill(second);
+
+        for (int index = 0; index < CandidateMasks.CELL_COUNT; index++) {
+            assertEquals(first.get(index), second.get(index));
+        }
+    }
+
+    /**
+     * Once warmed up, filling a grid allocates nothing on the heap.
+     */
+    @Test
+    public void fill_doesNotAllocateOnceWarmedUp() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+        assumeTrue(allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled());
+        SolutionGridFiller filler = new SolutionGridFiller(new Random(3));
+        CandidateMasks masks = new CandidateMasks();
+        for (int round = 0; round < 2_000; round++) {
+            filler.fill(masks);
+        }
+
+        long before = allocations.getCurrentThreadAllocatedBytes();
+        for (int round = 0; round < 1_000; round++) {
+            filler.fill(masks);
+        }
+        long allocated = allocations.getCurrentThreadAllocatedBytes() - before;
+
+        assertEquals(0, allocated);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.sudoku.engine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Contract tests shared by every {@link SolverEngine}, so all engines stay interchangeable.
+ */
+public class SudokuSolverTest {
+
+    private static final String PUZZLE =
+            "530070000600195000098000060800060003400803001700020006060000280000419005000080079";
+    private static final String SOLUTION =
+            "534678912672195348198342567859761423426853791713924856961537284287419635345286179";
+
+    /**
+     * Every engine must fill a unique puzzle with its only solution.
+     */
+    @Test
+    public void solve_fillsTheUniqueSolution() throws Exception {
+        for (SolverEngine engine : SolverEngine.values()) {
+            int[] cells = parse(PUZZLE);
+
+            assertTrue(engine.name(), engine.create().solve(cells));
+            assertArrayEquals(parse(SOLUTION), cells);
+        }
+    }
+
+    /**
+     * Counting must agree across engines and stop at the requested limit.
+     */
+    @Test
+    public void countSolutions_agreesAcrossEnginesAndHonoursLimit() throws Exception {
+        int[] ambiguous = parse(PUZZLE);
+        ambiguous[0] = 0;
+        ambiguous[1] = 0;
+        ambiguous[4] = 0;
+        ambiguous[9] = 0;
+        ambiguous[13] = 0;
+
+        for (SolverEngine engine : SolverEngine.values()) {
+            SudokuSolver solver = engine.create();
+
+            assertTrue(engine.name(), solver.isUnique(parse(PUZZLE)));
+            assertEquals(engine.name(), 2, solver.countSolutions(new int[CandidateMasks.CELL_COUNT], 2));
+            assertEquals(engine.name(), 1, solver.countSolutions(ambiguous, 1));
+        }
+    }
+
+    /**
+     * Grids whose givens already break a rule have no solution and must be left untouched by {@code solve}.
+     */
+    @Test
+    public void conflictingGivens_haveNoSolution() throws Exception {
+        for (SolverEngine engine : SolverEngine.values()) {
+            SudokuSolver solver = engine.create();
+            int[] cells = parse(PUZZLE);
+            cells[2] = 5;
+            int[] before = cells.clone();
+
+            assertEquals(engine.name(), 0, solver.countSolutions(cells, 2));
+            assertFalse(engine.name(), solver.solve(cells));
+            assertArrayEquals(before, cells);
+        }
+    }
+
+    /**
+     * Most-constrained-cell branching with naked-single propagation must visit fewer nodes than row-major search.
+     */
+    @Test
+    public void statistics_showPropagatingSearchVisitsFewerNodesThanRowMajorSearch() throws Exception {
+        SudokuSolver rowMajor = SolverEngine.NAIVE.create();
+        SudokuSolver propagating = SolverEngine.BITMASK.create();
+
+        rowMajor.countSolutions(parse(PUZZLE), 2);
+        propagating.countSolutions(parse(PUZZLE), 2);
+
+        assertEquals(1, rowMajor.getStatistics().getSearches());
+        assertEquals(1, propagating.getStatistics().getSearches());
+        assertTrue(propagating.getStatistics().getForcedPlacements() > 0);
+        assertTrue(propagating.getStatistics().getNodes() < rowMajor.getStatistics().getNodes());
+
+        propagating.getStatistics().reset();
+        assertEquals(0, propagating.getStatistics().getNodes());
+    }
+
+    private static int[] parse(String grid) {
+        int[] cells = new int[CandidateMasks.CELL_COUNT];
+        for (int index = 0; index < cells.length; index++) {
+            cells[index] = grid.charAt(index) - '0';
+        }
+        return cells;
+    }
+}